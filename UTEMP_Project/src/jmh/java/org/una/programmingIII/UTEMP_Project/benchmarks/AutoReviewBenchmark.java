@@ -0,0 +1,81 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.GrokReviewEngine;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewDocument;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewEngineRegistry;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewResult;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternRegistryImplementation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The grading step of an automatic review: the submitted file is resolved to its engine and scanned with the
+ * built-in grok patterns. The service around it only loads the submission and stores the grade.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutoReviewBenchmark {
+
+    @Param({"500", "5000"})
+    public int lines;
+
+    private GrokPatternRegistryImplementation patternRegistry;
+    private ReviewEngineRegistry engineRegistry;
+    private ReviewDocument document;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        patternRegistry = new GrokPatternRegistryImplementation("", false);
+        patternRegistry.initialize();
+        GrokReviewEngine engine = new GrokReviewEngine(Runnable::run, null, patternRegistry, 10 * 1024 * 1024);
+        engineRegistry = new ReviewEngineRegistry(List.of(engine));
+
+        file = Files.createTempFile("utemp-review-", ".java");
+        Files.writeString(file, submission(lines), StandardCharsets.UTF_8);
+        document = ReviewDocument.builder()
+                .fileId(1L)
+                .fileName("Submission.java")
+                .fileType("text/x-java-source")
+                .path(file)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        patternRegistry.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ReviewResult review() {
+        return engineRegistry.review(document);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Codigo con los problemas que las reglas buscan repartidos por el archivo
+    private static String submission(int lines) {
+        StringBuilder source = new StringBuilder("public class Submission {\n");
+        for (int i = 1; i < lines - 1; i++) {
+            switch (i % 25) {
+                case 0 -> source.append("    // TODO handle the empty case\n");
+                case 7 -> source.append("        System.out.println(\"value \" + value").append(i).append(");\n");
+                case 13 -> source.append("    int value").append(i).append(" = compute(").append(i).append(");   \n");
+                case 19 -> source.append("        String message = \"").append("x".repeat(130)).append("\";\n");
+                default -> source.append("    int value").append(i).append(" = compute(").append(i).append(");\n");
+            }
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,81 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark and exits with status 1 when any benchmark present in
+ * both got slower than the threshold (percent). Throughput modes regress when the score drops, time modes when it
+ * grows. Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold]}.
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %12.3f %-8s (new)%n", entry.getKey(), after.score, after.unit);
+                continue;
+            }
+            double change = (after.score - before.score) / before.score * 100.0;
+            // En modo throughput un puntaje menor es peor
+            double slowdown = after.throughput ? -change : change;
+            boolean regressed = slowdown > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %12.3f -> %12.3f %-8s %+7.1f%%%s%n", entry.getKey(), before.score, after.score,
+                    after.unit, change, regressed ? "  REGRESSION" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-90s (missing from current run)%n", missing);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf("No benchmark regressed by more than %.1f%%%n", threshold);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            String mode = run.path("mode").asText();
+            key.append(" [").append(mode).append(']');
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key.toString(), new Result(metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText(), "thrpt".equals(mode)));
+        }
+        return results;
+    }
+
+    private record Result(double score, String unit, boolean throughput) {
+    }
+}
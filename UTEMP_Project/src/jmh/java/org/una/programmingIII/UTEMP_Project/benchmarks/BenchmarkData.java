@@ -0,0 +1,86 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.una.programmingIII.UTEMP_Project.models.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Entity graphs with the shape the services map on every request: a course with its teacher, its place in the
+ * hierarchy, assignments and enrollments, and a teacher with the courses they teach. Back references are left
+ * empty, as they are when the lazy associations have not been loaded.
+ */
+final class BenchmarkData {
+
+    static final int ASSIGNMENTS_PER_COURSE = 10;
+    static final int ENROLLMENTS_PER_COURSE = 30;
+    static final int COURSES_PER_TEACHER = 5;
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id, UserRole role) {
+        LocalDateTime now = LocalDateTime.of(2024, 8, 1, 8, 0);
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@una.ac.cr")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4u5ZsXxY5KXh5b0Q4V1G6y2")
+                .identificationNumber(String.valueOf(100000000L + id))
+                .role(role)
+                .state(UserState.ACTIVE)
+                .permissions(role == UserRole.TEACHER
+                        ? EnumSet.of(UserPermission.MANAGE_ASSIGNMENTS, UserPermission.MANAGE_SUBMISSIONS)
+                        : EnumSet.noneOf(UserPermission.class))
+                .createdAt(now)
+                .lastUpdate(now)
+                .build();
+    }
+
+    static Course course(long id, User teacher) {
+        LocalDateTime now = LocalDateTime.of(2024, 8, 1, 8, 0);
+        University university = University.builder().id(1L).name("Universidad Nacional").location("Heredia")
+                .createdAt(now).lastUpdate(now).build();
+        Faculty faculty = Faculty.builder().id(1L).name("Ciencias Exactas").university(university)
+                .createdAt(now).lastUpdate(now).build();
+        Department department = Department.builder().id(1L).name("Informatica").faculty(faculty)
+                .createdAt(now).lastUpdate(now).build();
+
+        List<Assignment> assignments = new ArrayList<>(ASSIGNMENTS_PER_COURSE);
+        for (int i = 0; i < ASSIGNMENTS_PER_COURSE; i++) {
+            assignments.add(Assignment.builder().id(id * 100 + i).title("Assignment " + i)
+                    .description("Implement part " + i + " of the project").deadline(Instant.parse("2024-11-30T23:59:00Z"))
+                    .state(AssignmentState.PENDING).course(null).createdAt(now).lastUpdate(now).build());
+        }
+        List<Enrollment> enrollments = new ArrayList<>(ENROLLMENTS_PER_COURSE);
+        for (int i = 0; i < ENROLLMENTS_PER_COURSE; i++) {
+            enrollments.add(Enrollment.builder().id(id * 1000 + i).student(user(10_000 + i, UserRole.STUDENT))
+                    .course(null).state(EnrollmentState.ENROLLED).createdAt(now).lastUpdate(now).build());
+        }
+        return Course.builder()
+                .id(id)
+                .name("Programming III")
+                .description("Object oriented design and web services")
+                .teacher(teacher)
+                .department(department)
+                .assignments(assignments)
+                .enrollments(enrollments)
+                .state(CourseState.ACTIVE)
+                .createdAt(now)
+                .lastUpdate(now)
+                .build();
+    }
+
+    static User teacherWithCourses(long id) {
+        User teacher = user(id, UserRole.TEACHER);
+        List<Course> courses = new ArrayList<>(COURSES_PER_TEACHER);
+        for (int i = 0; i < COURSES_PER_TEACHER; i++) {
+            courses.add(course(id * 10 + i, null));
+        }
+        teacher.setCoursesTeaching(courses);
+        return teacher;
+    }
+}
@@ -0,0 +1,31 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML body built for every notification e-mail; batch grading builds one per notified student and teacher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailNotificationObserverBenchmark {
+
+    private EmailNotificationObserver observer;
+
+    @Setup
+    public void setUp() {
+        observer = new EmailNotificationObserver();
+    }
+
+    @Benchmark
+    public String createHtmlMessage() {
+        return observer.createHtmlMessage("SUBMISSION_GRADED",
+                "The grade of the assigment 'Assignment 3' was 8.5; The grade of the assigment 'Assignment 4' was 9.0");
+    }
+}
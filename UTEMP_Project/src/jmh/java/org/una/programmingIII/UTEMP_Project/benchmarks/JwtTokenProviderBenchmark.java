@@ -0,0 +1,50 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.security.utils.JwtKeyRing;
+import org.una.programmingIII.UTEMP_Project.security.utils.JwtTokenProvider;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and token parsing on every authenticated request (JwtRequestFilter).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing("", "", 300);
+        tokenProvider = new JwtTokenProvider(null, keyRing, 900_000, 604_800_000);
+        user = BenchmarkData.user(1, UserRole.TEACHER);
+        accessToken = tokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateToken(user, false);
+    }
+
+    @Benchmark
+    public Optional<CustomUserDetails> parseAccessToken() {
+        return tokenProvider.getUserDetailsFromToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken, user.getIdentificationNumber());
+    }
+}
@@ -0,0 +1,73 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.una.programmingIII.UTEMP_Project.dtos.CourseDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
+import org.una.programmingIII.UTEMP_Project.models.Course;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperImplementation;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.MapperConfig;
+import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
+import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping with the application's ModelMapper configuration, for single entities and for the pages
+ * returned by the listing endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    private GenericMapper<User, UserDTO> userMapper;
+    private GenericMapper<Course, CourseDTO> courseMapper;
+    private User teacher;
+    private Course course;
+    private Page<Course> coursePage;
+
+    @Setup
+    public void setUp() {
+        ModelMapper modelMapper = new MapperConfig().modelMapper();
+        userMapper = new GenericMapperImplementation<>(User.class, UserDTO.class, modelMapper);
+        courseMapper = new GenericMapperImplementation<>(Course.class, CourseDTO.class, modelMapper);
+
+        teacher = BenchmarkData.teacherWithCourses(1);
+        course = BenchmarkData.course(1, BenchmarkData.user(2, UserRole.TEACHER));
+        List<Course> courses = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            courses.add(BenchmarkData.course(100 + i, BenchmarkData.user(3, UserRole.TEACHER)));
+        }
+        coursePage = new PageImpl<>(courses, PageRequest.of(0, pageSize), 500);
+    }
+
+    @Benchmark
+    public UserDTO userToDTO() {
+        return userMapper.convertToDTO(teacher);
+    }
+
+    @Benchmark
+    public CourseDTO courseToDTO() {
+        return courseMapper.convertToDTO(course);
+    }
+
+    @Benchmark
+    public PageDTO<CourseDTO> coursePageToDTO() {
+        return PageConverter.convertPageToDTO(coursePage, courseMapper::convertToDTO);
+    }
+}
@@ -0,0 +1,42 @@
+package org.una.programmingIII.UTEMP_Project.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.transformers.converters.UserPermissionConverter;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the permission column, run for every user row Hibernate reads or writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPermissionConverterBenchmark {
+
+    private final UserPermissionConverter converter = new UserPermissionConverter();
+    private Set<UserPermission> permissions;
+    private Long mask;
+
+    @Setup
+    public void setUp() {
+        permissions = EnumSet.of(UserPermission.MANAGE_COURSES, UserPermission.MANAGE_ASSIGNMENTS,
+                UserPermission.MANAGE_SUBMISSIONS, UserPermission.MANAGE_ENROLLMENTS);
+        mask = converter.convertToDatabaseColumn(permissions);
+    }
+
+    @Benchmark
+    public Long toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(permissions);
+    }
+
+    @Benchmark
+    public Set<UserPermission> toEntityAttribute() {
+        return converter.convertToEntityAttribute(mask);
+    }
+}
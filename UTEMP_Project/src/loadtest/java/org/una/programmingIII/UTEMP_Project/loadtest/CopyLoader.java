@@ -0,0 +1,82 @@
+package org.una.programmingIII.UTEMP_Project.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Streams rows into one table with {@code COPY ... FROM STDIN (FORMAT csv)}. Rows are buffered as CSV text and sent
+ * in blocks, so loading millions of rows needs neither one statement per row nor the whole table in memory.
+ */
+final class CopyLoader implements AutoCloseable {
+
+    private static final int FLUSH_BYTES = 1 << 20;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+    private boolean firstColumn = true;
+
+    CopyLoader(Connection connection, String table, String... columns) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+    }
+
+    CopyLoader value(Object value) {
+        if (!firstColumn) {
+            buffer.append(',');
+        }
+        firstColumn = false;
+        if (value == null) {
+            return this;
+        }
+        if (value instanceof CharSequence || value instanceof Enum<?>) {
+            buffer.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+        } else if (value instanceof LocalDateTime timestamp) {
+            buffer.append(TIMESTAMP.format(timestamp));
+        } else if (value instanceof Instant instant) {
+            buffer.append(TIMESTAMP.format(LocalDateTime.ofInstant(instant, ZoneOffset.UTC))).append("+00");
+        } else {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstColumn = true;
+        if (buffer.length() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
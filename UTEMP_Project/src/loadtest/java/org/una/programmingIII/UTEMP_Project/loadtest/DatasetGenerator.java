@@ -0,0 +1,266 @@
+package org.una.programmingIII.UTEMP_Project.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Loads the {@link SyntheticDataset} into a PostgreSQL database already migrated by Flyway (start the application
+ * once against it). Every table is filled with {@code COPY} inside one transaction, the id sequences are moved past
+ * the generated ids and the tables analyzed, so the application can write next to the generated rows. The files
+ * referenced by {@code file_metadata} are a small set of samples written under {@code dataset.storage}.
+ * <p>
+ * A database with users is left untouched unless {@code -Ddataset.reset=true}, which truncates every table first.
+ * Connection settings: {@code dataset.jdbc-url}, {@code dataset.jdbc-user} and {@code dataset.jdbc-password}
+ * (defaulting to the {@code POSTGRES_*} environment variables used by the application).
+ */
+public final class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final List<String> TABLES = List.of("users", "universities", "faculties", "departments", "courses",
+            "assignments", "enrollments", "submissions", "grades", "notifications", "file_metadata");
+
+    private final SyntheticDataset dataset;
+    private final Path storageDirectory;
+
+    public DatasetGenerator(SyntheticDataset dataset, Path storageDirectory) {
+        this.dataset = dataset;
+        this.storageDirectory = storageDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String database = System.getenv().getOrDefault("POSTGRES_DB", "utemp");
+        String url = System.getProperty("dataset.jdbc-url", "jdbc:postgresql://localhost:5432/" + database);
+        String user = System.getProperty("dataset.jdbc-user", System.getenv().getOrDefault("POSTGRES_USER", "postgres"));
+        String password = System.getProperty("dataset.jdbc-password", System.getenv().getOrDefault("POSTGRES_PASSWORD", ""));
+        boolean reset = Boolean.getBoolean("dataset.reset");
+        Path storage = Path.of(System.getProperty("dataset.storage", "users/files"));
+
+        SyntheticDataset dataset = SyntheticDataset.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            new DatasetGenerator(dataset, storage).load(connection, reset);
+        }
+    }
+
+    public void load(Connection connection, boolean reset) throws SQLException, IOException {
+        logger.info("Generating dataset: {}", dataset);
+        long start = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            prepare(connection, reset);
+            loadHierarchy(connection);
+            loadUsers(connection);
+            loadCourses(connection);
+            loadSubmissions(connection);
+            loadNotifications(connection);
+            advanceSequences(connection);
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        writeSampleFiles();
+        logger.info("Dataset loaded in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void prepare(Connection connection, boolean reset) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (reset) {
+                statement.execute("TRUNCATE " + String.join(", ", TABLES) + " CASCADE");
+                return;
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM users)")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    throw new IllegalStateException("The database already has users; run with -Ddataset.reset=true to replace its data");
+                }
+            }
+        }
+    }
+
+    private void loadHierarchy(Connection connection) throws SQLException {
+        LocalDateTime now = dataset.createdAt();
+        try (CopyLoader copy = new CopyLoader(connection, "universities", "id", "name", "location", "created_at", "last_update")) {
+            for (int u = 0; u < dataset.universityCount(); u++) {
+                copy.value(u + 1L).value("Universidad " + (u + 1)).value("Campus " + (u + 1)).value(now).value(now).endRow();
+            }
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "faculties", "id", "name", "university_id", "created_at", "last_update")) {
+            for (int f = 0; f < dataset.facultyCount(); f++) {
+                copy.value(f + 1L).value("Facultad " + (f + 1)).value(dataset.facultyUniversityId(f)).value(now).value(now).endRow();
+            }
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "departments", "id", "name", "faculty_id", "created_at", "last_update")) {
+            for (int d = 0; d < dataset.departmentCount(); d++) {
+                copy.value(d + 1L).value("Departamento " + (d + 1)).value(dataset.departmentFacultyId(d)).value(now).value(now).endRow();
+            }
+        }
+    }
+
+    private void loadUsers(Connection connection) throws SQLException {
+        LocalDateTime now = dataset.createdAt();
+        // Un solo hash para todos: calcular uno por usuario tardaria mas que la carga completa
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(dataset.password());
+        try (CopyLoader copy = new CopyLoader(connection, "users", "id", "name", "email", "password",
+                "identification_number", "state", "role", "permission_mask", "created_at", "last_update")) {
+            for (int t = 0; t < dataset.teacherCount(); t++) {
+                copy.value(dataset.teacherId(t)).value("Teacher " + (t + 1)).value("teacher" + (t + 1) + "@utemp.test")
+                        .value(passwordHash).value(dataset.teacherIdentification(t)).value("ACTIVE").value("TEACHER")
+                        .value(dataset.teacherPermissionMask()).value(now).value(now).endRow();
+            }
+            for (int s = 0; s < dataset.studentCount(); s++) {
+                copy.value(dataset.studentId(s)).value("Student " + (s + 1)).value("student" + (s + 1) + "@utemp.test")
+                        .value(passwordHash).value(dataset.studentIdentification(s)).value("ACTIVE").value("STUDENT")
+                        .value(dataset.studentPermissionMask()).value(now).value(now).endRow();
+            }
+        }
+    }
+
+    private void loadCourses(Connection connection) throws SQLException {
+        LocalDateTime now = dataset.createdAt();
+        try (CopyLoader copy = new CopyLoader(connection, "courses", "id", "name", "description", "teacher_id",
+                "department_id", "state", "created_at", "last_update")) {
+            for (int c = 0; c < dataset.courseCount(); c++) {
+                copy.value(c + 1L).value("Curso " + (c + 1)).value("Curso sintetico " + (c + 1) + " para pruebas de carga")
+                        .value(dataset.courseTeacherId(c)).value(dataset.courseDepartmentId(c)).value("ACTIVE")
+                        .value(now).value(now).endRow();
+            }
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "assignments", "id", "title", "description", "deadline",
+                "course_id", "state", "created_at", "last_update")) {
+            for (int c = 0; c < dataset.courseCount(); c++) {
+                for (int a = 0; a < dataset.assignmentsPerCourse(); a++) {
+                    copy.value(dataset.assignmentId(c, a)).value("Tarea " + (a + 1)).value("Tarea " + (a + 1) + " del curso " + (c + 1))
+                            .value(dataset.assignmentDeadline(a)).value(c + 1L)
+                            .value(a == dataset.currentAssignment() ? "ONGOING" : "COMPLETED").value(now).value(now).endRow();
+                }
+            }
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "enrollments", "id", "course_id", "student_id", "state",
+                "created_at", "last_update")) {
+            for (int s = 0; s < dataset.studentCount(); s++) {
+                for (int e = 0; e < dataset.enrollmentsPerStudent(); e++) {
+                    copy.value(dataset.enrollmentId(s, e)).value(dataset.enrolledCourse(s, e) + 1L).value(dataset.studentId(s))
+                            .value("ENROLLED").value(now).value(now).endRow();
+                }
+            }
+        }
+    }
+
+    private void loadSubmissions(Connection connection) throws SQLException {
+        // Una conexion admite un solo COPY a la vez: se recorren las entregas una vez por tabla
+        try (CopyLoader copy = new CopyLoader(connection, "submissions", "id", "assignment_id", "student_id",
+                "file_name", "grade", "comments", "state", "created_at", "last_update")) {
+            forEachSubmission((slot, student, assignmentId, submittedAt) -> {
+                boolean graded = dataset.isGraded(slot);
+                copy.value(dataset.submissionId(slot)).value(assignmentId).value(dataset.studentId(student))
+                        .value(dataset.sampleFileName(slot)).value(graded ? dataset.score(slot) : null).value(null)
+                        .value(graded ? "GRADED" : "SUBMITTED").value(submittedAt).value(submittedAt).endRow();
+            });
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "grades", "id", "submission_id", "grade", "comments",
+                "reviewed_by_ai", "state", "created_at", "last_update")) {
+            forEachSubmission((slot, student, assignmentId, submittedAt) -> {
+                if (dataset.isGraded(slot)) {
+                    long id = dataset.submissionId(slot);
+                    copy.value(id).value(id).value(dataset.score(slot)).value("Revision automatica")
+                            .value(true).value("FINALIZED").value(submittedAt).value(submittedAt).endRow();
+                }
+            });
+        }
+        try (CopyLoader copy = new CopyLoader(connection, "file_metadata", "id", "assignment_id", "student_id",
+                "file_name", "file_size", "file_type", "storage_path", "created_at", "last_update")) {
+            forEachSubmission((slot, student, assignmentId, submittedAt) -> {
+                long id = dataset.submissionId(slot);
+                String fileName = dataset.sampleFileName(slot);
+                copy.value(id).value(id).value(dataset.studentId(student)).value(fileName).value(dataset.fileSize())
+                        .value("text/x-java-source").value(samplePath(fileName).toString())
+                        .value(submittedAt).value(submittedAt).endRow();
+            });
+        }
+    }
+
+    private void forEachSubmission(SubmissionRow row) throws SQLException {
+        for (int s = 0; s < dataset.studentCount(); s++) {
+            for (int e = 0; e < dataset.enrollmentsPerStudent(); e++) {
+                int course = dataset.enrolledCourse(s, e);
+                for (int a = 0; a < dataset.assignmentsPerCourse(); a++) {
+                    long slot = dataset.submissionSlot(s, e, a);
+                    if (dataset.hasSubmission(slot)) {
+                        LocalDateTime submittedAt = dataset.toLocal(dataset.assignmentDeadline(a)).minusHours(slot % 72);
+                        row.accept(slot, s, dataset.assignmentId(course, a), submittedAt);
+                    }
+                }
+            }
+        }
+    }
+
+    private void loadNotifications(Connection connection) throws SQLException {
+        LocalDateTime now = dataset.createdAt();
+        try (CopyLoader copy = new CopyLoader(connection, "notifications", "id", "user_id", "message", "status",
+                "created_at", "last_update")) {
+            for (long u = 0; u < dataset.userCount(); u++) {
+                for (int n = 0; n < dataset.notificationsPerUser(); n++) {
+                    LocalDateTime createdAt = now.plusDays(n);
+                    copy.value(dataset.notificationId(u, n)).value(u + 1).value("Notificacion " + (n + 1))
+                            .value(dataset.isUnread(u, n) ? "UNREAD" : "READ").value(createdAt).value(createdAt).endRow();
+                }
+            }
+        }
+    }
+
+    private void advanceSequences(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                statement.execute("SELECT setval('" + table + "_seq', COALESCE((SELECT MAX(id) FROM " + table + "), 0) + 1, false)");
+            }
+        }
+    }
+
+    private void writeSampleFiles() throws IOException {
+        Files.createDirectories(storageDirectory.resolve(SyntheticDataset.STORAGE_SUBDIRECTORY));
+        for (int i = 0; i < SyntheticDataset.SAMPLE_FILES; i++) {
+            String fileName = "sample-" + i + ".java";
+            Files.writeString(samplePath(fileName), sampleSource(i), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path samplePath(String fileName) {
+        return storageDirectory.resolve(SyntheticDataset.STORAGE_SUBDIRECTORY).resolve(fileName);
+    }
+
+    private String sampleSource(int sample) {
+        StringBuilder source = new StringBuilder("public class Sample" + sample + " {\n");
+        for (int line = 0; source.length() < dataset.fileSize() - 2; line++) {
+            source.append("    int value").append(line).append(" = ").append(sample * 31 + line).append(";\n");
+        }
+        source.setLength(Math.min(source.length(), dataset.fileSize() - 2));
+        return source.append("}\n").toString();
+    }
+
+    @FunctionalInterface
+    private interface SubmissionRow {
+        void accept(long slot, int student, long assignmentId, LocalDateTime submittedAt) throws SQLException;
+    }
+}
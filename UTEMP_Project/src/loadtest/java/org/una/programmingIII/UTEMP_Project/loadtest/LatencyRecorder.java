@@ -0,0 +1,100 @@
+package org.una.programmingIII.UTEMP_Project.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count per operation, recorded in microseconds with three significant digits, so the
+ * reported percentiles come from every sample instead of an average of averages.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0, 99.9};
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+
+    void record(String operation, long elapsedNanos, int status) {
+        Operation target = operations.computeIfAbsent(operation, name -> new Operation());
+        target.histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, elapsedNanos / 1000)));
+        if (status < 200 || status >= 400) {
+            target.errors.computeIfAbsent(status, code -> new LongAdder()).increment();
+        }
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        out.printf("%-28s %9s %8s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, Operation> entry : new TreeMap<>(operations).entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            out.printf("%-28s %9d %8d %9.1f", entry.getKey(), histogram.getTotalCount(), entry.getValue().errorCount(),
+                    histogram.getTotalCount() / Math.max(1.0, elapsed.toMillis() / 1000.0));
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.1f", histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            out.printf(" %9.1f%n", histogram.getMaxValue() / 1000.0);
+            if (!entry.getValue().errors.isEmpty()) {
+                out.printf("%-28s errors by status: %s%n", "", entry.getValue().errorsByStatus());
+            }
+        }
+    }
+
+    void writeJson(Path file, Duration elapsed, Map<String, Object> settings) throws IOException {
+        Map<String, Object> operationsReport = new LinkedHashMap<>();
+        for (Map.Entry<String, Operation> entry : new TreeMap<>(operations).entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", histogram.getTotalCount());
+            report.put("errors", entry.getValue().errorsByStatus());
+            report.put("throughputPerSecond", histogram.getTotalCount() / Math.max(1.0, elapsed.toMillis() / 1000.0));
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + percentile, histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            percentiles.put("max", histogram.getMaxValue() / 1000.0);
+            report.put("latencyMillis", percentiles);
+            operationsReport.put(entry.getKey(), report);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        document.put("operations", operationsReport);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static final class Operation {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final ConcurrentMap<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+        private long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        private Map<Integer, Long> errorsByStatus() {
+            Map<Integer, Long> byStatus = new TreeMap<>();
+            errors.forEach((status, count) -> byStatus.put(status, count.sum()));
+            return byStatus;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package org.una.programmingIII.UTEMP_Project.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays deadline-day traffic against a running instance loaded with the same {@link SyntheticDataset}. Each
+ * virtual user logs in as a seeded student or teacher, runs a session of actions with a think time between them
+ * and logs in again as someone else. Students browse their courses, upload a file to the submission of the
+ * assignment due today, download earlier files and read notifications; teachers list the submissions of their
+ * current assignment, grade them in a batch and open the gradebook. Users are started evenly over the ramp-up.
+ * <p>
+ * Settings ({@code loadtest.*} system properties): {@code base-url}, {@code users}, {@code duration-seconds},
+ * {@code ramp-up-seconds}, {@code think-time-ms}, {@code session-actions}, {@code teacher-share},
+ * {@code chunk-size} and {@code report}. The virtual users are closed-loop, so once the server saturates the
+ * offered load drops with it; compare runs at the same user count. Login throttling answers 429 when many virtual
+ * users share one address: raise {@code security.login.ip.*} on the instance under test.
+ */
+public final class LoadTestDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDriver.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long VIRTUAL_USER_STREAM = 16;
+
+    private final SyntheticDataset dataset;
+    private final String baseUrl;
+    private final int users;
+    private final Duration duration;
+    private final Duration rampUp;
+    private final long thinkTimeMillis;
+    private final int sessionActions;
+    private final double teacherShare;
+    private final int chunkSize;
+    private final HttpClient httpClient;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public LoadTestDriver(SyntheticDataset dataset, String baseUrl, int users, Duration duration, Duration rampUp,
+                          long thinkTimeMillis, int sessionActions, double teacherShare, int chunkSize) {
+        this.dataset = dataset;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.users = users;
+        this.duration = duration;
+        this.rampUp = rampUp;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.sessionActions = sessionActions;
+        this.teacherShare = teacherShare;
+        this.chunkSize = chunkSize;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestDriver driver = new LoadTestDriver(
+                SyntheticDataset.fromSystemProperties(),
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                Integer.getInteger("loadtest.users", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 300L)),
+                Duration.ofSeconds(Long.getLong("loadtest.ramp-up-seconds", 60L)),
+                Long.getLong("loadtest.think-time-ms", 500L),
+                Integer.getInteger("loadtest.session-actions", 10),
+                Double.parseDouble(System.getProperty("loadtest.teacher-share", "0.05")),
+                Integer.getInteger("loadtest.chunk-size", 512));
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path report = Path.of(System.getProperty("loadtest.report", "benchmarks/results/loadtest-" + timestamp + ".json"));
+        driver.run(report);
+    }
+
+    public void run(Path report) throws InterruptedException, IOException {
+        logger.info("Load test: {} users for {} s (ramp-up {} s) against {}; dataset {}",
+                users, duration.toSeconds(), rampUp.toSeconds(), baseUrl, dataset);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int user = i;
+                long startDelay = rampUp.toNanos() * i / Math.max(1, users);
+                virtualUsers.submit(() -> runVirtualUser(user, start + startDelay, end));
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        recorder.print(System.out, elapsed);
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", baseUrl);
+        settings.put("users", users);
+        settings.put("durationSeconds", duration.toSeconds());
+        settings.put("rampUpSeconds", rampUp.toSeconds());
+        settings.put("thinkTimeMillis", thinkTimeMillis);
+        settings.put("teacherShare", teacherShare);
+        settings.put("dataset", dataset.toString());
+        recorder.writeJson(report, elapsed, settings);
+        logger.info("Load test report written to {}", report.toAbsolutePath());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void runVirtualUser(int virtualUser, long startAt, long endAt) {
+        SplittableRandom random = new SplittableRandom(dataset.hash(VIRTUAL_USER_STREAM, virtualUser));
+        try {
+            sleepUntil(startAt);
+            while (System.nanoTime() < endAt) {
+                if (random.nextDouble() < teacherShare) {
+                    teacherSession(random.nextInt(dataset.teacherCount()), random, endAt);
+                } else {
+                    studentSession(random.nextInt(dataset.studentCount()), random, endAt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Virtual user {} stopped: {}", virtualUser, e.getMessage(), e);
+        }
+    }
+
+    private void studentSession(int student, SplittableRandom random, long endAt) throws InterruptedException {
+        String token = login(dataset.studentIdentification(student));
+        if (token == null) {
+            return;
+        }
+        long userId = dataset.studentId(student);
+        for (int action = 0; action < sessionActions && System.nanoTime() < endAt; action++) {
+            think(random);
+            int enrollment = random.nextInt(dataset.enrollmentsPerStudent());
+            int course = dataset.enrolledCourse(student, enrollment);
+            double choice = random.nextDouble();
+            if (choice < 0.35) {
+                send("courses.enrollments", token, get("/utemp/enrollments/student/" + userId + "?page=0&size=10"));
+                send("courses.department", token, get("/utemp/courses/department/" + dataset.courseDepartmentId(course) + "?page=0&size=20"));
+                send("courses.assignments", token, get("/utemp/assignments/course/" + (course + 1) + "?page=0&size=10"));
+            } else if (choice < 0.60) {
+                long slot = dataset.submissionSlot(student, enrollment, dataset.currentAssignment());
+                if (dataset.hasSubmission(slot)) {
+                    upload(token, userId, dataset.submissionId(slot), random);
+                }
+            } else if (choice < 0.80) {
+                long slot = dataset.submissionSlot(student, enrollment, random.nextInt(dataset.assignmentsPerCourse()));
+                if (dataset.hasSubmission(slot)) {
+                    download(token, dataset.submissionId(slot));
+                }
+            } else {
+                send("notifications.list", token, get("/utemp/notifications/user/" + userId + "?page=0&size=20"));
+            }
+        }
+    }
+
+    private void teacherSession(int teacher, SplittableRandom random, long endAt) throws InterruptedException {
+        String token = login(dataset.teacherIdentification(teacher));
+        if (token == null) {
+            return;
+        }
+        long userId = dataset.teacherId(teacher);
+        // Los cursos se reparten entre profesores por turnos: el curso c es del profesor c % profesores
+        int courses = teacher < dataset.courseCount()
+                ? (dataset.courseCount() - 1 - teacher) / dataset.teacherCount() + 1
+                : 0;
+        for (int action = 0; action < sessionActions && System.nanoTime() < endAt; action++) {
+            think(random);
+            if (courses == 0 || random.nextDouble() < 0.2) {
+                send("notifications.list", token, get("/utemp/notifications/user/" + userId + "?page=0&size=20"));
+                continue;
+            }
+            int course = teacher + random.nextInt(courses) * dataset.teacherCount();
+            send("courses.teacher", token, get("/utemp/courses/teacher/" + userId + "?page=0&size=10"));
+            JsonNode page = send("grading.submissions", token, get("/utemp/submissions/assignment/"
+                    + dataset.assignmentId(course, dataset.currentAssignment()) + "?page=0&size=20"));
+            List<Map<String, Object>> califications = new ArrayList<>();
+            if (page != null) {
+                for (JsonNode submission : page.path("content")) {
+                    Map<String, Object> calification = new LinkedHashMap<>();
+                    calification.put("submissionId", submission.path("id").asLong());
+                    calification.put("gradeValue", Math.round((4 + random.nextDouble() * 6) * 10) / 10.0);
+                    calification.put("comments", "Revisado en prueba de carga");
+                    califications.add(calification);
+                }
+            }
+            if (!califications.isEmpty()) {
+                send("grading.batch", token, post("/utemp/grades/batch", califications));
+            }
+            send("grading.gradebook", token, get("/utemp/grades/courses/" + (course + 1) + "/gradebook"));
+        }
+    }
+
+    private String login(String identificationNumber) {
+        Map<String, Object> credentials = Map.of("identificationNumber", identificationNumber, "password", dataset.password());
+        JsonNode response = send("auth.login", null, post("/utemp/auth/login", credentials));
+        return response == null ? null : response.path("data").path("token").asText(null);
+    }
+
+    private void upload(String token, long userId, long submissionId, SplittableRandom random) {
+        long start = System.nanoTime();
+        int size = dataset.fileSize();
+        String fileName = "entrega-" + Long.toHexString(random.nextLong() & Long.MAX_VALUE) + ".java";
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("fileName", fileName);
+        metadata.put("fileSize", size);
+        metadata.put("fileType", "text/x-java-source");
+        metadata.put("student", Map.of("id", userId));
+        JsonNode created = send("submission.upload.metadata", token,
+                post("/utemp/submissions/" + submissionId + "/file-metadata", metadata));
+        if (created == null) {
+            return;
+        }
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        int totalChunks = (size + chunkSize - 1) / chunkSize;
+        for (int chunk = 0; chunk < totalChunks; chunk++) {
+            int from = chunk * chunkSize;
+            byte[] bytes = Arrays.copyOfRange(content, from, Math.min(size, from + chunkSize));
+            Map<String, Object> body = new LinkedHashMap<>(metadata);
+            body.put("id", created.path("id").asLong());
+            body.put("fileChunk", bytes);
+            body.put("chunkIndex", chunk);
+            body.put("totalChunks", totalChunks);
+            if (send("submission.upload.chunk", token, post("/utemp/files/receive-chunk", body)) == null) {
+                return;
+            }
+        }
+        recorder.record("submission.upload", System.nanoTime() - start, 200);
+    }
+
+    private void download(String token, long fileId) {
+        HttpRequest request = authorized(get("/utemp/files/download/" + fileId), token).build();
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            status = response.statusCode();
+        } catch (IOException e) {
+            logger.debug("submission.download failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recorder.record("submission.download", System.nanoTime() - start, status);
+        }
+    }
+
+    // Devuelve el cuerpo JSON de una respuesta exitosa (vacio si no tiene) o null; los errores quedan registrados con su estado
+    private JsonNode send(String operation, String token, HttpRequest.Builder builder) {
+        HttpRequest request = authorized(builder, token).build();
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            if (status >= 400) {
+                return null;
+            }
+            return response.body().length == 0 ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            logger.debug("{} failed: {}", operation, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            recorder.record(operation, System.nanoTime() - start, status);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Request body for " + path + " cannot be serialized", e);
+        }
+    }
+
+    private static HttpRequest.Builder authorized(HttpRequest.Builder builder, String token) {
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private void think(SplittableRandom random) throws InterruptedException {
+        if (thinkTimeMillis > 0) {
+            // Tiempo de espera exponencial alrededor de la media configurada
+            long pause = (long) (-Math.log(1.0 - random.nextDouble()) * thinkTimeMillis);
+            Thread.sleep(Math.min(pause, thinkTimeMillis * 10));
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
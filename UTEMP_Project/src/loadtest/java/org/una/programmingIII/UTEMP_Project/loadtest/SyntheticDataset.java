@@ -0,0 +1,300 @@
+package org.una.programmingIII.UTEMP_Project.loadtest;
+
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+
+/**
+ * Shape of the synthetic university: counts, seed and the rules that place every row. Ids and relations are
+ * computed from row indexes and a seeded hash instead of being stored, so the generator and the load-test driver
+ * derive the same dataset from the same {@code dataset.*} system properties without sharing any file.
+ * <p>
+ * Users 1..teachers are teachers and the following ids students. Student {@code s} is enrolled in
+ * {@code enrollmentsPerStudent} consecutive courses starting at a seeded offset; each (enrollment, assignment) pair
+ * has a submission with probability {@code submissionRate}, one file per submission, and a grade with probability
+ * {@code gradedRate}. Submission, file and grade ids all come from the pair index, so they have gaps.
+ * The last assignment of every course is due on the deadline day.
+ */
+public final class SyntheticDataset {
+
+    public static final String STORAGE_SUBDIRECTORY = "dataset";
+    public static final int SAMPLE_FILES = 64;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 8, 1, 8, 0);
+    private static final long STUDENT_IDENTIFICATION_BASE = 200_000_000L;
+    private static final long TEACHER_IDENTIFICATION_BASE = 300_000_000L;
+
+    private static final long ENROLLMENT_STREAM = 1;
+    private static final long SUBMISSION_STREAM = 2;
+    private static final long GRADE_STREAM = 3;
+    private static final long NOTIFICATION_STREAM = 4;
+    private static final long SCORE_STREAM = 5;
+
+    private final long seed;
+    private final int universities;
+    private final int facultiesPerUniversity;
+    private final int departmentsPerFaculty;
+    private final int coursesPerDepartment;
+    private final int teachers;
+    private final int students;
+    private final int enrollmentsPerStudent;
+    private final int assignmentsPerCourse;
+    private final double submissionRate;
+    private final double gradedRate;
+    private final int notificationsPerUser;
+    private final int fileSize;
+    private final String password;
+    private final Instant deadline;
+
+    public SyntheticDataset(long seed, int universities, int facultiesPerUniversity, int departmentsPerFaculty,
+                            int coursesPerDepartment, int teachers, int students, int enrollmentsPerStudent,
+                            int assignmentsPerCourse, double submissionRate, double gradedRate,
+                            int notificationsPerUser, int fileSize, String password, Instant deadline) {
+        this.seed = seed;
+        this.universities = positive("universities", universities);
+        this.facultiesPerUniversity = positive("faculties", facultiesPerUniversity);
+        this.departmentsPerFaculty = positive("departments", departmentsPerFaculty);
+        this.coursesPerDepartment = positive("courses", coursesPerDepartment);
+        this.teachers = positive("teachers", teachers);
+        this.students = positive("students", students);
+        this.enrollmentsPerStudent = positive("enrollments", enrollmentsPerStudent);
+        this.assignmentsPerCourse = positive("assignments", assignmentsPerCourse);
+        this.submissionRate = submissionRate;
+        this.gradedRate = gradedRate;
+        this.notificationsPerUser = Math.max(0, notificationsPerUser);
+        this.fileSize = positive("file-size", fileSize);
+        this.password = password;
+        this.deadline = deadline;
+        if (enrollmentsPerStudent > courseCount()) {
+            throw new IllegalArgumentException("dataset.enrollments must not exceed the number of courses (" + courseCount() + ")");
+        }
+    }
+
+    public static SyntheticDataset fromSystemProperties() {
+        return new SyntheticDataset(
+                Long.getLong("dataset.seed", 42L),
+                Integer.getInteger("dataset.universities", 2),
+                Integer.getInteger("dataset.faculties", 4),
+                Integer.getInteger("dataset.departments", 5),
+                Integer.getInteger("dataset.courses", 10),
+                Integer.getInteger("dataset.teachers", 200),
+                Integer.getInteger("dataset.students", 5000),
+                Integer.getInteger("dataset.enrollments", 5),
+                Integer.getInteger("dataset.assignments", 8),
+                Double.parseDouble(System.getProperty("dataset.submission-rate", "0.8")),
+                Double.parseDouble(System.getProperty("dataset.graded-rate", "0.5")),
+                Integer.getInteger("dataset.notifications", 10),
+                Integer.getInteger("dataset.file-size", 4096),
+                System.getProperty("dataset.password", "LoadTest#2024"),
+                Instant.parse(System.getProperty("dataset.deadline", "2024-11-29T23:59:00Z")));
+    }
+
+    // --------------- Conteos -----------------
+
+    public int universityCount() {
+        return universities;
+    }
+
+    public int facultyCount() {
+        return universities * facultiesPerUniversity;
+    }
+
+    public int departmentCount() {
+        return facultyCount() * departmentsPerFaculty;
+    }
+
+    public int courseCount() {
+        return departmentCount() * coursesPerDepartment;
+    }
+
+    public int teacherCount() {
+        return teachers;
+    }
+
+    public int studentCount() {
+        return students;
+    }
+
+    public int userCount() {
+        return teachers + students;
+    }
+
+    public int enrollmentsPerStudent() {
+        return enrollmentsPerStudent;
+    }
+
+    public int assignmentsPerCourse() {
+        return assignmentsPerCourse;
+    }
+
+    public int notificationsPerUser() {
+        return notificationsPerUser;
+    }
+
+    public long submissionSlots() {
+        return (long) students * enrollmentsPerStudent * assignmentsPerCourse;
+    }
+
+    public int fileSize() {
+        return fileSize;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public LocalDateTime createdAt() {
+        return CREATED_AT;
+    }
+
+    // --------------- Jerarquia -----------------
+
+    public long facultyUniversityId(int faculty) {
+        return faculty / facultiesPerUniversity + 1;
+    }
+
+    public long departmentFacultyId(int department) {
+        return department / departmentsPerFaculty + 1;
+    }
+
+    public long courseDepartmentId(int course) {
+        return course / coursesPerDepartment + 1;
+    }
+
+    public long courseTeacherId(int course) {
+        return course % teachers + 1;
+    }
+
+    // --------------- Usuarios -----------------
+
+    public long teacherId(int teacher) {
+        return teacher + 1;
+    }
+
+    public long studentId(int student) {
+        return teachers + student + 1L;
+    }
+
+    public String teacherIdentification(int teacher) {
+        return String.valueOf(TEACHER_IDENTIFICATION_BASE + teacher + 1);
+    }
+
+    public String studentIdentification(int student) {
+        return String.valueOf(STUDENT_IDENTIFICATION_BASE + student + 1);
+    }
+
+    public long teacherPermissionMask() {
+        return PermissionBitset.mask(EnumSet.of(
+                UserPermission.GET_TEACHER_COURSES,
+                UserPermission.GET_DEPARTMENT_COURSES,
+                UserPermission.GET_COURSE_ASSIGNMENTS,
+                UserPermission.GET_ASSIGNMENT_SUBMISSIONS,
+                UserPermission.EVALUATE_SUBMISSIONS,
+                UserPermission.GET_SUBMISSION_GRADES,
+                UserPermission.GET_COURSE_GRADEBOOK));
+    }
+
+    public long studentPermissionMask() {
+        return PermissionBitset.mask(EnumSet.of(
+                UserPermission.GET_STUDENT_ENROLLMENTS,
+                UserPermission.GET_DEPARTMENT_COURSES,
+                UserPermission.GET_COURSE_ASSIGNMENTS,
+                UserPermission.ADD_ASSIGNMENT_SUBMISSION,
+                UserPermission.ADD_SUBMISSION_FILES,
+                UserPermission.REMOVE_SUBMISSION_FILES,
+                UserPermission.GET_SUBMISSION_GRADES));
+    }
+
+    // --------------- Matriculas, asignaciones y entregas -----------------
+
+    public int enrolledCourse(int student, int enrollment) {
+        int start = (int) (hash(ENROLLMENT_STREAM, student) % courseCount());
+        return (start + enrollment) % courseCount();
+    }
+
+    public long enrollmentId(int student, int enrollment) {
+        return (long) student * enrollmentsPerStudent + enrollment + 1;
+    }
+
+    public long assignmentId(int course, int assignment) {
+        return (long) course * assignmentsPerCourse + assignment + 1;
+    }
+
+    public int currentAssignment() {
+        return assignmentsPerCourse - 1;
+    }
+
+    public Instant assignmentDeadline(int assignment) {
+        return deadline.minus(7L * (assignmentsPerCourse - 1 - assignment), ChronoUnit.DAYS);
+    }
+
+    public long submissionSlot(int student, int enrollment, int assignment) {
+        return ((long) student * enrollmentsPerStudent + enrollment) * assignmentsPerCourse + assignment;
+    }
+
+    public boolean hasSubmission(long slot) {
+        return unit(SUBMISSION_STREAM, slot) < submissionRate;
+    }
+
+    public boolean isGraded(long slot) {
+        return unit(GRADE_STREAM, slot) < gradedRate;
+    }
+
+    public long submissionId(long slot) {
+        return slot + 1;
+    }
+
+    public double score(long slot) {
+        return Math.round(unit(SCORE_STREAM, slot) * 60 + 40) / 10.0;
+    }
+
+    public boolean isUnread(long userIndex, int notification) {
+        return unit(NOTIFICATION_STREAM, userIndex * Math.max(1, notificationsPerUser) + notification) < 0.3;
+    }
+
+    public long notificationId(long userIndex, int notification) {
+        return userIndex * notificationsPerUser + notification + 1;
+    }
+
+    public String sampleFileName(long slot) {
+        return "sample-" + (slot % SAMPLE_FILES) + ".java";
+    }
+
+    // Valores deterministicos a partir de la semilla (SplitMix64)
+    public long hash(long stream, long index) {
+        long z = seed + stream * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (z ^ (z >>> 31)) >>> 1;
+    }
+
+    public double unit(long stream, long index) {
+        return (hash(stream, index) >>> 10) * 0x1.0p-53;
+    }
+
+    public LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed=%d universities=%d faculties=%d departments=%d courses=%d teachers=%d students=%d "
+                        + "enrollments=%d assignments=%d submission slots=%d",
+                seed, universityCount(), facultyCount(), departmentCount(), courseCount(), teachers, students,
+                (long) students * enrollmentsPerStudent, (long) courseCount() * assignmentsPerCourse, submissionSlots());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static int positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("dataset." + name + " must be at least 1");
+        }
+        return value;
+    }
+}
@@ -2,6 +2,7 @@ package org.una.programmingIII.UTEMP_Project.configs;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -35,6 +36,42 @@ public class AsyncConfig {
         return executor;
     }
 
+    @Bean(name = "reviewExecutor")
+    public Executor reviewExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Review-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        logger.info("Review Executor initialized with pool size: {}, queue capacity: {}",
+                executor.getCorePoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    // Las importaciones masivas tienen su propio pool: no compiten con correos ni revisiones y, si esta lleno,
+    // se rechazan (AbortPolicy) en lugar de ejecutarse en el hilo de la peticion HTTP
+    @Bean(name = "userImportExecutor")
+    public Executor userImportExecutor(
+            @Value("${users.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${users.import.queue-capacity:4}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("UserImport-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        logger.info("User import Executor initialized with pool size: {}, queue capacity: {}", maxConcurrentJobs, queueCapacity);
+
+        return executor;
+    }
+
     // Método para monitorear el estado del ThreadPoolExecutor
     private void startExecutorMonitor(ThreadPoolTaskExecutor executor) {
         new Thread(() -> {
@@ -0,0 +1,68 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sizes every HikariCP pool that has no explicit {@code maximum-pool-size}. With {@code datasource.pool.max-size=0}
+ * the size follows the PostgreSQL guideline of twice the database server's cores plus the effective spindle count,
+ * split evenly among the {@code datasource.pool.instances} application instances that share the server: more
+ * connections than the database can run at once only move the queue from the pool into the server. The cores are
+ * those of the database ({@code datasource.pool.db-cores}); when unset, the cores of this host are used as a rough
+ * stand-in and a warning is logged. Pools are kept at a fixed size (minimum idle = maximum) unless a minimum is
+ * configured.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizing(
+            @Value("${datasource.pool.max-size:0}") int maxSize,
+            @Value("${datasource.pool.db-cores:0}") int dbCores,
+            @Value("${datasource.pool.spindles:1}") int spindles,
+            @Value("${datasource.pool.instances:1}") int instances) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    applyPoolSize(dataSource, maxSize, dbCores, spindles, instances);
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static void applyPoolSize(HikariDataSource dataSource, int maxSize, int dbCores, int spindles, int instances) {
+        // Hikari deja ambos valores en -1 hasta validar la configuracion si no se establecieron
+        if (dataSource.getMaximumPoolSize() < 1) {
+            if (maxSize < 1 && dbCores < 1) {
+                logger.warn("datasource.pool.db-cores is not set; sizing pool {} from the {} cores of this host",
+                        dataSource.getPoolName(), Runtime.getRuntime().availableProcessors());
+            }
+            dataSource.setMaximumPoolSize(poolSize(maxSize, dbCores, spindles, instances));
+        }
+        if (dataSource.getMinimumIdle() < 0) {
+            dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+        }
+        logger.info("Connection pool {} sized to {} connections (minimum idle {})",
+                dataSource.getPoolName(), dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle());
+    }
+
+    public static int poolSize(int maxSize, int dbCores, int spindles, int instances) {
+        if (maxSize > 0) {
+            return maxSize;
+        }
+        int cores = dbCores > 0 ? dbCores : Runtime.getRuntime().availableProcessors();
+        int serverConnections = cores * 2 + Math.max(0, spindles);
+        // Cada instancia recibe su parte; la suma de todos los pools no supera lo que el servidor puede ejecutar
+        return Math.max(1, serverConnections / Math.max(1, instances));
+    }
+}
@@ -0,0 +1,46 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.una.programmingIII.UTEMP_Project.metrics.HandlerObservationConvention;
+import org.una.programmingIII.UTEMP_Project.metrics.RequestMetricsInterceptor;
+
+/**
+ * Request metrics per controller method: {@code http.server.requests} gets a {@code handler} tag, and every request
+ * handled by a controller records the statements it sent to the database and is flagged when it goes over the
+ * {@code metrics.db.*} thresholds. Percentile histograms and SLO buckets are set with
+ * {@code management.metrics.distribution.*}; everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final int repetitionThreshold;
+
+    @Autowired
+    public MetricsConfig(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.db.statement-threshold:50}") int statementThreshold,
+            @Value("${metrics.db.repetition-threshold:10}") int repetitionThreshold) {
+
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.repetitionThreshold = repetitionThreshold;
+    }
+
+    @Bean
+    public HandlerObservationConvention handlerObservationConvention() {
+        return new HandlerObservationConvention();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, statementThreshold, repetitionThreshold));
+    }
+}
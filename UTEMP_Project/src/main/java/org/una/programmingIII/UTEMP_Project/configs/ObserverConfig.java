@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
 import org.una.programmingIII.UTEMP_Project.services.UserServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.services.grade.GradeBatchServiceImplementation;
 
 @Configuration
 public class ObserverConfig {
@@ -12,6 +13,9 @@ public class ObserverConfig {
     @Autowired
     private UserServiceImplementation userService;
 
+    @Autowired
+    private GradeBatchServiceImplementation gradeBatchService;
+
     @Autowired
     private EmailNotificationObserver emailNotificationObserver;
 
@@ -19,6 +23,7 @@ public class ObserverConfig {
     public void initObservers() {
         if (emailNotificationObserver != null) {
             userService.addObserver(emailNotificationObserver);
+            gradeBatchService.addObserver(emailNotificationObserver);
         } else {
             throw new IllegalStateException("EmailNotificationObserver is not initialized.");
         }
@@ -1,18 +1,68 @@
 package org.una.programmingIII.UTEMP_Project.configs;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.una.programmingIII.UTEMP_Project.services.passwordEncryption.PasswordEncryptionService;
 import org.una.programmingIII.UTEMP_Project.services.passwordEncryption.PasswordEncryptionServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.services.passwordEncryption.PasswordHashCalibrator;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class PasswordConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(PasswordConfig.class);
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+    private static final String PBKDF2 = "pbkdf2";
+
+    /**
+     * Hashes are stored as "{id}hash"; the algorithm chosen for encoding gets its cost calibrated at startup and
+     * every hash with another id or a lower cost is reported as upgradable, so it is rehashed on the next login.
+     * Legacy hashes without prefix are BCrypt.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${security.password.calibrate:true}") boolean calibrate,
+            @Value("${security.password.target-ms:250}") long targetMillis,
+            @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${security.password.argon2.memory-kb:19456}") int argon2MemoryKb,
+            @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${security.password.argon2.iterations:2}") int argon2Iterations,
+            @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations) {
+
+        String idForEncode = algorithm.trim().toLowerCase();
+        if (calibrate && idForEncode.equals(BCRYPT)) {
+            bcryptStrength = PasswordHashCalibrator.bcryptStrength(targetMillis, bcryptStrength);
+        } else if (calibrate && idForEncode.equals(ARGON2)) {
+            argon2Iterations = PasswordHashCalibrator.argon2Iterations(targetMillis, argon2MemoryKb, argon2Parallelism, argon2Iterations);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, PasswordHashCalibrator.argon2(argon2MemoryKb, argon2Parallelism, argon2Iterations));
+        // PBKDF2 no guarda las iteraciones en el hash, por eso no se calibra: cambiarlas invalidaria los hashes
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("Unsupported password algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        logger.info("Password encoder initialized with algorithm: {}", idForEncode);
+        return passwordEncoder;
     }
 
     @Bean
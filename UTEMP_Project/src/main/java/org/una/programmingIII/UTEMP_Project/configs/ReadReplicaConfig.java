@@ -0,0 +1,80 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source when {@code datasource.replicas.urls} lists at least one replica. The
+ * primary pool is still configured from {@code spring.datasource.*}; each replica gets a copy of its pool settings
+ * with its own URL and pool name, so {@code hikaricp.connections.*} metrics are reported per target.
+ */
+@Configuration
+@ConditionalOnExpression("'${datasource.replicas.urls:}'.trim() != ''")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("utemp-primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username:}") String username,
+            @Value("${datasource.replicas.password:}") String password,
+            @Value("${datasource.replicas.health-check-interval-seconds:10}") long healthCheckIntervalSeconds,
+            @Value("${datasource.replicas.health-check-timeout-seconds:2}") int healthCheckTimeoutSeconds) {
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName("utemp-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setReadOnly(true);
+            if (StringUtils.hasText(username)) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+            if (replica.getMetricsTrackerFactory() == null && registry != null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                healthCheckIntervalSeconds, healthCheckTimeoutSeconds, registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,169 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections requested inside a read-only transaction to the replicas, in round-robin order, and every other
+ * connection to the primary. A replica that fails to hand out a connection or to answer the periodic health check
+ * is skipped until a later check succeeds; with no replica available reads go to the primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this data source has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which delays the choice until the
+ * first statement. Reads in a read-only transaction may not see writes committed an instant earlier on the primary,
+ * so reads whose result is kept in a cache run inside {@link #readFromPrimary(Supplier)}.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            long healthCheckIntervalSeconds,
+            int healthCheckTimeoutSeconds,
+            MeterRegistry meterRegistry) {
+
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream().map(e -> new Replica(e.getKey(), e.getValue())).toList();
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+
+        if (meterRegistry != null) {
+            for (Replica replica : this.replicas) {
+                Gauge.builder("utemp.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                        .tag("replica", replica.name)
+                        .register(meterRegistry);
+            }
+        }
+        if (healthCheckIntervalSeconds > 0 && !this.replicas.isEmpty()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                    healthCheckIntervalSeconds, healthCheckIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            healthChecker = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // Una replica atrasada dejaria en cache datos anteriores al commit guardados con la version actual. Debe envolver
+    // la transaccion desde antes de su primera sentencia, que es cuando se elige el destino de la conexion
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        if (PRIMARY_ONLY.get() != null) {
+            return reader.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean valid;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                valid = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                valid = false;
+            }
+            if (valid && !replica.available) {
+                logger.info("Read replica {} is available again", replica.name);
+            } else if (!valid && replica.available) {
+                logger.warn("Read replica {} failed its health check; reads fall back to other targets", replica.name);
+            }
+            replica.available = valid;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        // Las replicas solo existen dentro de este data source; el primario lo cierra Spring
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Error closing read replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!replicas.isEmpty() && PRIMARY_ONLY.get() == null
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.available) {
+                    continue;
+                }
+                try {
+                    return opener.open(replica.dataSource);
+                } catch (SQLException | RuntimeException e) {
+                    replica.available = false;
+                    logger.warn("Read replica {} refused a connection, marked unavailable: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
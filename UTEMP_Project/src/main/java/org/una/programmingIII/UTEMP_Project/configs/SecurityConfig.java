@@ -1,9 +1,16 @@
 package org.una.programmingIII.UTEMP_Project.configs;
 
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,14 +19,21 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.OwnershipAuthorizationManager;
+import org.una.programmingIII.UTEMP_Project.security.authorization.PermissionAuthorizationManager;
 import org.una.programmingIII.UTEMP_Project.security.filters.JwtRequestFilter;
 import org.una.programmingIII.UTEMP_Project.security.utils.CustomAccessDeniedHandler;
 import org.una.programmingIII.UTEMP_Project.security.utils.CustomAuthenticationEntryPoint;
 import org.una.programmingIII.UTEMP_Project.security.utils.jwtTokenProvider.JwtTokenProvider;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetailsService;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndex;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,12 +46,18 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProviderService;
     private final PasswordEncoder passwordEncoder;
+    private final int serverPort;
+    private final int managementPort;
 
     @Autowired
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider jwtTokenProviderService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider jwtTokenProviderService, PasswordEncoder passwordEncoder,
+                          @Value("${server.port:8080}") int serverPort,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenProviderService = jwtTokenProviderService;
         this.passwordEncoder = passwordEncoder;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -45,8 +65,14 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
-                                .requestMatchers("/utemp/auth/login").permitAll()
+                                .requestMatchers("/utemp/auth/login", "/utemp/auth/refresh").permitAll()
                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                                .requestMatchers("/actuator/health").permitAll()
+                                // El scraper entra sin token solo por el puerto interno de management; en el puerto publico hace falta ALL_PERMISSIONS
+                                .requestMatchers(prometheusOnManagementPort()).permitAll()
+                                .requestMatchers("/actuator/prometheus").hasAuthority(UserPermission.ALL_PERMISSIONS.name())
+                                // Expone los nombres y valores de todas las metricas (tags de endpoints, pool, cache)
+                                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasAuthority(UserPermission.ALL_PERMISSIONS.name())
                                 .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
@@ -56,11 +82,33 @@ public class SecurityConfig {
                                 .accessDeniedHandler(new CustomAccessDeniedHandler())
                 )
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                .addFilterBefore(new JwtRequestFilter(jwtTokenProviderService, userDetailsService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtRequestFilter(jwtTokenProviderService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // Se registra junto a @PreAuthorize; es estatico porque los advisors se crean antes que el resto de los beans
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAuthorization() {
+        PermissionAuthorizationManager authorizationManager = new PermissionAuthorizationManager();
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(authorizationManager.pointcut(), authorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
+    // Va despues del chequeo de permisos para que una peticion sin permiso no llegue a cargar la membresia
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresOwnershipAuthorization(ObjectProvider<OwnershipIndex> ownershipIndex) {
+        OwnershipAuthorizationManager authorizationManager = new OwnershipAuthorizationManager(ownershipIndex);
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(authorizationManager.pointcut(), authorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+
     @Bean
     public AuthenticationManager authManager(HttpSecurity http) throws Exception {
         AuthenticationManagerBuilder authenticationManagerBuilder =
@@ -81,5 +129,13 @@ public class SecurityConfig {
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
+
+    // Solo cuenta si management.server.port es un puerto propio (perfil prod); en el puerto de la API nunca coincide
+    private RequestMatcher prometheusOnManagementPort() {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return new AndRequestMatcher(
+                AntPathRequestMatcher.antMatcher("/actuator/prometheus"),
+                request -> separatePort && request.getLocalPort() == managementPort);
+    }
 }
 
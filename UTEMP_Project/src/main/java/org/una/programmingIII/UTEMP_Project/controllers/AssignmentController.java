@@ -15,12 +15,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.AssignmentDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.SubmissionDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.assignment.AssignmentService;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
@@ -126,7 +128,7 @@ public class AssignmentController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ASSIGNMENTS)
     public ResponseEntity<PageDTO<AssignmentDTO>> getAllAssignments(Pageable pageable) {
         try {
             Page<AssignmentDTO> assignments = assignmentService.getAllAssignments(pageable);
@@ -197,7 +199,8 @@ public class AssignmentController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "id")
     public ResponseEntity<AssignmentDTO> getAssignmentById(
             @Parameter(
                     description = "ID of the assignment to retrieve",
@@ -278,7 +281,7 @@ public class AssignmentController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ASSIGNMENTS)
     public ResponseEntity<AssignmentDTO> createAssignment(
             @Parameter(
                     description = "Details of the assignment to be created",
@@ -345,7 +348,8 @@ public class AssignmentController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "id", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<AssignmentDTO> updateAssignment(
             @Parameter(
                     description = "Unique identifier of the assignment to be updated",
@@ -394,7 +398,8 @@ public class AssignmentController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "id", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> deleteAssignment(
             @Parameter(
                     description = "Unique identifier of the assignment to be deleted",
@@ -484,7 +489,8 @@ public class AssignmentController {
             )
     })
     @GetMapping("/course/{courseId}")
-    @PreAuthorize("hasAuthority('GET_COURSE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.GET_COURSE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId")
     public ResponseEntity<PageDTO<AssignmentDTO>> getAssignmentsByCourseId(
             @Parameter(
                     description = "Unique identifier of the course to fetch assignments for",
@@ -552,7 +558,8 @@ public class AssignmentController {
             )
     })
     @PostMapping("/{assignmentId}/submissions")
-    @PreAuthorize("hasAuthority('ADD_ASSIGNMENT_SUBMISSION')")
+    @RequiresPermission(UserPermission.ADD_ASSIGNMENT_SUBMISSION)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "assignmentId")
     public ResponseEntity<SubmissionDTO> addSubmissionToAssignment(
             @Parameter(
                     description = "Unique identifier of the assignment to which the submission will be added",
@@ -607,7 +614,8 @@ public class AssignmentController {
             )
     })
     @DeleteMapping("/{assignmentId}/submissions/{submissionId}")
-    @PreAuthorize("hasAuthority('REMOVE_ASSIGNMENT_SUBMISSION')")
+    @RequiresPermission(UserPermission.REMOVE_ASSIGNMENT_SUBMISSION)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId", parentId = "assignmentId")
     public ResponseEntity<Void> removeSubmissionFromAssignment(@PathVariable Long assignmentId,
                                                                @PathVariable Long submissionId) {
         try {
@@ -2,7 +2,9 @@ package org.una.programmingIII.UTEMP_Project.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,11 +14,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.una.programmingIII.UTEMP_Project.controllers.request.AuthRequest;
 import org.una.programmingIII.UTEMP_Project.controllers.responses.ApiResponse;
 import org.una.programmingIII.UTEMP_Project.controllers.responses.TokenResponse;
+import org.una.programmingIII.UTEMP_Project.dtos.TokenDTOs.TokenRequestDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.TokenDTOs.TokenResponseDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidTokenException;
+import org.una.programmingIII.UTEMP_Project.exceptions.LoginThrottledException;
+import org.una.programmingIII.UTEMP_Project.exceptions.TokenExpiredException;
 import org.una.programmingIII.UTEMP_Project.exceptions.UserNotFoundException;
+import org.una.programmingIII.UTEMP_Project.security.throttle.LoginPermit;
+import org.una.programmingIII.UTEMP_Project.security.throttle.LoginThrottle;
 import org.una.programmingIII.UTEMP_Project.security.utils.JwtTokenProvider;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetailsService;
@@ -32,12 +43,14 @@ public class AuthController {
     private final CustomUserDetailsService userDetailsService;
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
 
-    public AuthController(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService, UserService userService) {
+    public AuthController(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService, UserService userService, LoginThrottle loginThrottle) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
         this.userService = userService;
+        this.loginThrottle = loginThrottle;
     }
 
     @Operation(
@@ -47,13 +60,16 @@ public class AuthController {
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Authentication successful. Returns JWT token and user details."),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Invalid credentials. Authentication failed."),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found.")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many login attempts or too many logins in progress. See the Retry-After header.")
     })
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> createAuthenticationToken(@Valid @RequestBody AuthRequest authRequest) {
         try {
-            // Autenticar al usuario
-            authenticate(authRequest);
+            // Autenticar al usuario; la verificacion de la contraseña ocupa un cupo limitado
+            try (LoginPermit permit = loginThrottle.acquire(authRequest.getIdentificationNumber(), clientIp())) {
+                authenticate(authRequest);
+            }
             // Obtener detalles del usuario autenticado
             CustomUserDetails userDetails = loadUserDetails(authRequest.getIdentificationNumber());
             // Generar el token JWT
@@ -62,11 +78,16 @@ public class AuthController {
             UserDTO user = getUserById(jwtTokenProvider.getIdFromToken(jwt));
 
             // Construir la respuesta de token
-            TokenResponse tokenResponse = buildTokenResponse(jwt, user);
+            TokenResponse tokenResponse = buildTokenResponse(jwt, jwtTokenProvider.generateRefreshToken(userDetails.getUser()), user);
             ApiResponse<TokenResponse> response = new ApiResponse<>();
             response.setData(tokenResponse);
             return ResponseEntity.ok(response);
 
+        } catch (LoginThrottledException e) {
+            ApiResponse<TokenResponse> errorResponse = new ApiResponse<>(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                    .body(errorResponse);
         } catch (BadCredentialsException | UserNotFoundException e) {
             return buildErrorResponse(HttpStatus.NOT_FOUND, "No encontrado");
         } catch (Exception e) {
@@ -74,6 +95,31 @@ public class AuthController {
         }
     }
 
+    @Operation(
+            summary = "Refresh Tokens",
+            description = "Exchanges a valid refresh token for a new access token and a new refresh token."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tokens refreshed successfully."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "The refresh token is invalid, expired, or its user is no longer active.")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponseDTO>> refreshTokens(@RequestBody TokenRequestDTO tokenRequest) {
+        try {
+            if (tokenRequest == null || tokenRequest.getRefreshToken() == null) {
+                throw new InvalidTokenException("Refresh token must not be null");
+            }
+            TokenResponseDTO tokens = jwtTokenProvider.refreshTokens(tokenRequest.getRefreshToken());
+            return ResponseEntity.ok(new ApiResponse<>(tokens));
+        } catch (InvalidTokenException | TokenExpiredException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>(HttpStatus.UNAUTHORIZED.value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Error interno"));
+        }
+    }
+
     // Métodos auxiliares para mejorar la legibilidad
 
     private void authenticate(AuthRequest authRequest) {
@@ -82,6 +128,16 @@ public class AuthController {
         );
     }
 
+    private String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            // En produccion Tomcat ya reemplaza la direccion del balanceador por la del cliente
+            // (server.forward-headers-strategy=native), solo para proxies de confianza
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
     private CustomUserDetails loadUserDetails(String username) {
         return (CustomUserDetails) userDetailsService.loadUserByUsername(username);
     }
@@ -91,11 +147,13 @@ public class AuthController {
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
     }
 
-    private TokenResponse buildTokenResponse(String jwt, UserDTO user) {
+    private TokenResponse buildTokenResponse(String jwt, String refreshToken, UserDTO user) {
         return TokenResponse.builder()
                 .token(jwt)
                 .tokenType("Bearer")
                 .user(user)
+                .refreshToken(refreshToken)
+                .expiresIn((int) (jwtTokenProvider.getAccessTokenValidity() / 1000))
                 .build();
     }
 
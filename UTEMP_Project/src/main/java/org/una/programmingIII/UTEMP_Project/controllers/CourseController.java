@@ -13,15 +13,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.AssignmentDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.CourseDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.course.CourseService;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
@@ -33,10 +39,12 @@ public class CourseController {
 
     private static final Logger logger = LoggerFactory.getLogger(CourseController.class);
     private final CourseService courseService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, ResourceVersionService resourceVersionService) {
         this.courseService = courseService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Operation(
@@ -76,12 +84,14 @@ public class CourseController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_COURSES')")
-    public ResponseEntity<PageDTO<CourseDTO>> getAllCourses(Pageable pageable) {
+    @RequiresPermission(UserPermission.MANAGE_COURSES)
+    public ResponseEntity<PageDTO<CourseDTO>> getAllCourses(Pageable pageable, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<CourseDTO> coursesPage = courseService.getAllCourses(pageable);
-            logger.info("Fetched all courses successfully.");
-            return ResponseEntity.ok(PageConverter.convertPageToDTO(coursesPage, courseDTO -> courseDTO));
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.COURSE, ifNoneMatch, () -> {
+                Page<CourseDTO> coursesPage = courseService.getAllCourses(pageable);
+                logger.info("Fetched all courses successfully.");
+                return PageConverter.convertPageToDTO(coursesPage, courseDTO -> courseDTO);
+            });
 
         } catch (Exception e) {
             logger.error("Error fetching all courses: {}", e.getMessage());
@@ -143,13 +153,14 @@ public class CourseController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_COURSES')")
-    public ResponseEntity<CourseDTO> getCourseById(@Parameter(description = "ID of the course to be retrieved") @PathVariable Long id) {
+    @RequiresPermission(UserPermission.MANAGE_COURSES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "id")
+    public ResponseEntity<CourseDTO> getCourseById(@Parameter(description = "ID of the course to be retrieved") @PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Optional<CourseDTO> courseDTO = courseService.getCourseById(id);
-            return courseDTO
-                    .map(ResponseEntity::ok)
-                    .orElseThrow(() -> new ResourceNotFoundException("Course", id));
+            return ConditionalResponses.getResource(resourceVersionService, ResourceKind.COURSE, id, ifNoneMatch,
+                    () -> Optional.of(courseService.getCourseById(id).orElseThrow(() -> new ResourceNotFoundException("Course", id))),
+                    CourseDTO::getLastUpdate);
         } catch (ResourceNotFoundException e) {
             logger.error("1Course not found with ID {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -214,7 +225,7 @@ public class CourseController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_COURSES')")
+    @RequiresPermission(UserPermission.MANAGE_COURSES)
     public ResponseEntity<CourseDTO> createCourse(@Valid @RequestBody CourseDTO courseDTO) {
         try {
             CourseDTO createdCourse = courseService.createCourse(courseDTO);
@@ -299,7 +310,8 @@ public class CourseController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_COURSES')")
+    @RequiresPermission(UserPermission.MANAGE_COURSES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "id", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<CourseDTO> updateCourse(
             @Parameter(
                     description = "ID of the course to be updated",
@@ -374,7 +386,8 @@ public class CourseController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_COURSES')")
+    @RequiresPermission(UserPermission.MANAGE_COURSES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "id", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> deleteCourse(
             @Parameter(
                     description = "ID of the course to be deleted",
@@ -505,7 +518,7 @@ public class CourseController {
             )
     })
     @GetMapping("/teacher/{teacherId}")
-    @PreAuthorize("hasAuthority('GET_TEACHER_COURSES')")
+    @RequiresPermission(UserPermission.GET_TEACHER_COURSES)
     public ResponseEntity<PageDTO<CourseDTO>> getCoursesByTeacherId(
             @Parameter(
                     description = "ID of the teacher",
@@ -513,11 +526,14 @@ public class CourseController {
                     example = "5"
             )
             @PathVariable Long teacherId,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<CourseDTO> coursesPage = courseService.getCoursesByTeacherId(teacherId, pageable);
-            logger.info("Fetched courses for teacher ID {} successfully.", teacherId);
-            return ResponseEntity.ok(PageConverter.convertPageToDTO(coursesPage, courseDTO -> courseDTO));
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.COURSE, ifNoneMatch, () -> {
+                Page<CourseDTO> coursesPage = courseService.getCoursesByTeacherId(teacherId, pageable);
+                logger.info("Fetched courses for teacher ID {} successfully.", teacherId);
+                return PageConverter.convertPageToDTO(coursesPage, courseDTO -> courseDTO);
+            });
         } catch (ResourceNotFoundException e) {
             logger.error("Teacher not found with ID {}: {}", teacherId, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -640,7 +656,7 @@ public class CourseController {
             )
     })
     @GetMapping("/department/{departmentId}")
-    @PreAuthorize("hasAuthority('GET_DEPARTMENT_COURSES')")
+    @RequiresPermission(UserPermission.GET_DEPARTMENT_COURSES)
     public ResponseEntity<PageDTO<CourseDTO>> getCoursesByDepartmentId(
             @Parameter(
                     description = "ID of the department",
@@ -648,10 +664,11 @@ public class CourseController {
                     example = "10"
             )
             @PathVariable Long departmentId,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<CourseDTO> coursesPage = courseService.getCoursesByDepartmentId(departmentId, pageable);
-            return ResponseEntity.ok(PageConverter.convertPageToDTO(coursesPage, courseDTO -> courseDTO));
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.COURSE, ifNoneMatch,
+                    () -> PageConverter.convertPageToDTO(courseService.getCoursesByDepartmentId(departmentId, pageable), courseDTO -> courseDTO));
 
         } catch (ResourceNotFoundException e) {
             logger.error("Department not found with ID {}: {}", departmentId, e.getMessage());
@@ -704,7 +721,8 @@ public class CourseController {
             )
     })
     @PostMapping("/{courseId}/assignments")
-    @PreAuthorize("hasAuthority('ADD_COURSE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.ADD_COURSE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> addAssignmentToCourse(@PathVariable Long courseId,
                                                       @RequestBody AssignmentDTO assignmentDTO) {
         try {
@@ -753,7 +771,8 @@ public class CourseController {
             )
     })
     @DeleteMapping("/{courseId}/assignments/{assignmentId}")
-    @PreAuthorize("hasAuthority('REMOVE_COURSE_ASSIGNMENTS')")
+    @RequiresPermission(UserPermission.REMOVE_COURSE_ASSIGNMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> removeAssignmentFromCourse(@PathVariable Long courseId,
                                                            @PathVariable Long assignmentId) {
         try {
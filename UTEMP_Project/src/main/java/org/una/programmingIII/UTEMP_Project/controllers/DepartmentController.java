@@ -13,28 +13,37 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.CourseDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.DepartmentDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.department.DepartmentService;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/utemp/departments")
 public class DepartmentController {
 
     private static final Logger logger = LoggerFactory.getLogger(DepartmentController.class);
     private final DepartmentService departmentService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, ResourceVersionService resourceVersionService) {
         this.departmentService = departmentService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Operation(
@@ -86,12 +95,14 @@ public class DepartmentController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_DEPARTMENTS')")
-    public ResponseEntity<PageDTO<DepartmentDTO>> getAllDepartments(Pageable pageable) {
+    @RequiresPermission(UserPermission.MANAGE_DEPARTMENTS)
+    public ResponseEntity<PageDTO<DepartmentDTO>> getAllDepartments(Pageable pageable, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<DepartmentDTO> departmentsPage = departmentService.getAllDepartments(pageable);
-            logger.info("Fetched all departments successfully.");
-            return ResponseEntity.ok(PageConverter.convertPageToDTO(departmentsPage, departmentDTO -> departmentDTO));
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.DEPARTMENT, ifNoneMatch, () -> {
+                Page<DepartmentDTO> departmentsPage = departmentService.getAllDepartments(pageable);
+                logger.info("Fetched all departments successfully.");
+                return PageConverter.convertPageToDTO(departmentsPage, departmentDTO -> departmentDTO);
+            });
         } catch (InvalidDataException e) {
             logger.error("Invalid data while fetching departments: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
@@ -151,14 +162,17 @@ public class DepartmentController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_DEPARTMENTS)
     public ResponseEntity<DepartmentDTO> getDepartmentById(
-            @Parameter(description = "ID of the department to be fetched") @PathVariable Long id) {
+            @Parameter(description = "ID of the department to be fetched") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            DepartmentDTO departmentDTO = departmentService.getDepartmentById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Department", id));
-            logger.info("Fetched department with ID {} successfully.", id);
-            return ResponseEntity.ok(departmentDTO);
+            return ConditionalResponses.getResource(resourceVersionService, ResourceKind.DEPARTMENT, id, ifNoneMatch, () -> {
+                DepartmentDTO departmentDTO = departmentService.getDepartmentById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Department", id));
+                logger.info("Fetched department with ID {} successfully.", id);
+                return Optional.of(departmentDTO);
+            }, DepartmentDTO::getLastUpdate);
         } catch (ResourceNotFoundException e) {
             logger.error("Department not found: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -218,7 +232,7 @@ public class DepartmentController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_DEPARTMENTS)
     public ResponseEntity<DepartmentDTO> createDepartment(@Valid @RequestBody DepartmentDTO departmentDTO) {
         try {
             DepartmentDTO createdDepartment = departmentService.createDepartment(departmentDTO);
@@ -283,7 +297,7 @@ public class DepartmentController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_DEPARTMENTS)
     public ResponseEntity<DepartmentDTO> updateDepartment(@Parameter(description = "ID of the department to be updated") @PathVariable Long id,
                                                           @Valid @RequestBody DepartmentDTO departmentDTO) {
         try {
@@ -346,7 +360,7 @@ public class DepartmentController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_DEPARTMENTS)
     public ResponseEntity<Void> deleteDepartment(@Parameter(description = "ID of the department to be deleted") @PathVariable Long id) {
         try {
             departmentService.deleteDepartment(id);
@@ -409,14 +423,17 @@ public class DepartmentController {
             )
     })
     @GetMapping("/faculty/{facultyId}")
-    @PreAuthorize("hasAuthority('GET_FACULTY_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.GET_FACULTY_DEPARTMENTS)
     public ResponseEntity<PageDTO<DepartmentDTO>> getDepartmentsByFacultyId(
             @Parameter(description = "ID of the faculty to retrieve departments from") @PathVariable Long facultyId,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<DepartmentDTO> departmentsPage = departmentService.getDepartmentsByFacultyId(facultyId, pageable);
-            logger.info("Fetched departments for faculty ID {} successfully.", facultyId);
-            return ResponseEntity.ok(PageConverter.convertPageToDTO(departmentsPage, departmentDTO -> departmentDTO));
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.DEPARTMENT, ifNoneMatch, () -> {
+                Page<DepartmentDTO> departmentsPage = departmentService.getDepartmentsByFacultyId(facultyId, pageable);
+                logger.info("Fetched departments for faculty ID {} successfully.", facultyId);
+                return PageConverter.convertPageToDTO(departmentsPage, departmentDTO -> departmentDTO);
+            });
         } catch (InvalidDataException e) {
             logger.error("Invalid data while fetching departments for faculty ID {}: {}", facultyId, e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
@@ -490,7 +507,7 @@ public class DepartmentController {
             )
     })
     @PostMapping("/{departmentId}/courses")
-    @PreAuthorize("hasAuthority('ADD_DEPARTMENT_COURSES')")
+    @RequiresPermission(UserPermission.ADD_DEPARTMENT_COURSES)
     public ResponseEntity<Void> addCourseToDepartment(
             @Parameter(description = "ID of the department to which the course will be added") @PathVariable Long departmentId,
             @Valid @RequestBody CourseDTO courseDTO) {
@@ -541,7 +558,7 @@ public class DepartmentController {
             )
     })
     @DeleteMapping("/{departmentId}/courses/{courseId}")
-    @PreAuthorize("hasAuthority('REMOVE_DEPARTMENT_COURSES')")
+    @RequiresPermission(UserPermission.REMOVE_DEPARTMENT_COURSES)
     public ResponseEntity<Void> removeCourseFromDepartment(@PathVariable Long departmentId,
                                                            @PathVariable Long courseId) {
         try {
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,15 +16,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
+import org.una.programmingIII.UTEMP_Project.services.enrollment.EnrollmentImportService;
 import org.una.programmingIII.UTEMP_Project.services.enrollment.EnrollmentService;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
+import java.io.IOException;
 import java.util.Optional;
 
 @RestController
@@ -32,10 +38,12 @@ public class EnrollmentController {
 
     private static final Logger logger = LoggerFactory.getLogger(EnrollmentController.class);
     private final EnrollmentService enrollmentService;
+    private final EnrollmentImportService enrollmentImportService;
 
     @Autowired
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    public EnrollmentController(EnrollmentService enrollmentService, EnrollmentImportService enrollmentImportService) {
         this.enrollmentService = enrollmentService;
+        this.enrollmentImportService = enrollmentImportService;
     }
 
     @Operation(
@@ -73,7 +81,7 @@ public class EnrollmentController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
     public ResponseEntity<PageDTO<EnrollmentDTO>> getAllEnrollments(Pageable pageable) {
         try {
             Page<EnrollmentDTO> enrollmentsPage = enrollmentService.getAllEnrollments(pageable);
@@ -135,7 +143,8 @@ public class EnrollmentController {
             )
     })
     @GetMapping("/course/{courseId}")
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<PageDTO<EnrollmentDTO>> getEnrollmentsByCourseId(
             @Parameter(description = "ID of the course to retrieve enrollments for") @PathVariable Long courseId,
             Pageable pageable) {
@@ -201,7 +210,7 @@ public class EnrollmentController {
             )
     })
     @GetMapping("/student/{studentId}")
-    @PreAuthorize("hasAuthority('GET_STUDENT_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.GET_STUDENT_ENROLLMENTS)
     public ResponseEntity<PageDTO<EnrollmentDTO>> getEnrollmentsByStudentId(
             @Parameter(description = "ID of the student to retrieve enrollments for") @PathVariable Long studentId,
             Pageable pageable) {
@@ -267,7 +276,7 @@ public class EnrollmentController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
     public ResponseEntity<EnrollmentDTO> getEnrollmentById(
             @Parameter(description = "ID of the enrollment to be fetched") @PathVariable Long id) {
         try {
@@ -332,7 +341,7 @@ public class EnrollmentController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
     public ResponseEntity<EnrollmentDTO> createEnrollment(@Valid @RequestBody EnrollmentDTO enrollmentDTO) {
         try {
             EnrollmentDTO createdEnrollment = enrollmentService.createEnrollment(enrollmentDTO);
@@ -411,7 +420,7 @@ public class EnrollmentController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
     public ResponseEntity<EnrollmentDTO> updateEnrollment(
             @Parameter(description = "ID of the enrollment to update") @PathVariable Long id,
             @Valid @RequestBody EnrollmentDTO enrollmentDTO) {
@@ -480,7 +489,7 @@ public class EnrollmentController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
     public ResponseEntity<Void> deleteEnrollment(
             @Parameter(description = "ID of the enrollment to delete") @PathVariable Long id) {
         try {
@@ -494,4 +503,71 @@ public class EnrollmentController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Import enrollments in bulk",
+            description = """
+                    Imports enrollments from the request body, read as a stream.
+                    Send text/csv with one "identificationNumber,courseId" pair per line (an optional header line is skipped),
+                    or application/x-ndjson with one {"identificationNumber": "...", "courseId": 1} object per line.
+                    Rows that are duplicated, already enrolled or reference unknown users or courses are reported and skipped.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import processed; the response reports the result of every row",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EnrollmentImportResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty import",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Invalid data",
+                                              "details": "The enrollment import does not contain any rows."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Internal server error",
+                                              "details": "An unexpected error occurred while processing the request."
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/x-ndjson"})
+    @RequiresPermission(UserPermission.MANAGE_ENROLLMENTS)
+    public ResponseEntity<EnrollmentImportResultDTO> importEnrollments(HttpServletRequest request) {
+        try {
+            EnrollmentImportResultDTO result = enrollmentImportService.importEnrollments(request.getInputStream(), request.getContentType());
+            return ResponseEntity.ok(result);
+        } catch (InvalidDataException e) {
+            logger.error("Invalid enrollment import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IOException e) {
+            logger.error("Error reading enrollment import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            logger.error("Error importing enrollments: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
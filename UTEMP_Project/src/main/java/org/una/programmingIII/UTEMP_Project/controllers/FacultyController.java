@@ -13,15 +13,20 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.DepartmentDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.FacultyDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.faculty.FacultyService;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
@@ -31,10 +36,12 @@ public class FacultyController {
 
     private static final Logger logger = LoggerFactory.getLogger(FacultyController.class);
     private final FacultyService facultyService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public FacultyController(FacultyService facultyService) {
+    public FacultyController(FacultyService facultyService, ResourceVersionService resourceVersionService) {
         this.facultyService = facultyService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Operation(
@@ -72,13 +79,14 @@ public class FacultyController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_FACULTIES')")
-    public ResponseEntity<PageDTO<FacultyDTO>> getAllFaculties(Pageable pageable) {
+    @RequiresPermission(UserPermission.MANAGE_FACULTIES)
+    public ResponseEntity<PageDTO<FacultyDTO>> getAllFaculties(Pageable pageable, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<FacultyDTO> facultiesPage = facultyService.getAllFaculties(pageable);
-            PageDTO<FacultyDTO> facultiesDTOPage = PageConverter.convertPageToDTO(facultiesPage, facultyDTO -> facultyDTO);
-            logger.info("Fetched all faculties successfully.");
-            return ResponseEntity.ok(facultiesDTOPage);
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.FACULTY, ifNoneMatch, () -> {
+                Page<FacultyDTO> facultiesPage = facultyService.getAllFaculties(pageable);
+                logger.info("Fetched all faculties successfully.");
+                return PageConverter.convertPageToDTO(facultiesPage, facultyDTO -> facultyDTO);
+            });
 
         } catch (Exception e) {
             logger.error("Error retrieving faculties: {}", e.getMessage());
@@ -136,15 +144,16 @@ public class FacultyController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_FACULTIES')")
-    public ResponseEntity<FacultyDTO> getFacultyById(@Parameter(description = "ID of the faculty to retrieve") @PathVariable Long id) {
+    @RequiresPermission(UserPermission.MANAGE_FACULTIES)
+    public ResponseEntity<FacultyDTO> getFacultyById(@Parameter(description = "ID of the faculty to retrieve") @PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            return facultyService.getFacultyById(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> {
-                        logger.warn("Faculty not found with id: {}", id);
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-                    });
+            ResponseEntity<FacultyDTO> response = ConditionalResponses.getResource(resourceVersionService, ResourceKind.FACULTY,
+                    id, ifNoneMatch, () -> facultyService.getFacultyById(id), FacultyDTO::getLastUpdate);
+            if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+                logger.warn("Faculty not found with id: {}", id);
+            }
+            return response;
         } catch (Exception e) {
             logger.error("Error retrieving faculty with id {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -200,7 +209,7 @@ public class FacultyController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_FACULTIES')")
+    @RequiresPermission(UserPermission.MANAGE_FACULTIES)
     public ResponseEntity<FacultyDTO> createFaculty(@Valid @RequestBody FacultyDTO facultyDTO) {
         try {
             FacultyDTO createdFaculty = facultyService.createFaculty(facultyDTO);
@@ -278,7 +287,7 @@ public class FacultyController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_FACULTIES')")
+    @RequiresPermission(UserPermission.MANAGE_FACULTIES)
     public ResponseEntity<FacultyDTO> updateFaculty(@PathVariable Long id,
                                                     @Valid @RequestBody FacultyDTO facultyDTO) {
         try {
@@ -343,7 +352,7 @@ public class FacultyController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_FACULTIES')")
+    @RequiresPermission(UserPermission.MANAGE_FACULTIES)
     public ResponseEntity<Void> deleteFaculty(@PathVariable Long id) {
         try {
             facultyService.deleteFaculty(id);
@@ -405,13 +414,13 @@ public class FacultyController {
             )
     })
     @GetMapping("/university/{universityId}")
-    @PreAuthorize("hasAuthority('GET_UNIVERSITY_FACILITIES')")
+    @RequiresPermission(UserPermission.GET_UNIVERSITY_FACILITIES)
     public ResponseEntity<PageDTO<FacultyDTO>> getFacultiesByUniversityId(@PathVariable Long universityId,
-                                                                          Pageable pageable) {
+                                                                          Pageable pageable,
+                                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Page<FacultyDTO> facultiesPage = facultyService.getFacultiesByUniversityId(universityId, pageable);
-            PageDTO<FacultyDTO> facultiesDTOPage = PageConverter.convertPageToDTO(facultiesPage, facultyDTO -> facultyDTO);
-            return ResponseEntity.ok(facultiesDTOPage);
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.FACULTY, ifNoneMatch,
+                    () -> PageConverter.convertPageToDTO(facultyService.getFacultiesByUniversityId(universityId, pageable), facultyDTO -> facultyDTO));
 
         } catch (Exception e) {
             logger.error("Error retrieving faculties for university {}: {}", universityId, e.getMessage());
@@ -466,7 +475,7 @@ public class FacultyController {
             )
     })
     @PostMapping("/{facultyId}/departments")
-    @PreAuthorize("hasAuthority('ADD_FACULTY_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.ADD_FACULTY_DEPARTMENTS)
     public ResponseEntity<Void> addDepartmentToFaculty(@PathVariable Long facultyId,
                                                        @Valid @RequestBody DepartmentDTO departmentDTO) {
         try {
@@ -527,7 +536,7 @@ public class FacultyController {
             )
     })
     @DeleteMapping("/{facultyId}/departments/{departmentId}")
-    @PreAuthorize("hasAuthority('REMOVE_FACULTY_DEPARTMENTS')")
+    @RequiresPermission(UserPermission.REMOVE_FACULTY_DEPARTMENTS)
     public ResponseEntity<Void> removeDepartmentFromFaculty(@PathVariable Long facultyId,
                                                             @PathVariable Long departmentId) {
         try {
@@ -15,25 +15,42 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.una.programmingIII.UTEMP_Project.controllers.request.CalificationRequest;
+import org.una.programmingIII.UTEMP_Project.dtos.GradeBatchResultDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.GradeDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.GradebookDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+import org.una.programmingIII.UTEMP_Project.services.grade.GradeBatchService;
 import org.una.programmingIII.UTEMP_Project.services.grade.GradeService;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookService;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/utemp/grades")
 public class GradeController {
 
     private static final Logger logger = LoggerFactory.getLogger(GradeController.class);
     private final GradeService gradeService;
+    private final GradeBatchService gradeBatchService;
+    private final GradebookService gradebookService;
 
     @Autowired
-    public GradeController(GradeService gradeService) {
+    public GradeController(GradeService gradeService, GradeBatchService gradeBatchService, GradebookService gradebookService) {
         this.gradeService = gradeService;
+        this.gradeBatchService = gradeBatchService;
+        this.gradebookService = gradebookService;
     }
 
     @Operation(
@@ -64,7 +81,7 @@ public class GradeController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_GRADES')")
+    @RequiresPermission(UserPermission.MANAGE_GRADES)
     public ResponseEntity<PageDTO<GradeDTO>> getAllGrades(Pageable pageable) {
         try {
             Page<GradeDTO> gradesPage = gradeService.getAllGrades(pageable);
@@ -108,7 +125,7 @@ public class GradeController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_GRADES')")
+    @RequiresPermission(UserPermission.MANAGE_GRADES)
     public ResponseEntity<GradeDTO> getGradeById(
             @Parameter(description = "ID of the grade to retrieve", required = true) @PathVariable Long id) {
         try {
@@ -158,7 +175,7 @@ public class GradeController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_GRADES')")
+    @RequiresPermission(UserPermission.MANAGE_GRADES)
     public ResponseEntity<GradeDTO> createGrade(
             @Parameter(description = "Grade data to create", required = true) @Valid @RequestBody GradeDTO gradeDTO) {
         try {
@@ -210,7 +227,7 @@ public class GradeController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_GRADES')")
+    @RequiresPermission(UserPermission.MANAGE_GRADES)
     public ResponseEntity<GradeDTO> updateGrade(
             @Parameter(description = "ID of the grade to update", required = true) @PathVariable Long id,
             @Valid @RequestBody GradeDTO gradeDTO) {
@@ -263,7 +280,7 @@ public class GradeController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_GRADES')")
+    @RequiresPermission(UserPermission.MANAGE_GRADES)
     public ResponseEntity<Void> deleteGrade(
             @Parameter(description = "ID of the grade to delete", required = true) @PathVariable Long id) {
         try {
@@ -307,7 +324,8 @@ public class GradeController {
             )
     })
     @GetMapping("/submissions/{submissionId}/grades")
-    @PreAuthorize("hasAuthority('GET_SUBMISSION_GRADES')")
+    @RequiresPermission(UserPermission.GET_SUBMISSION_GRADES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId")
     public ResponseEntity<PageDTO<GradeDTO>> getGradesBySubmissionId(
             @Parameter(description = "ID of the submission to retrieve grades for", required = true)
             @PathVariable Long submissionId, Pageable pageable) {
@@ -325,4 +343,123 @@ public class GradeController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    @Operation(
+            summary = "Grade submissions in batch",
+            description = "Create or update the grades of a whole gradebook in a single transaction. Every entry is validated before anything is saved."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Grades saved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GradeBatchResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid data.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Invalid data.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Some submissions belong to courses the user does not teach.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Access denied.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Submission not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Submission not found.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Internal server error.\"}")
+                    )
+            )
+    })
+    @PostMapping("/batch")
+    @RequiresPermission(UserPermission.EVALUATE_SUBMISSIONS)
+    public ResponseEntity<GradeBatchResultDTO> gradeSubmissions(
+            @Parameter(description = "Grades to save, one per submission", required = true)
+            @RequestBody List<CalificationRequest> califications) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails grader = authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                ? userDetails : null;
+        try {
+            GradeBatchResultDTO result = gradeBatchService.gradeSubmissions(califications, grader);
+            logger.info("Batch grading saved {} grades", califications.size());
+            return ResponseEntity.ok(result);
+        } catch (InvalidDataException e) {
+            logger.warn("Invalid gradebook: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (AccessDeniedException e) {
+            logger.warn("Batch grading rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (ResourceNotFoundException e) {
+            logger.warn("Batch grading failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            logger.error("Error while grading submissions in batch: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(
+            summary = "Get course gradebook",
+            description = "Retrieve the student x assignment grade matrix of a course, with averages per student, per assignment and the grade distribution."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Gradebook retrieved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GradebookDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Course not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Course not found.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Internal server error.\"}")
+                    )
+            )
+    })
+    @GetMapping("/courses/{courseId}/gradebook")
+    @RequiresPermission(UserPermission.GET_COURSE_GRADEBOOK)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId", level = RequiresOwnership.Level.TEACHER)
+    public ResponseEntity<GradebookDTO> getCourseGradebook(
+            @Parameter(description = "ID of the course", required = true) @PathVariable Long courseId) {
+        try {
+            return ResponseEntity.ok(gradebookService.getCourseGradebook(courseId));
+        } catch (ResourceNotFoundException e) {
+            logger.warn("Course not found with ID: {}", courseId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            logger.error("Error while fetching gradebook for course ID {}: {}", courseId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package org.una.programmingIII.UTEMP_Project.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.una.programmingIII.UTEMP_Project.dtos.HierarchyNodeDTO;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchySnapshot;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/utemp/hierarchy")
+public class HierarchyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(HierarchyController.class);
+    private final HierarchyIndex hierarchyIndex;
+    private final ResourceVersionService resourceVersionService;
+
+    @Autowired
+    public HierarchyController(HierarchyIndex hierarchyIndex, ResourceVersionService resourceVersionService) {
+        this.hierarchyIndex = hierarchyIndex;
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @Operation(
+            summary = "Get the academic hierarchy",
+            description = """
+                    Returns every university with its faculties, departments and courses (id and name only),
+                    ordered by name. The tree is served from memory and supports If-None-Match.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Hierarchy retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = HierarchyNodeDTO.class)),
+                            examples = @ExampleObject(value = "[{\"id\": 1, \"name\": \"National University\", \"children\": [{\"id\": 3, \"name\": \"Engineering\", \"children\": []}]}]")
+                    )
+            ),
+            @ApiResponse(responseCode = "304", description = "The hierarchy has not changed since the given ETag"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/tree")
+    public ResponseEntity<List<HierarchyNodeDTO>> getHierarchyTree(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            HierarchySnapshot snapshot = hierarchyIndex.getSnapshot();
+            String eTag = "\"hierarchy-" + Long.toString(snapshot.getVersion(), 36) + "\"";
+            // El arbol solo tiene nombres de universidades a cursos, asi que usa la politica de la jerarquia
+            return ConditionalResponses.getVersioned(eTag, resourceVersionService.getCacheControl(ResourceKind.UNIVERSITY),
+                    ifNoneMatch, snapshot::getTree);
+        } catch (Exception e) {
+            logger.error("Error retrieving hierarchy tree: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
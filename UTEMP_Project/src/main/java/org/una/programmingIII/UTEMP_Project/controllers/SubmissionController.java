@@ -15,7 +15,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.FileMetadatumDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.GradeDTO;
@@ -23,6 +22,9 @@ import org.una.programmingIII.UTEMP_Project.dtos.SubmissionDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
 import org.una.programmingIII.UTEMP_Project.models.Grade;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.autoReview.AutoReviewService;
 import org.una.programmingIII.UTEMP_Project.services.submission.SubmissionService;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
@@ -67,7 +69,7 @@ public class SubmissionController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.MANAGE_SUBMISSIONS)
     public ResponseEntity<PageDTO<SubmissionDTO>> getAllSubmissions(Pageable pageable) {
         try {
             Page<SubmissionDTO> submissionsPage = submissionService.getAllSubmissions(pageable);
@@ -110,7 +112,8 @@ public class SubmissionController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.MANAGE_SUBMISSIONS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "id")
     public ResponseEntity<SubmissionDTO> getSubmissionById(
             @Parameter(description = "ID of the submission to retrieve", required = true) @PathVariable Long id) {
         try {
@@ -158,7 +161,7 @@ public class SubmissionController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.MANAGE_SUBMISSIONS)
     public ResponseEntity<SubmissionDTO> createSubmission(
             @Valid @RequestBody SubmissionDTO submissionDTO) {
         try {
@@ -220,7 +223,8 @@ public class SubmissionController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.MANAGE_SUBMISSIONS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "id")
     public ResponseEntity<SubmissionDTO> updateSubmission(
             @Parameter(description = "ID of the submission to update", required = true) @PathVariable Long id,
             @Valid @RequestBody SubmissionDTO submissionDTO) {
@@ -267,7 +271,8 @@ public class SubmissionController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.MANAGE_SUBMISSIONS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "id")
     public ResponseEntity<Void> deleteSubmission(
             @Parameter(description = "ID of the submission to delete", required = true) @PathVariable Long id) {
         try {
@@ -301,7 +306,8 @@ public class SubmissionController {
             )
     })
     @GetMapping("/assignment/{assignmentId}")
-    @PreAuthorize("hasAuthority('GET_ASSIGNMENT_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.GET_ASSIGNMENT_SUBMISSIONS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "assignmentId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<PageDTO<SubmissionDTO>> getSubmissionsByAssignmentId(
             @Parameter(description = "ID of the assignment", required = true) @PathVariable Long assignmentId,
             Pageable pageable) {
@@ -367,7 +373,8 @@ public class SubmissionController {
             )
     })
     @PostMapping("/{submissionId}/file-metadata")
-    @PreAuthorize("hasAuthority('ADD_SUBMISSION_FILES')")
+    @RequiresPermission(UserPermission.ADD_SUBMISSION_FILES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId")
     public ResponseEntity<FileMetadatumDTO> addFileMetadatumToSubmission(
             @Parameter(description = "ID of the submission", required = true) @PathVariable Long submissionId,
             @Valid @RequestBody FileMetadatumDTO fileMetadatumDTO) {
@@ -425,7 +432,8 @@ public class SubmissionController {
             )
     })
     @PostMapping("/{submissionId}/grades")
-    @PreAuthorize("hasAuthority('ADD_SUBMISSION_GRADES')")
+    @RequiresPermission(UserPermission.ADD_SUBMISSION_GRADES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<GradeDTO> addGradeToSubmission(
             @Parameter(description = "ID of the submission", required = true) @PathVariable Long submissionId,
             @Valid @RequestBody GradeDTO gradeDTO) {
@@ -475,7 +483,8 @@ public class SubmissionController {
             )
     })
     @DeleteMapping("/{submissionId}/file-metadata/{fileMetadatumId}")
-    @PreAuthorize("hasAuthority('REMOVE_SUBMISSION_FILES')")
+    @RequiresPermission(UserPermission.REMOVE_SUBMISSION_FILES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId")
     public ResponseEntity<Void> removeFileMetadatumFromSubmission(@PathVariable Long submissionId,
                                                                   @PathVariable Long fileMetadatumId) {
         try {
@@ -522,7 +531,8 @@ public class SubmissionController {
             )
     })
     @DeleteMapping("/{submissionId}/grades/{gradeId}")
-    @PreAuthorize("hasAuthority('REMOVE_SUBMISSION_GRADES')")
+    @RequiresPermission(UserPermission.REMOVE_SUBMISSION_GRADES)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> removeGradeFromSubmission(@PathVariable Long submissionId,
                                                           @PathVariable Long gradeId) {
         try {
@@ -538,7 +548,8 @@ public class SubmissionController {
     }
 
     @PutMapping("/{submissionId}/{gradeValue}")
-    @PreAuthorize("hasAuthority('EVALUATE_SUBMISSIONS')")
+    @RequiresPermission(UserPermission.EVALUATE_SUBMISSIONS)
+    @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId", level = RequiresOwnership.Level.TEACHER)
     public ResponseEntity<Void> manualReviewSubmission(@PathVariable Long submissionId, @PathVariable Double gradeValue, @RequestBody String comments) {
         Optional<Grade> grade = submissionService.manualReviewSubmission(submissionId, gradeValue, comments);
         if (grade.isPresent()) {
@@ -11,17 +11,21 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.FacultyDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.UniversityDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.university.UniversityService;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
@@ -33,10 +37,12 @@ public class UniversityController {
 
     private static final Logger logger = LoggerFactory.getLogger(UniversityController.class);
     private final UniversityService universityService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public UniversityController(UniversityService universityService) {
+    public UniversityController(UniversityService universityService, ResourceVersionService resourceVersionService) {
         this.universityService = universityService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Operation(
@@ -63,17 +69,14 @@ public class UniversityController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_UNIVERSITIES')")
-    public ResponseEntity<PageDTO<UniversityDTO>> getAllUniversities(Pageable pageable) {
+    @RequiresPermission(UserPermission.MANAGE_UNIVERSITIES)
+    public ResponseEntity<PageDTO<UniversityDTO>> getAllUniversities(Pageable pageable,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching all universities with pagination");
         try {
-            Page<UniversityDTO> universitiesPage = universityService.getAllUniversities(pageable);
-
             // Convertir la página a PageDTO usando PageConverter
-            PageDTO<UniversityDTO> universityDTOPage = PageConverter.convertPageToDTO(universitiesPage, universityDTO -> universityDTO);
-
-            // Retornar la respuesta con el PageDTO
-            return ResponseEntity.ok(universityDTOPage);
+            return ConditionalResponses.getCollection(resourceVersionService, ResourceKind.UNIVERSITY, ifNoneMatch,
+                    () -> PageConverter.convertPageToDTO(universityService.getAllUniversities(pageable), universityDTO -> universityDTO));
         } catch (Exception e) {
             logger.error("Error fetching universities: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -113,17 +116,14 @@ public class UniversityController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_UNIVERSITIES')")
+    @RequiresPermission(UserPermission.MANAGE_UNIVERSITIES)
     public ResponseEntity<UniversityDTO> getUniversityById(
-            @Parameter(description = "ID of the university to retrieve", required = true) @PathVariable Long id) {
+            @Parameter(description = "ID of the university to retrieve", required = true) @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching university with ID: {}", id);
         try {
-            Optional<UniversityDTO> university = universityService.getUniversityById(id);
-            return university.map(ResponseEntity::ok)
-                    .orElseGet(() -> {
-                        logger.warn("University with ID: {} not found", id);
-                        return ResponseEntity.notFound().build();
-                    });
+            return ConditionalResponses.getResource(resourceVersionService, ResourceKind.UNIVERSITY, id, ifNoneMatch,
+                    () -> universityService.getUniversityById(id), UniversityDTO::getLastUpdate);
         } catch (ResourceNotFoundException e) {
             logger.error("Resource not found for ID: {} - {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -165,7 +165,7 @@ public class UniversityController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_UNIVERSITIES')")
+    @RequiresPermission(UserPermission.MANAGE_UNIVERSITIES)
     public ResponseEntity<UniversityDTO> createUniversity(
             @Parameter(description = "University data to create", required = true) @Valid @RequestBody UniversityDTO universityDTO) {
         logger.info("Creating new university: {}", universityDTO);
@@ -221,7 +221,7 @@ public class UniversityController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_UNIVERSITIES')")
+    @RequiresPermission(UserPermission.MANAGE_UNIVERSITIES)
     public ResponseEntity<UniversityDTO> updateUniversity(
             @Parameter(description = "ID of the university to update", required = true) @PathVariable Long id,
             @Valid @RequestBody UniversityDTO universityDTO) {
@@ -280,7 +280,7 @@ public class UniversityController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_UNIVERSITIES')")
+    @RequiresPermission(UserPermission.MANAGE_UNIVERSITIES)
     public ResponseEntity<Void> deleteUniversity(
             @Parameter(description = "ID of the university to delete", required = true) @PathVariable Long id) {
         logger.info("Deleting university with ID: {}", id);
@@ -334,7 +334,7 @@ public class UniversityController {
             )
     })
     @PostMapping("/{universityId}/faculties")
-    @PreAuthorize("hasAuthority('ADD_UNIVERSITY_FACULTIES')")
+    @RequiresPermission(UserPermission.ADD_UNIVERSITY_FACULTIES)
     public ResponseEntity<Void> addFacultyToUniversity(
             @Parameter(description = "ID of the university to which the faculty will be added", required = true) @PathVariable Long universityId,
             @Valid @RequestBody FacultyDTO facultyDTO) {
@@ -382,7 +382,7 @@ public class UniversityController {
             )
     })
     @DeleteMapping("/{universityId}/faculties/{facultyId}")
-    @PreAuthorize("hasAuthority('REMOVE_UNIVERSITY_FACULTIES')")
+    @RequiresPermission(UserPermission.REMOVE_UNIVERSITY_FACULTIES)
     public ResponseEntity<Void> removeFacultyFromUniversity(
             @Parameter(description = "ID of the university", required = true) @PathVariable Long universityId,
             @PathVariable Long facultyId) {
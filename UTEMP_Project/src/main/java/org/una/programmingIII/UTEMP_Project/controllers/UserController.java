@@ -7,12 +7,14 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,14 +24,20 @@ import org.springframework.web.bind.annotation.*;
 import org.una.programmingIII.UTEMP_Project.dtos.CourseDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentDTO;
 import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ServiceBusyException;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
 import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
 import org.una.programmingIII.UTEMP_Project.services.UserService;
+import org.una.programmingIII.UTEMP_Project.services.userImport.UserImportService;
 import org.una.programmingIII.UTEMP_Project.utils.PageConverter;
 import org.una.programmingIII.UTEMP_Project.utils.PageDTO;
 
+import java.io.IOException;
 import java.util.Optional;
 
 
@@ -39,9 +47,11 @@ public class UserController {
 
     private final Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserService userService;
+    private final UserImportService userImportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService) {
         this.userService = userService;
+        this.userImportService = userImportService;
     }
 
     @Operation(
@@ -116,7 +126,7 @@ public class UserController {
             )
     })
     @GetMapping
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<PageDTO<UserDTO>> getAllUsers(@PageableDefault Pageable pageable) {
         logger.info("Fetching all users with pagination");
         try {
@@ -155,7 +165,7 @@ public class UserController {
             )
     })
     @GetMapping("/usersByRole/{role}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<PageDTO<UserDTO>> getAllUsersByRole(@PathVariable UserRole role, @PageableDefault Pageable pageable) {
         logger.info("Fetching all users by role with pagination");
         try {
@@ -210,7 +220,7 @@ public class UserController {
             )
     })
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<UserDTO> getUserById(
             @Parameter(description = "ID of the user to retrieve") @PathVariable Long id) {
         try {
@@ -260,7 +270,7 @@ public class UserController {
             )
     })
     @GetMapping("/identification/{identificationNumber}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<UserDTO> getUserByIdentificationNumber(
             @Parameter(description = "Identification number of the user") @PathVariable String identificationNumber) {
         try {
@@ -307,7 +317,7 @@ public class UserController {
             )
     })
     @GetMapping("/role/{role}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<UserDTO> getUserByRole(
             @Parameter(description = "Identification number of the user") @PathVariable UserRole role) {
         try {
@@ -354,7 +364,7 @@ public class UserController {
             )
     })
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody UserDTO userDTO) {
         try {
             UserDTO createdUser = userService.createUser(userDTO);
@@ -409,7 +419,7 @@ public class UserController {
             )
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<UserDTO> updateUser(@PathVariable Long id,
                                               @Valid @RequestBody UserDTO userDTO) {
         try {
@@ -457,7 +467,7 @@ public class UserController {
             )
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_USERS')")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         try {
             boolean deleted = userService.deleteUser(id);
@@ -496,7 +506,7 @@ public class UserController {
             )
     })
     @GetMapping("/{id}/courses")
-    @PreAuthorize("hasAuthority('GET_TEACHER_COURSES')")
+    @RequiresPermission(UserPermission.GET_TEACHER_COURSES)
     public ResponseEntity<PageDTO<CourseDTO>> getCoursesTeachingByUserId(@PathVariable Long id,
                                                                          Pageable pageable) {
         try {
@@ -551,7 +561,7 @@ public class UserController {
             )
     })
     @PostMapping("/{userId}/courses/{courseId}")
-    @PreAuthorize("hasAuthority('ADD_TEACHER_COURSES')")
+    @RequiresPermission(UserPermission.ADD_TEACHER_COURSES)
     public ResponseEntity<Void> assignCourseToTeacher(@PathVariable Long userId,
                                                       @PathVariable Long courseId) {
         try {
@@ -596,7 +606,7 @@ public class UserController {
             )
     })
     @DeleteMapping("/{userId}/courses/{courseId}")
-    @PreAuthorize("hasAuthority('REMOVE_TEACHER_COURSE')")
+    @RequiresPermission(UserPermission.REMOVE_TEACHER_COURSE)
     public ResponseEntity<Void> removeCourseFromTeacher(@PathVariable Long userId,
                                                         @PathVariable Long courseId) {
         try {
@@ -642,7 +652,7 @@ public class UserController {
             )
     })
     @GetMapping("/{userId}/enrollments")
-    @PreAuthorize("hasAuthority('GET_STUDENT_ENROLLMENTS')")
+    @RequiresPermission(UserPermission.GET_STUDENT_ENROLLMENTS)
     public ResponseEntity<PageDTO<EnrollmentDTO>> retrieveEnrollmentsForUser(
             @PathVariable Long userId,
             Pageable pageable) {
@@ -695,7 +705,7 @@ public class UserController {
             )
     })
     @PostMapping("/{userId}/enrollments/{courseId}")
-    @PreAuthorize("hasAuthority('ADD_STUDENT_COURSES')")
+    @RequiresPermission(UserPermission.ADD_STUDENT_COURSES)
     public ResponseEntity<Void> registerUserForCourseEnrollment(
             @PathVariable Long userId,
             @PathVariable Long courseId) {
@@ -749,7 +759,7 @@ public class UserController {
             )
     })
     @DeleteMapping("/{userId}/enrollments/{courseId}")
-    @PreAuthorize("hasAuthority('REMOVE_STUDENT_COURSES')")
+    @RequiresPermission(UserPermission.REMOVE_STUDENT_COURSES)
     public ResponseEntity<Void> removeUserFromCourseEnrollment(
             @PathVariable Long userId,
             @PathVariable Long courseId) {
@@ -767,4 +777,102 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Import Users",
+            description = "Starts a bulk import of users from a CSV (identificationNumber,name,email,password,role[,state]) "
+                    + "or NDJSON body. The import runs in the background; poll its progress with the returned job ID."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Import accepted and queued.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserImportProgressDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty, unreadable or too large import.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"The user import does not contain any rows.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many imports in progress; retry after the Retry-After header.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Too many user imports in progress, try again later\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error starting the import.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Error importing users.\"}")
+                    )
+            )
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/x-ndjson"})
+    @RequiresPermission(UserPermission.MANAGE_USERS)
+    public ResponseEntity<UserImportProgressDTO> importUsers(HttpServletRequest request) {
+        try {
+            UserImportProgressDTO progress = userImportService.startImport(request.getInputStream(), request.getContentType());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(progress);
+        } catch (ServiceBusyException e) {
+            logger.warn("User import rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        } catch (InvalidDataException e) {
+            logger.error("Invalid user import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IOException e) {
+            logger.error("Error reading user import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            logger.error("Error importing users: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(
+            summary = "Get User Import Progress",
+            description = "Retrieves the progress of a bulk user import, including the rows that were skipped or failed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import progress retrieved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserImportProgressDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Import job not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Import job not found.\"}")
+                    )
+            )
+    })
+    @GetMapping("/import/{jobId}")
+    @RequiresPermission(UserPermission.MANAGE_USERS)
+    public ResponseEntity<UserImportProgressDTO> getImportProgress(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(userImportService.getImportProgress(jobId));
+        } catch (ResourceNotFoundException e) {
+            logger.warn("User import job {} not found", jobId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            logger.error("Error fetching user import job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
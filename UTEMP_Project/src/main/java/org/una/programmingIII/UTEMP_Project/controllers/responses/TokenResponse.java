@@ -4,7 +4,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.beans.factory.annotation.Value;
 import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
 
 @Getter
@@ -17,6 +16,6 @@ public class TokenResponse {
     private String tokenType; //"Bearer",
     @NotNull(message = "Password must not be null")
     private UserDTO user;
-//    @Value("${jwt.expiration.access}")
-    private int expiresIn; //3600
+    private String refreshToken;
+    private int expiresIn; //900 (segundos de vida del access token)
 }
@@ -0,0 +1,47 @@
+package org.una.programmingIII.UTEMP_Project.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentImportResultDTO {
+
+    private int totalRows;
+
+    private int created;
+
+    private int skipped;
+
+    private int failed;
+
+    private List<RowResult> rows;
+
+    public enum RowStatus {
+        CREATED,
+        DUPLICATED_IN_FILE,
+        ALREADY_ENROLLED,
+        USER_NOT_FOUND,
+        COURSE_NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+        private long line;
+        private String identificationNumber;
+        private Long courseId;
+        private RowStatus status;
+        private String message;
+    }
+}
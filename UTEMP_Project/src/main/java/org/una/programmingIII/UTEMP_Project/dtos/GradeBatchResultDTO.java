@@ -0,0 +1,23 @@
+package org.una.programmingIII.UTEMP_Project.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeBatchResultDTO {
+
+    private int received;
+
+    private int created;
+
+    private int updated;
+
+    private int notifiedStudents;
+
+    private int notifiedTeachers;
+}
@@ -0,0 +1,51 @@
+package org.una.programmingIII.UTEMP_Project.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradebookDTO {
+
+    private Long courseId;
+
+    private Double average;
+
+    private int gradedCount;
+
+    // distribution[i] = cantidad de notas en [i, i + 1), la ultima posicion incluye el 10
+    private int[] distribution;
+
+    private List<AssignmentColumn> assignments;
+
+    private List<StudentRow> students;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AssignmentColumn {
+        private Long id;
+        private String title;
+        private Double average;
+        private int gradedCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StudentRow {
+        private Long id;
+        private String name;
+        private Double average;
+        // Alineadas con assignments; null si no hay nota
+        private List<Double> grades;
+    }
+}
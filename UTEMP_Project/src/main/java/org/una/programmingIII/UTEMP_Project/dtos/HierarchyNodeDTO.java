@@ -0,0 +1,23 @@
+package org.una.programmingIII.UTEMP_Project.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HierarchyNodeDTO {
+
+    private Long id;
+
+    private String name;
+
+    @Builder.Default
+    private List<HierarchyNodeDTO> children = new ArrayList<>();
+}
@@ -0,0 +1,56 @@
+package org.una.programmingIII.UTEMP_Project.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportProgressDTO {
+
+    private Long jobId;
+
+    private JobStatus status;
+
+    private int processed;
+
+    private int created;
+
+    private int skipped;
+
+    private int failed;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSSS")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSSS")
+    private LocalDateTime finishedAt;
+
+    private String message;
+
+    private List<RowError> errors;
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private long line;
+        private String identificationNumber;
+        private String message;
+    }
+}
@@ -0,0 +1,14 @@
+package org.una.programmingIII.UTEMP_Project.exceptions;
+
+public class LoginThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
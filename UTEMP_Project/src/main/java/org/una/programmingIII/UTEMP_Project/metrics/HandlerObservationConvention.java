@@ -0,0 +1,20 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds the controller method that handled the request to {@code http.server.requests}, next to the default uri,
+ * method, status and outcome tags. Requests that never reached a controller are tagged {@code none}.
+ */
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(RequestMetricsInterceptor.HANDLER_TAG, RequestMetricsInterceptor.handlerName(handler));
+    }
+}
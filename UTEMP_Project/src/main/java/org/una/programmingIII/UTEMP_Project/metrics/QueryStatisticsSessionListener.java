@@ -0,0 +1,43 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate creates one instance per session ({@code hibernate.session.events.auto}) and calls it around every
+ * statement and batch the session executes; each one is added to the statistics of the request running on the
+ * thread. A JDBC batch counts as one statement, as it is one round trip.
+ */
+public class QueryStatisticsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static void record(long start) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null && start != 0) {
+            statistics.statementExecuted(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records, per controller method and outcome, how many statements a request sent to the database and how long
+ * they took ({@code utemp.http.db.statements} and {@code utemp.http.db.time}). A handler whose statement count
+ * grows with the page size is loading an association per row. Streaming responses are measured up to the point
+ * the handler returns.
+ * <p>
+ * A request over the statement threshold, or that prepared one statement fingerprint more times than the
+ * repetition threshold (the shape of an N+1 load), is logged with its most repeated fingerprints and counted in
+ * {@code utemp.http.db.flagged}. A threshold of 0 disables that check. The statistics stay on the request as
+ * {@link RequestQueryStatistics#REQUEST_ATTRIBUTE} for tests.
+ */
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsInterceptor.class);
+
+    public static final String STATEMENTS_METRIC = "utemp.http.db.statements";
+    public static final String TIME_METRIC = "utemp.http.db.time";
+    public static final String FLAGGED_METRIC = "utemp.http.db.flagged";
+    public static final String HANDLER_TAG = "handler";
+
+    private static final int REPORTED_FINGERPRINTS = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final int repetitionThreshold;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, int statementThreshold, int repetitionThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.repetitionThreshold = repetitionThreshold;
+    }
+
+    public static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // El despacho asincrono de una respuesta en streaming ya se midio en el primer despacho
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            RequestQueryStatistics.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request, response, handler);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request, response, handler);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void record(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.end();
+        if (statistics == null) {
+            return;
+        }
+        request.setAttribute(RequestQueryStatistics.REQUEST_ATTRIBUTE, statistics);
+        String handlerName = handlerName(handler);
+        String outcome = Outcome.forStatus(response.getStatus()).name();
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("JDBC statements executed while handling a request")
+                .baseUnit("statements")
+                .tag(HANDLER_TAG, handlerName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        Timer.builder(TIME_METRIC)
+                .description("Time spent executing JDBC statements while handling a request")
+                .tag(HANDLER_TAG, handlerName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        guard(request, handlerName, statistics);
+    }
+
+    private void guard(HttpServletRequest request, String handlerName, RequestQueryStatistics statistics) {
+        boolean tooMany = statementThreshold > 0 && statistics.getStatements() > statementThreshold;
+        boolean repeated = repetitionThreshold > 0 && statistics.getMaxRepetitions() > repetitionThreshold;
+        if (!tooMany && !repeated) {
+            return;
+        }
+        String reason = repeated ? "repeated" : "statements";
+        Counter.builder(FLAGGED_METRIC)
+                .description("Requests over the statement count or statement repetition threshold")
+                .tag(HANDLER_TAG, handlerName)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        logger.warn("{} {} ({}) executed {} statements in {} ms{}; most repeated: {}",
+                request.getMethod(), request.getRequestURI(), handlerName, statistics.getStatements(),
+                TimeUnit.NANOSECONDS.toMillis(statistics.getElapsedNanos()),
+                repeated ? ", likely N+1" : "", describe(statistics));
+    }
+
+    private static String describe(RequestQueryStatistics statistics) {
+        return statistics.mostRepeated(REPORTED_FINGERPRINTS).stream()
+                .map(entry -> entry.getValue() + "x [" + entry.getKey() + "]")
+                .collect(Collectors.joining(", "));
+    }
+}
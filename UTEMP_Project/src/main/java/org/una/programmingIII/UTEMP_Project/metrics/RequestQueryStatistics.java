@@ -0,0 +1,75 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC statements run by the current request, across every Hibernate session it opens. The request thread starts
+ * and ends the scope ({@link RequestMetricsInterceptor}); {@link QueryStatisticsSessionListener} adds executions and
+ * {@link StatementFingerprintInspector} the SQL prepared, grouped by fingerprint. Work outside a request (scheduled
+ * or async tasks) is not counted unless a scope is opened around it.
+ */
+public final class RequestQueryStatistics {
+
+    public static final String REQUEST_ATTRIBUTE = RequestQueryStatistics.class.getName();
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+    private final Map<String, Integer> fingerprints = new HashMap<>();
+
+    private RequestQueryStatistics() {
+    }
+
+    public static RequestQueryStatistics begin() {
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static RequestQueryStatistics end() {
+        RequestQueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    void statementPrepared(String fingerprint) {
+        fingerprints.merge(fingerprint, 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public Map<String, Integer> getFingerprints() {
+        return Map.copyOf(fingerprints);
+    }
+
+    public int getMaxRepetitions() {
+        return fingerprints.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public List<Map.Entry<String, Integer>> mostRepeated(int limit) {
+        return fingerprints.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * Registered as {@code hibernate.session_factory.statement_inspector}: adds the fingerprint of every statement
+ * Hibernate prepares to the current request's {@link RequestQueryStatistics} and returns the SQL unchanged. The
+ * fingerprint replaces literals and {@code IN} lists with placeholders, so the per-row queries of an N+1 load
+ * share one fingerprint however their parameters differ.
+ */
+public class StatementFingerprintInspector implements StatementInspector {
+
+    private static final int MAX_FINGERPRINT_LENGTH = 300;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null) {
+            statistics.statementPrepared(fingerprint(sql));
+        }
+        return sql;
+    }
+
+    public static String fingerprint(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (...)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return fingerprint.length() > MAX_FINGERPRINT_LENGTH
+                ? fingerprint.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : fingerprint;
+    }
+}
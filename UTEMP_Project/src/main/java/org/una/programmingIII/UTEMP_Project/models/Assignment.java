@@ -8,6 +8,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookLabelListener;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndexListener;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -20,10 +23,12 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners({OwnershipIndexListener.class, ResourceVersionListener.class, GradebookLabelListener.class})
 @Table(name = "assignments")
 public class Assignment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignments_seq")
+    @SequenceGenerator(name = "assignments_seq", sequenceName = "assignments_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
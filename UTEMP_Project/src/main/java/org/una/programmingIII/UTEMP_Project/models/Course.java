@@ -6,7 +6,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndexListener;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,10 +21,13 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.course")
+@EntityListeners({OwnershipIndexListener.class, ResourceVersionListener.class})
 @Table(name = "courses")
 public class Course implements Identifiable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
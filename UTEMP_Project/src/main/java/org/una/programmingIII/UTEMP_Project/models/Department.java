@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,10 +19,13 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.department")
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "departments")
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -34,6 +40,7 @@ public class Department {
     private Faculty faculty = new Faculty();
 
     @OneToMany(mappedBy = "department")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.department.courses")
     @Builder.Default
     private List<Course> courses = new ArrayList<>();
 
@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndexListener;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 
@@ -15,10 +17,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "enrollments")
+@EntityListeners({OwnershipIndexListener.class, ResourceVersionListener.class})
+@Table(name = "enrollments", uniqueConstraints = @UniqueConstraint(name = "uk_enrollments_student_course",
+        columnNames = {"student_id", "course_id"}))
 public class Enrollment implements Identifiable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_seq")
+    @SequenceGenerator(name = "enrollments_seq", sequenceName = "enrollments_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,10 +20,13 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.faculty")
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "faculties")
 public class Faculty {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faculties_seq")
+    @SequenceGenerator(name = "faculties_seq", sequenceName = "faculties_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -36,6 +42,7 @@ public class Faculty {
     private University university = new University();
 
     @OneToMany(mappedBy = "faculty")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.faculty.departments")
     @Builder.Default
     private List<Department> departments = new ArrayList<>();
 
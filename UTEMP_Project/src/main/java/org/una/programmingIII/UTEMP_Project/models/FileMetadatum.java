@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "file_metadata")
 public class FileMetadatum implements Identifiable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_metadata_seq")
+    @SequenceGenerator(name = "file_metadata_seq", sequenceName = "file_metadata_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookGradeListener;
 
 import java.time.LocalDateTime;
 
@@ -16,10 +17,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(GradebookGradeListener.class)
 @Table(name = "grades")
 public class Grade {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grades_seq")
+    @SequenceGenerator(name = "grades_seq", sequenceName = "grades_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
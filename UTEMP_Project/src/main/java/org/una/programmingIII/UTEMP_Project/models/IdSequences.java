@@ -0,0 +1,15 @@
+package org.una.programmingIII.UTEMP_Project.models;
+
+/**
+ * Every entity takes its id from its own {@code <table>_seq} sequence (V3__sequence_ids.sql). Hibernate reserves
+ * {@link #ALLOCATION_SIZE} ids per call to the sequence with the pooled-lo optimizer, which lets inserts be batched.
+ * If the increment of a sequence is changed in the database, Hibernate follows it at startup
+ * ({@code hibernate.id.sequence.increment_size_mismatch_strategy=fix}).
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndexListener;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,10 +21,12 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners({OwnershipIndexListener.class, ResourceVersionListener.class})
 @Table(name = "submissions")
 public class Submission implements Identifiable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submissions_seq")
+    @SequenceGenerator(name = "submissions_seq", sequenceName = "submissions_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,10 +20,13 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.university")
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "universities")
 public class University {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "universities_seq")
+    @SequenceGenerator(name = "universities_seq", sequenceName = "universities_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -34,6 +40,7 @@ public class University {
     private String location;
 
     @OneToMany(mappedBy = "university")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utemp.university.faculties")
     @Builder.Default
     private List<Faculty> faculties = new ArrayList<>();
 
@@ -11,23 +11,26 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.security.utils.AuthorityCache;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookLabelListener;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionListener;
 import org.una.programmingIII.UTEMP_Project.transformers.converters.UserPermissionConverter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners({ResourceVersionListener.class, GradebookLabelListener.class})
 @Table(name = "users")
 public class User implements Identifiable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -78,29 +81,24 @@ public class User implements Identifiable {
     private UserRole role;
 
     @Convert(converter = UserPermissionConverter.class)
-    @Column(name = "permissions", nullable = false, length = 800)
+    @Column(name = "permission_mask", nullable = false)
+    @ColumnDefault("0")
     @Builder.Default
-    private List<UserPermission> permissions = new ArrayList<>();
+    private Set<UserPermission> permissions = EnumSet.noneOf(UserPermission.class);
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     @Column(nullable = false)
     private LocalDateTime lastUpdate;
 
+    public void setPermissions(Collection<UserPermission> permissions) {
+        this.permissions = permissions == null || permissions.isEmpty()
+                ? EnumSet.noneOf(UserPermission.class)
+                : EnumSet.copyOf(permissions);
+    }
+
     @Transient
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-
-        if (role != null) {
-            authorities.add(new SimpleGrantedAuthority(role.name()));
-        }
-
-        if (permissions != null) {
-            for (UserPermission permission : permissions) {
-                authorities.add(new SimpleGrantedAuthority(permission.name()));
-            }
-        }
-
-        return authorities;
+        return AuthorityCache.forUser(role, PermissionBitset.mask(permissions));
     }
 
     @PrePersist
@@ -61,5 +61,6 @@ public enum UserPermission {
     EVALUATE_SUBMISSIONS,
 
     // GRADE PERMISSIONS
-    GET_SUBMISSION_GRADES
+    GET_SUBMISSION_GRADES,
+    GET_COURSE_GRADEBOOK
 }
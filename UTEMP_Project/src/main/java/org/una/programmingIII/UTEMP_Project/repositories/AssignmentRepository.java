@@ -7,7 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Assignment;
 
+import java.util.Optional;
+
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     @Query("SELECT a FROM Assignment a WHERE a.course.id = :courseId")
     Page<Assignment> findByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    @Query("SELECT a.course.id FROM Assignment a WHERE a.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
 }
@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Course;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.teacher.id = :teacherId")
     Page<Course> findByTeacherId(@Param("teacherId") Long teacherId, Pageable pageable);
@@ -14,4 +17,12 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c JOIN FETCH c.teacher WHERE c.department.id = :departmentId")
     Page<Course> findByDepartmentIdWithTeacher(@Param("departmentId") Long departmentId, Pageable pageable);
 
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Course c WHERE c.teacher.id = :teacherId")
+    List<Long> findIdsByTeacherId(@Param("teacherId") Long teacherId);
+
+    @Query("SELECT c.id, c.name, c.department.id FROM Course c")
+    List<Object[]> findHierarchyRows();
 }
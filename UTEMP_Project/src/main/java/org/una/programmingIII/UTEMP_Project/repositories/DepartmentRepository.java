@@ -1,13 +1,26 @@
 package org.una.programmingIII.UTEMP_Project.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Department;
 
+import java.util.List;
+
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+    @Override
+    Page<Department> findAll(Pageable pageable);
+
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
     @Query("SELECT d FROM Department d WHERE d.faculty.id = :facultyId")
     Page<Department> findByFacultyId(@Param("facultyId") Long facultyId, Pageable pageable);
+
+    @Query("SELECT d.id, d.name, d.faculty.id FROM Department d")
+    List<Object[]> findHierarchyRows();
 }
@@ -7,8 +7,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Course;
 import org.una.programmingIII.UTEMP_Project.models.Enrollment;
+import org.una.programmingIII.UTEMP_Project.models.EnrollmentState;
 import org.una.programmingIII.UTEMP_Project.models.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -19,4 +22,10 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     @Query("SELECT e FROM Enrollment e WHERE e.student.id = :studentId")
     Page<Enrollment> findByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e WHERE e.student.id IN :studentIds AND e.course.id IN :courseIds")
+    List<Object[]> findStudentAndCourseIds(@Param("studentIds") Collection<Long> studentIds, @Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.state <> :excludedState")
+    List<Long> findCourseIdsByStudentId(@Param("studentId") Long studentId, @Param("excludedState") EnrollmentState excludedState);
 }
@@ -1,13 +1,26 @@
 package org.una.programmingIII.UTEMP_Project.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Faculty;
 
+import java.util.List;
+
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+    @Override
+    Page<Faculty> findAll(Pageable pageable);
+
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
     @Query("SELECT f FROM Faculty f WHERE f.university.id = :universityId")
     Page<Faculty> findByUniversityId(@Param("universityId") Long universityId, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT f.id, f.name, f.university.id FROM Faculty f")
+    List<Object[]> findHierarchyRows();
+}
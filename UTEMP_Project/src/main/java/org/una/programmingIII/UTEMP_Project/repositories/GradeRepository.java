@@ -6,7 +6,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Grade;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookEntry;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GradeRepository extends JpaRepository<Grade, Long> {
@@ -14,4 +17,14 @@ public interface GradeRepository extends JpaRepository<Grade, Long> {
     Page<Grade> findBySubmissionsId(@Param("submissionId") Long submissionId, Pageable pageable);
 
     Optional<Grade> findBySubmissionId(Long submissionId);
+
+    List<Grade> findBySubmissionIdInOrderByIdDesc(Collection<Long> submissionIds);
+
+    @Query("SELECT new org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookEntry(g.id, c.id, st.id, st.name, a.id, a.title, g.grade) " +
+            "FROM Grade g JOIN g.submission s JOIN s.student st JOIN s.assignment a JOIN a.course c WHERE c.id = :courseId ORDER BY g.id")
+    List<GradebookEntry> findGradebookEntriesByCourseId(@Param("courseId") Long courseId);
+
+    @Query("SELECT new org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookEntry(g.id, c.id, st.id, st.name, a.id, a.title, g.grade) " +
+            "FROM Grade g JOIN g.submission s JOIN s.student st JOIN s.assignment a JOIN a.course c WHERE g.id IN :gradeIds ORDER BY g.id")
+    List<GradebookEntry> findGradebookEntriesByIdIn(@Param("gradeIds") Collection<Long> gradeIds);
 }
@@ -7,7 +7,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.una.programmingIII.UTEMP_Project.models.Submission;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     @Query("SELECT s FROM Submission s WHERE s.assignment.id = :assignmentId")
     Page<Submission> findByAssignmentId(@Param("assignmentId") Long assignmentId, Pageable pageable);
+
+    @Query("SELECT s FROM Submission s JOIN FETCH s.student JOIN FETCH s.assignment a JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE s.id IN :ids")
+    List<Submission> findAllForGradingByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.assignment.id, s.student.id FROM Submission s WHERE s.id = :id")
+    List<Object[]> findAssignmentAndStudentIds(@Param("id") Long id);
 }
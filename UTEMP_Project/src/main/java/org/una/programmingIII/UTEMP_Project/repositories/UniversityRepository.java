@@ -1,7 +1,21 @@
 package org.una.programmingIII.UTEMP_Project.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.una.programmingIII.UTEMP_Project.models.University;
 
+import java.util.List;
+
 public interface UniversityRepository extends JpaRepository<University, Long> {
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+    @Override
+    Page<University> findAll(Pageable pageable);
+
+    @Query("SELECT u.id, u.name FROM University u")
+    List<Object[]> findHierarchyRows();
 }
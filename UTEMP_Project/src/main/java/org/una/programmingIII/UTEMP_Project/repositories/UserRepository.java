@@ -9,6 +9,9 @@ import org.una.programmingIII.UTEMP_Project.models.Faculty;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.models.UserRole;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByIdentificationNumber(String identificationNumber);
 
@@ -20,4 +23,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE u.role = :role")
     User findByRole(@Param("role") String role);
+
+    List<User> findAllByIdentificationNumberIn(Collection<String> identificationNumbers);
+
+    @Query("SELECT u.identificationNumber FROM User u WHERE u.identificationNumber IN :identificationNumbers")
+    List<String> findExistingIdentificationNumbers(@Param("identificationNumbers") Collection<String> identificationNumbers);
 }
@@ -0,0 +1,168 @@
+package org.una.programmingIII.UTEMP_Project.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndex;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Authorizes methods annotated with {@link RequiresOwnership}. The annotation and the position of the id parameter
+ * are resolved once per method while the proxies are created; a call then reads the id argument and answers from
+ * {@link OwnershipIndex}, which only reaches the database the first time a user or resource is seen.
+ */
+public class OwnershipAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final ObjectProvider<OwnershipIndex> ownershipIndexProvider;
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<Method, Requirement> requirements = new ConcurrentHashMap<>();
+    private volatile OwnershipIndex ownershipIndex;
+
+    public OwnershipAuthorizationManager(ObjectProvider<OwnershipIndex> ownershipIndexProvider) {
+        this.ownershipIndexProvider = ownershipIndexProvider;
+    }
+
+    public Pointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return resolve(method, targetClass) != null;
+            }
+        };
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Requirement requirement = requirements.get(invocation.getMethod());
+        if (requirement == null) {
+            Object target = invocation.getThis();
+            requirement = resolve(invocation.getMethod(), target != null ? AopUtils.getTargetClass(target) : null);
+        }
+        if (requirement == null) {
+            return null;
+        }
+        Object[] arguments = invocation.getArguments();
+        Object id = arguments[requirement.parameterIndex()];
+        Long parentId = null;
+        if (requirement.parentIndex() >= 0) {
+            if (!(arguments[requirement.parentIndex()] instanceof Long value)) {
+                return DENIED;
+            }
+            parentId = value;
+        }
+        return isGranted(authentication.get(), requirement.annotation(), id instanceof Long value ? value : null,
+                parentId) ? GRANTED : DENIED;
+    }
+
+    // parentId nulo: no se exige pertenencia a un padre
+    public boolean isGranted(Authentication authentication, RequiresOwnership requirement, Long resourceId,
+                             Long parentId) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return false;
+        }
+        if (bypassesOwnership(userDetails)) {
+            return true;
+        }
+        Long userId = userDetails.getUser().getId();
+        if (userId == null || resourceId == null) {
+            return false;
+        }
+
+        OwnershipIndex index = index();
+        boolean teacherOnly = requirement.level() == RequiresOwnership.Level.TEACHER;
+        return switch (requirement.resource()) {
+            case COURSE -> isRelated(index, userId, resourceId, teacherOnly);
+            case ASSIGNMENT -> index.getCourseOfAssignment(resourceId)
+                    .filter(courseId -> parentId == null || parentId.equals(courseId))
+                    .map(courseId -> isRelated(index, userId, courseId, teacherOnly))
+                    .orElse(false);
+            case SUBMISSION -> index.getSubmissionOwner(resourceId)
+                    .filter(owner -> parentId == null || parentId.equals(owner.assignmentId()))
+                    .map(owner -> (!teacherOnly && userId.equals(owner.studentId()))
+                            || index.getCourseOfAssignment(owner.assignmentId())
+                            .map(courseId -> index.teaches(userId, courseId))
+                            .orElse(false))
+                    .orElse(false);
+        };
+    }
+
+    // Administradores y ALL_PERMISSIONS no dependen de la relación con el curso
+    public static boolean bypassesOwnership(CustomUserDetails userDetails) {
+        return (userDetails.getPermissionMask() & PermissionAuthorizationManager.ALL_PERMISSIONS_BIT) != 0
+                || userDetails.getUser().getRole() == UserRole.ADMIN;
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static boolean isRelated(OwnershipIndex index, Long userId, Long courseId, boolean teacherOnly) {
+        return teacherOnly ? index.teaches(userId, courseId) : index.participates(userId, courseId);
+    }
+
+    private OwnershipIndex index() {
+        OwnershipIndex index = ownershipIndex;
+        if (index == null) {
+            index = ownershipIndexProvider.getObject();
+            ownershipIndex = index;
+        }
+        return index;
+    }
+
+    private Requirement resolve(Method method, Class<?> targetClass) {
+        Requirement cached = requirements.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass != null ? targetClass : method.getDeclaringClass());
+        RequiresOwnership annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresOwnership.class);
+        if (annotation == null) {
+            return null;
+        }
+        if (!annotation.parentId().isEmpty() && annotation.resource() == RequiresOwnership.Resource.COURSE) {
+            throw new IllegalStateException("@RequiresOwnership on " + specificMethod + " declares a parent for a course");
+        }
+        Requirement requirement = new Requirement(annotation, parameterIndex(specificMethod, annotation.id()),
+                annotation.parentId().isEmpty() ? -1 : parameterIndex(specificMethod, annotation.parentId()));
+        requirements.put(method, requirement);
+        return requirement;
+    }
+
+    // Se acepta el nombre del parametro o el de su @PathVariable; un nombre que no existe es un error de arranque
+    private int parameterIndex(Method method, String name) {
+        String[] names = parameterNames.getParameterNames(method);
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            PathVariable pathVariable = new MethodParameter(method, i).getParameterAnnotation(PathVariable.class);
+            boolean matchesPathVariable = pathVariable != null
+                    && (name.equals(pathVariable.value()) || name.equals(pathVariable.name()));
+            if ((names != null && name.equals(names[i])) || matchesPathVariable) {
+                if (method.getParameterTypes()[i] != Long.class) {
+                    throw new IllegalStateException("@RequiresOwnership parameter '" + name + "' of " + method + " must be a Long");
+                }
+                return i;
+            }
+        }
+        throw new IllegalStateException("@RequiresOwnership on " + method + " names unknown parameter '" + name + "'");
+    }
+
+    private record Requirement(RequiresOwnership annotation, int parameterIndex, int parentIndex) {
+    }
+}
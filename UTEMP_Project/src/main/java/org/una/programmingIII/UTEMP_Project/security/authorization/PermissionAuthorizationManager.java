@@ -0,0 +1,109 @@
+package org.una.programmingIII.UTEMP_Project.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Authorizes methods annotated with {@link RequiresPermission}. The required permissions of each method are resolved
+ * to a bitmask when the pointcut matches it, which happens while the proxies are created at startup; a call is then
+ * a single AND against the mask already carried by {@link CustomUserDetails}.
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    static final long ALL_PERMISSIONS_BIT = 1L << UserPermission.ALL_PERMISSIONS.ordinal();
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final Map<String, UserPermission> PERMISSIONS_BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (UserPermission permission : UserPermission.values()) {
+            PERMISSIONS_BY_AUTHORITY.put(permission.name(), permission);
+        }
+    }
+
+    private final Map<Method, Long> requiredMasks = new ConcurrentHashMap<>();
+
+    public Pointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return resolve(method, targetClass) != null;
+            }
+        };
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Long required = requiredMasks.get(invocation.getMethod());
+        if (required == null) {
+            Object target = invocation.getThis();
+            required = resolve(invocation.getMethod(), target != null ? AopUtils.getTargetClass(target) : null);
+        }
+        if (required == null) {
+            return null;
+        }
+        return isGranted(authentication.get(), required) ? GRANTED : DENIED;
+    }
+
+    public boolean isGranted(Authentication authentication, long requiredMask) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        return (permissionMask(authentication) & (requiredMask | ALL_PERMISSIONS_BIT)) != 0;
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private Long resolve(Method method, Class<?> targetClass) {
+        Long cached = requiredMasks.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass != null ? targetClass : method.getDeclaringClass());
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresPermission.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod.getDeclaringClass(), RequiresPermission.class);
+        }
+        if (annotation == null) {
+            return null;
+        }
+        long mask = Arrays.stream(annotation.value())
+                .mapToLong(permission -> 1L << permission.ordinal())
+                .reduce(0L, (left, right) -> left | right);
+        requiredMasks.put(method, mask);
+        return mask;
+    }
+
+    // Los principales que no vienen de este proyecto se resuelven por nombre de autoridad
+    private static long permissionMask(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getPermissionMask();
+        }
+        long mask = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            UserPermission permission = PERMISSIONS_BY_AUTHORITY.get(authority.getAuthority());
+            if (permission != null) {
+                mask |= 1L << permission.ordinal();
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,37 @@
+package org.una.programmingIII.UTEMP_Project.security.authorization;
+
+import java.lang.annotation.*;
+
+/**
+ * Restricts a method to the users related to the resource whose id is passed in the parameter named {@link #id()}.
+ * Checked by {@link OwnershipAuthorizationManager} after {@link RequiresPermission}, against the in-memory ownership
+ * index. Administrators and holders of {@code ALL_PERMISSIONS} are always allowed.
+ * <p>
+ * On nested routes {@link #parentId()} names the parameter with the id of the parent taken from the path (the
+ * course of an assignment, the assignment of a submission); the resource is then denied unless it belongs to it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresOwnership {
+    Resource resource();
+
+    String id();
+
+    String parentId() default "";
+
+    Level level() default Level.PARTICIPANT;
+
+    enum Resource {
+        COURSE,
+        ASSIGNMENT,
+        SUBMISSION
+    }
+
+    enum Level {
+        // Curso o asignacion: docente o matriculado. Entrega: su estudiante o el docente del curso
+        PARTICIPANT,
+        // Solo el docente del curso
+        TEACHER
+    }
+}
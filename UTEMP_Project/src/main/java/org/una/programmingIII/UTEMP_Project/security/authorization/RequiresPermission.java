@@ -0,0 +1,17 @@
+package org.una.programmingIII.UTEMP_Project.security.authorization;
+
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+
+import java.lang.annotation.*;
+
+/**
+ * Grants access when the authenticated user holds any of the given permissions, or {@link
+ * UserPermission#ALL_PERMISSIONS}. Checked by {@link PermissionAuthorizationManager} with a bitmask comparison, without
+ * evaluating SpEL. A method annotation takes precedence over one on its class.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+    UserPermission[] value();
+}
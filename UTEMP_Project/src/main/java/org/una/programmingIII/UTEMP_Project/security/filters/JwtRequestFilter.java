@@ -18,9 +18,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.una.programmingIII.UTEMP_Project.security.utils.jwtTokenProvider.JwtTokenProvider;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
-import org.una.programmingIII.UTEMP_Project.services.CustomUserDetailsService;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -28,12 +28,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
 
     @Autowired
-    public JwtRequestFilter(JwtTokenProvider jwtTokenProviderService, CustomUserDetailsService userDetailsService) {
+    public JwtRequestFilter(JwtTokenProvider jwtTokenProviderService) {
         this.jwtTokenProvider = jwtTokenProviderService;
-        this.userDetailsService = userDetailsService;
     }
 
     @Override
@@ -50,13 +48,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
 
         try {
-            String identificationNumber = jwtTokenProvider.getIdentificationNumberFromToken(token);
-            if (identificationNumber != null && jwtTokenProvider.validateToken(token, identificationNumber)) {
-                authenticateUser(identificationNumber);
-            } else {
+            // El access token trae todo lo necesario; un refresh token no autentica peticiones
+            Optional<CustomUserDetails> tokenUser = jwtTokenProvider.getUserDetailsFromToken(token);
+            if (tokenUser.isEmpty()) {
                 handleException(response, "Invalid JWT Token");
                 return;
             }
+            authenticate(tokenUser.get());
         } catch (ExpiredJwtException e) {
             handleException(response, "Token has expired", e);
             return;
@@ -71,11 +69,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(String identificationNumber) {
-        CustomUserDetails customUserDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(identificationNumber);
+    private void authenticate(CustomUserDetails customUserDetails) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        logger.info("User {} authenticated successfully", identificationNumber);
+        logger.debug("User {} authenticated successfully", customUserDetails.getUsername());
     }
 
     private String extractToken(HttpServletRequest request) {
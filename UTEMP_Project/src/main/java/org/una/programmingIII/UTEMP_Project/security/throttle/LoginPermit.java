@@ -0,0 +1,24 @@
+package org.una.programmingIII.UTEMP_Project.security.throttle;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Slot of the password verification limit; closing it more than once releases the slot only once.
+ */
+public class LoginPermit implements AutoCloseable {
+
+    private final Semaphore verifications;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    LoginPermit(Semaphore verifications) {
+        this.verifications = verifications;
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            verifications.release();
+        }
+    }
+}
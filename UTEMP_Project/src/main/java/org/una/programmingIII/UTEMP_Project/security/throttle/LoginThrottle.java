@@ -0,0 +1,5 @@
+package org.una.programmingIII.UTEMP_Project.security.throttle;
+
+public interface LoginThrottle {
+    LoginPermit acquire(String identificationNumber, String clientIp);
+}
@@ -0,0 +1,161 @@
+package org.una.programmingIII.UTEMP_Project.security.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.una.programmingIII.UTEMP_Project.exceptions.LoginThrottledException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Protects the login endpoint: one token bucket per identification number and one per client IP limit the attempt
+ * rate, and a semaphore caps how many password verifications run at once so a login storm cannot take every core.
+ * Rejections are immediate (or after a short wait for a verification slot) and are counted by reason.
+ */
+@Component
+public class LoginThrottleImplementation implements LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottleImplementation.class);
+
+    private static final String THROTTLED_COUNTER = "utemp.auth.login.throttled";
+
+    private final Cache<String, TokenBucket> identityBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Semaphore verifications;
+    private final LongSupplier clock;
+
+    private final int identityCapacity;
+    private final double identityRefillPerSecond;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final int maxConcurrentVerifications;
+    private final long verificationWaitMillis;
+
+    private final Counter identityThrottled;
+    private final Counter ipThrottled;
+    private final Counter busyThrottled;
+
+    @Autowired
+    public LoginThrottleImplementation(
+            MeterRegistry meterRegistry,
+            @Value("${security.login.identity.capacity:5}") int identityCapacity,
+            @Value("${security.login.identity.per-minute:5}") int identityPerMinute,
+            @Value("${security.login.ip.capacity:100}") int ipCapacity,
+            @Value("${security.login.ip.per-minute:300}") int ipPerMinute,
+            @Value("${security.login.max-concurrent-verifications:0}") int maxConcurrentVerifications,
+            @Value("${security.login.verification-wait-ms:100}") long verificationWaitMillis,
+            @Value("${security.login.max-tracked-keys:100000}") int maxTrackedKeys) {
+
+        this(meterRegistry, System::nanoTime, identityCapacity, identityPerMinute, ipCapacity, ipPerMinute,
+                maxConcurrentVerifications, verificationWaitMillis, maxTrackedKeys);
+    }
+
+    public LoginThrottleImplementation(
+            MeterRegistry meterRegistry,
+            LongSupplier clock,
+            int identityCapacity,
+            int identityPerMinute,
+            int ipCapacity,
+            int ipPerMinute,
+            int maxConcurrentVerifications,
+            long verificationWaitMillis,
+            int maxTrackedKeys) {
+
+        this.clock = clock;
+        this.identityCapacity = identityCapacity;
+        this.identityRefillPerSecond = identityPerMinute / 60.0;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipPerMinute / 60.0;
+        // Por defecto se deja un nucleo libre para el resto de la API
+        this.maxConcurrentVerifications = maxConcurrentVerifications > 0
+                ? maxConcurrentVerifications
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.verifications = new Semaphore(this.maxConcurrentVerifications);
+        this.verificationWaitMillis = verificationWaitMillis;
+        this.identityBuckets = buckets(maxTrackedKeys, identityCapacity, identityRefillPerSecond);
+        this.ipBuckets = buckets(maxTrackedKeys, ipCapacity, ipRefillPerSecond);
+
+        if (meterRegistry != null) {
+            this.identityThrottled = Counter.builder(THROTTLED_COUNTER).tag("reason", "identity").register(meterRegistry);
+            this.ipThrottled = Counter.builder(THROTTLED_COUNTER).tag("reason", "ip").register(meterRegistry);
+            this.busyThrottled = Counter.builder(THROTTLED_COUNTER).tag("reason", "concurrency").register(meterRegistry);
+            Gauge.builder("utemp.auth.login.verifications.active", this, throttle -> throttle.activeVerifications())
+                    .register(meterRegistry);
+            Gauge.builder("utemp.auth.login.buckets", this, throttle -> throttle.identityBuckets.estimatedSize() + throttle.ipBuckets.estimatedSize())
+                    .register(meterRegistry);
+        } else {
+            this.identityThrottled = null;
+            this.ipThrottled = null;
+            this.busyThrottled = null;
+        }
+        logger.info("Login throttle initialized: {} attempts/min per identity, {} attempts/min per IP, {} concurrent verifications",
+                identityPerMinute, ipPerMinute, this.maxConcurrentVerifications);
+    }
+
+    @Override
+    public LoginPermit acquire(String identificationNumber, String clientIp) {
+        long now = clock.getAsLong();
+
+        TokenBucket ipBucket = ipBuckets.get(normalize(clientIp),
+                key -> new TokenBucket(ipCapacity, ipRefillPerSecond, now));
+        if (!ipBucket.tryConsume(now)) {
+            increment(ipThrottled);
+            throw new LoginThrottledException("Too many login attempts from this address", ipBucket.secondsUntilAvailable(now));
+        }
+
+        TokenBucket identityBucket = identityBuckets.get(normalize(identificationNumber),
+                key -> new TokenBucket(identityCapacity, identityRefillPerSecond, now));
+        if (!identityBucket.tryConsume(now)) {
+            increment(identityThrottled);
+            throw new LoginThrottledException("Too many login attempts for this user", identityBucket.secondsUntilAvailable(now));
+        }
+
+        try {
+            if (!verifications.tryAcquire(verificationWaitMillis, TimeUnit.MILLISECONDS)) {
+                increment(busyThrottled);
+                throw new LoginThrottledException("The server is busy, try again shortly", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoginThrottledException("Login was interrupted", 1);
+        }
+        return new LoginPermit(verifications);
+    }
+
+    public int activeVerifications() {
+        return maxConcurrentVerifications - verifications.availablePermits();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Un bucket sin uso durante el tiempo de recarga completa ya esta lleno, que equivale a no tener historial;
+    // el tamano maximo acota la memoria aunque se prueben millones de usuarios distintos
+    private Cache<String, TokenBucket> buckets(int maxTrackedKeys, int capacity, double refillPerSecond) {
+        long refillNanos = (long) Math.ceil(capacity / refillPerSecond * TimeUnit.SECONDS.toNanos(1));
+        return Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(refillNanos, TimeUnit.NANOSECONDS)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private static String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
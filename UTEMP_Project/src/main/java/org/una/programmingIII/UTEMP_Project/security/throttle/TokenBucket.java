@@ -0,0 +1,44 @@
+package org.una.programmingIII.UTEMP_Project.security.throttle;
+
+/**
+ * Token bucket refilled continuously: capacity is the allowed burst and refillPerSecond the sustained rate.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerSecond;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    public synchronized boolean tryConsume(long now) {
+        refill(now);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    // Segundos hasta que vuelva a haber una ficha disponible
+    public synchronized long secondsUntilAvailable(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerSecond);
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) / 1_000_000_000.0 * refillPerSecond);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.una.programmingIII.UTEMP_Project.security.utils;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned, immutable authority lists keyed by permission mask (and role, for {@link
+ * org.una.programmingIII.UTEMP_Project.models.User#getAuthorities()}). Users share a handful of permission sets, so
+ * after warm-up building the authorities of a request is a map lookup instead of a list of new objects.
+ * The cache is bounded; masks beyond the limit are built on every call instead of cached.
+ */
+public final class AuthorityCache {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final Map<Long, List<GrantedAuthority>> PERMISSION_AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<UserRole, Map<Long, List<GrantedAuthority>>> USER_AUTHORITIES = new EnumMap<>(UserRole.class);
+    private static final Map<UserRole, GrantedAuthority> ROLE_AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            USER_AUTHORITIES.put(role, new ConcurrentHashMap<>());
+            ROLE_AUTHORITIES.put(role, new SimpleGrantedAuthority(role.name()));
+        }
+    }
+
+    private AuthorityCache() {
+    }
+
+    public static List<GrantedAuthority> forPermissions(long mask) {
+        return intern(PERMISSION_AUTHORITIES, mask, null);
+    }
+
+    // La autoridad del rol va primero, seguida de los permisos en el orden del enum
+    public static List<GrantedAuthority> forUser(UserRole role, long mask) {
+        if (role == null) {
+            return forPermissions(mask);
+        }
+        return intern(USER_AUTHORITIES.get(role), mask, role);
+    }
+
+    public static int size() {
+        int size = PERMISSION_AUTHORITIES.size();
+        for (Map<Long, List<GrantedAuthority>> authorities : USER_AUTHORITIES.values()) {
+            size += authorities.size();
+        }
+        return size;
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static List<GrantedAuthority> intern(Map<Long, List<GrantedAuthority>> cache, long mask, UserRole role) {
+        List<GrantedAuthority> authorities = cache.get(mask);
+        if (authorities != null) {
+            return authorities;
+        }
+        if (cache.size() >= MAX_ENTRIES) {
+            return build(mask, role);
+        }
+        return cache.computeIfAbsent(mask, key -> build(key, role));
+    }
+
+    private static List<GrantedAuthority> build(long mask, UserRole role) {
+        List<GrantedAuthority> authorities = new ArrayList<>(Long.bitCount(mask) + 1);
+        if (role != null) {
+            authorities.add(ROLE_AUTHORITIES.get(role));
+        }
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            authorities.add(PermissionBitset.authority(Long.numberOfTrailingZeros(bits)));
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+}
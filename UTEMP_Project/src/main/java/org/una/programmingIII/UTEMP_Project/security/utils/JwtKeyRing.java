@@ -0,0 +1,182 @@
+package org.una.programmingIII.UTEMP_Project.security.utils;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+
+/**
+ * ES256 keys indexed by key id ("kid"). Each key is a pair of PEM files in {@code jwt.keys.directory}:
+ * {@code <kid>.public.pem} (X.509) and, on the nodes that issue tokens, {@code <kid>.private.pem} (PKCS#8).
+ * Tokens are signed with the active key and verified with whichever key their header names, so a key is rotated by
+ * adding a new pair, making it active, and deleting the old pair once its tokens have expired. The directory is
+ * re-read periodically and whenever a token names an unknown kid.
+ * <p>
+ * Without a directory an ephemeral key pair is generated at startup; tokens then only verify on this node and
+ * until the next restart.
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String PUBLIC_SUFFIX = ".public.pem";
+    private static final String PRIVATE_SUFFIX = ".private.pem";
+    private static final long UNKNOWN_KID_RELOAD_MILLIS = 30_000;
+
+    private final Path directory;
+    private final String configuredActiveKid;
+    private final long reloadIntervalMillis;
+
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+    private volatile SigningKey signingKey;
+    private volatile long lastLoad;
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${jwt.keys.directory:}") String directory,
+            @Value("${jwt.keys.active-kid:}") String activeKid,
+            @Value("${jwt.keys.reload-interval-seconds:300}") long reloadIntervalSeconds) {
+
+        this.directory = directory == null || directory.isBlank() ? null : Path.of(directory);
+        this.configuredActiveKid = activeKid == null || activeKid.isBlank() ? null : activeKid.trim();
+        this.reloadIntervalMillis = reloadIntervalSeconds * 1000;
+
+        if (this.directory == null) {
+            generateEphemeralKey();
+        } else {
+            reload();
+        }
+    }
+
+    public SigningKey getSigningKey() {
+        if (directory != null && System.currentTimeMillis() - lastLoad > reloadIntervalMillis) {
+            reload();
+        }
+        return signingKey;
+    }
+
+    public Key getVerificationKey(String kid) {
+        if (kid == null) {
+            throw new IllegalArgumentException("Token does not declare a key id");
+        }
+        PublicKey key = verificationKeys.get(kid);
+        // Otro nodo pudo haber rotado primero: se relee el directorio, como mucho cada 30 segundos
+        if (key == null && directory != null && System.currentTimeMillis() - lastLoad > UNKNOWN_KID_RELOAD_MILLIS) {
+            reload();
+            key = verificationKeys.get(kid);
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Unknown key id: " + kid);
+        }
+        return key;
+    }
+
+    public synchronized void reload() {
+        lastLoad = System.currentTimeMillis();
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        TreeMap<String, PrivateKey> privateKeys = new TreeMap<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.pem")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    if (name.endsWith(PUBLIC_SUFFIX)) {
+                        publicKeys.put(kidOf(name, PUBLIC_SUFFIX), readPublicKey(file));
+                    } else if (name.endsWith(PRIVATE_SUFFIX)) {
+                        privateKeys.put(kidOf(name, PRIVATE_SUFFIX), readPrivateKey(file));
+                    }
+                } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+                    logger.error("Skipping unreadable JWT key file {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error reading JWT key directory {}: {}", directory, e.getMessage());
+            if (!verificationKeys.isEmpty()) {
+                return;
+            }
+            throw new IllegalStateException("JWT key directory is not readable: " + directory, e);
+        }
+
+        // La llave activa es la configurada o, si no hay, la de kid mayor (p. ej. kids con fecha)
+        privateKeys.keySet().retainAll(publicKeys.keySet());
+        String activeKid = configuredActiveKid != null ? configuredActiveKid
+                : privateKeys.isEmpty() ? null : privateKeys.lastKey();
+        PrivateKey activeKey = activeKid == null ? null : privateKeys.get(activeKid);
+
+        if (publicKeys.isEmpty()) {
+            if (!verificationKeys.isEmpty()) {
+                logger.error("JWT key directory {} has no public keys; keeping the previous keys", directory);
+                return;
+            }
+            throw new IllegalStateException("No JWT public keys found in " + directory);
+        }
+        verificationKeys = Map.copyOf(publicKeys);
+        signingKey = activeKey == null ? null : new SigningKey(activeKid, activeKey);
+
+        if (signingKey == null) {
+            logger.warn("No JWT private key available; this node can verify tokens but not issue them");
+        }
+        logger.info("JWT keys loaded from {}: verification kids {}, active kid {}", directory,
+                new TreeSet<>(publicKeys.keySet()), activeKid);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void generateEphemeralKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            String kid = "ephemeral-" + Long.toString(System.currentTimeMillis(), 36);
+            verificationKeys = Map.of(kid, keyPair.getPublic());
+            signingKey = new SigningKey(kid, keyPair.getPrivate());
+            lastLoad = System.currentTimeMillis();
+            logger.warn("jwt.keys.directory is not set; using an ephemeral signing key ({}). Tokens will not be valid "
+                    + "on other nodes or after a restart", kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate an ephemeral JWT key", e);
+        }
+    }
+
+    private static String kidOf(String fileName, String suffix) {
+        return fileName.substring(0, fileName.length() - suffix.length());
+    }
+
+    private static PublicKey readPublicKey(Path file) throws IOException, GeneralSecurityException {
+        return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(readPem(file)));
+    }
+
+    private static PrivateKey readPrivateKey(Path file) throws IOException, GeneralSecurityException {
+        return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        StringBuilder base64 = new StringBuilder();
+        for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+            if (!line.startsWith("-----") && !line.isBlank()) {
+                base64.append(line.trim());
+            }
+        }
+        return Base64.getDecoder().decode(base64.toString());
+    }
+
+    public record SigningKey(String kid, PrivateKey key) {
+        public SignatureAlgorithm algorithm() {
+            return SignatureAlgorithm.ES256;
+        }
+    }
+}
@@ -1,10 +1,6 @@
 package org.una.programmingIII.UTEMP_Project.security.utils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.*;
-import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,60 +11,92 @@ import org.una.programmingIII.UTEMP_Project.exceptions.InvalidTokenException;
 import org.una.programmingIII.UTEMP_Project.exceptions.TokenExpiredException;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.models.UserState;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
 
+import java.security.Key;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
-@Setter
+/**
+ * Issues and verifies ES256 tokens with the keys of {@link JwtKeyRing}. Access tokens are short-lived and carry the
+ * whole principal; refresh tokens only identify the user and are exchanged for a new pair after checking that the
+ * user is still active. The parser is built once and resolves the verification key from the "kid" header.
+ */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String PERMISSIONS_CLAIM = "perms";
+    private static final String PERMISSIONS_VERSION_CLAIM = "pv";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
     private final UserRepository userRepository;
-    @Value("${jwt.secret}")
-    private String secretKey;
-    //@Value("${jwt.expiration.access}")
-    private long accessTokenValidity = 999999999999999999L;
-    //@Value("${jwt.expiration.refresh}")
-    private long refreshTokenValidity = 999999999999999999L;;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final long accessTokenValidity;
+    private final long refreshTokenValidity;
 
     @Autowired
-    public JwtTokenProvider(UserRepository userRepository) {
+    public JwtTokenProvider(
+            UserRepository userRepository,
+            JwtKeyRing keyRing,
+            @Value("${jwt.expiration.access:900000}") long accessTokenValidity,
+            @Value("${jwt.expiration.refresh:604800000}") long refreshTokenValidity) {
+
         this.userRepository = userRepository;
+        this.keyRing = keyRing;
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                .build();
     }
 
     public String generateToken(User user, boolean isRefreshToken) {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
         }
-        long validityDuration = isRefreshToken ? refreshTokenValidity : accessTokenValidity;
-        return Jwts.builder()
+        JwtKeyRing.SigningKey signingKey = keyRing.getSigningKey();
+        if (signingKey == null) {
+            throw new IllegalStateException("No JWT signing key is available on this node");
+        }
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setSubject(user.getIdentificationNumber())
                 .claim("id", user.getId())
-                .claim("name", user.getName())
-                .claim("email", user.getEmail())
-                .claim("permissions", serializePermissions(user.getPermissions()))
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + validityDuration))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
-    }
+                .setIssuedAt(new Date(now));
 
-    private String serializePermissions(List<UserPermission> permissions) {
-        return handleJsonProcessing(() -> objectMapper.writeValueAsString(permissions), "Error serializing permissions.");
-    }
-
-    private <T> T handleJsonProcessing(JsonProcessingFunction<T> function, String errorMessage) {
-        try {
-            return function.apply();
-        } catch (JsonProcessingException e) {
-            logger.error(errorMessage, e);
-            throw new InvalidTokenException(errorMessage);
+        if (isRefreshToken) {
+            // El refresh token solo identifica al usuario; los permisos se releen de la base de datos al renovarlo
+            builder.claim(TYPE_CLAIM, REFRESH_TYPE)
+                    .setExpiration(new Date(now + refreshTokenValidity));
+        } else {
+            builder.claim(TYPE_CLAIM, ACCESS_TYPE)
+                    .claim("name", user.getName())
+                    .claim("email", user.getEmail())
+                    .claim(ROLE_CLAIM, user.getRole() != null ? user.getRole().name() : null)
+                    .claim(PERMISSIONS_CLAIM, PermissionBitset.encode(user.getPermissions()))
+                    .claim(PERMISSIONS_VERSION_CLAIM, PermissionBitset.VERSION)
+                    .setExpiration(new Date(now + accessTokenValidity));
         }
+        return builder.signWith(signingKey.key(), signingKey.algorithm()).compact();
     }
 
     public String getIdentificationNumberFromToken(String token) {
@@ -88,82 +116,144 @@ public class JwtTokenProvider {
     }
 
     public List<UserPermission> getPermissionsFromToken(String token) {
-        return parseClaims(token, claims -> handleJsonProcessing(
-                () -> objectMapper.readValue(claims.get("permissions", String.class), new TypeReference<List<UserPermission>>() {
-                }),
-                "Invalid permissions in token."
-        ));
+        return parseClaims(token, claims -> {
+            requireAccessToken(claims);
+            return new ArrayList<>(PermissionBitset.fromMask(decodeMask(claims)));
+        });
+    }
+
+    /**
+     * Builds the authenticated principal from a single parse of the token, without touching the database.
+     * Returns empty for tokens that cannot authenticate a request, such as refresh tokens.
+     */
+    public Optional<CustomUserDetails> getUserDetailsFromToken(String token) {
+        return parseClaims(token, claims -> {
+            if (!ACCESS_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) {
+                return Optional.empty();
+            }
+            requirePermissionVersion(claims);
+            long mask = decodeMask(claims);
+            User user = User.builder()
+                    .id(claims.get("id", Long.class))
+                    .identificationNumber(claims.getSubject())
+                    .name(claims.get("name", String.class))
+                    .email(claims.get("email", String.class))
+                    .role(decodeRole(claims))
+                    .state(UserState.ACTIVE)
+                    .permissions(PermissionBitset.fromMask(mask))
+                    .build();
+            return Optional.of(new CustomUserDetails(user, mask));
+        });
     }
 
     public boolean validateToken(String token, String identificationNumber) {
         if (token == null || identificationNumber == null) {
             throw new IllegalArgumentException("Token and identification number cannot be null");
         }
-        String tokenIdentificationNumber = getIdentificationNumberFromToken(token);
-        boolean isValid = identificationNumber.equals(tokenIdentificationNumber) && !isTokenExpired(token);
-        logger.info("Validating token for identification number {}: {}", identificationNumber, isValid);
-        return isValid;
+        try {
+            boolean isValid = identificationNumber.equals(getIdentificationNumberFromToken(token));
+            logger.debug("Validating token for identification number {}: {}", identificationNumber, isValid);
+            return isValid;
+        } catch (TokenExpiredException e) {
+            return false;
+        }
     }
 
     public boolean isTokenExpired(String token) {
-        return parseClaims(token, Claims::getExpiration).before(new Date());
-    }
-
-    private <T> T parseClaims(String token, Function<Claims, T> claimsResolver) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .setAllowedClockSkewSeconds(60)
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claimsResolver.apply(claims);
-        } catch (ExpiredJwtException e) {
-            logger.error("Token has expired: ", e);
-            throw new TokenExpiredException("The token has expired.");
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("Error while parsing JWT token: ", e);
-            throw new InvalidTokenException("Invalid token.");
+            parseClaims(token, Claims::getExpiration);
+            return false;
+        } catch (TokenExpiredException e) {
+            return true;
         }
     }
 
-    public TokenResponseDTO refreshTokens(String refreshToken) {
-        validateRefreshToken(refreshToken);
+    public long getAccessTokenValidity() {
+        return accessTokenValidity;
+    }
 
-        Long id = getIdFromToken(refreshToken); // Asegúrate de que el ID se extraiga como Long
+    public TokenResponseDTO refreshTokens(String refreshToken) {
+        Claims claims = parseClaims(refreshToken, Function.identity(), "Refresh token has expired.");
+        if (!REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class)) || claims.get("id", Long.class) == null) {
+            throw new InvalidTokenException("Invalid refresh token.");
+        }
 
+        Long id = claims.get("id", Long.class);
         Optional<User> user = userRepository.findById(id);
         if (user.isEmpty()) {
             throw new InvalidTokenException("User not found for the given ID: " + id);
         }
+        if (user.get().getState() != null && user.get().getState() != UserState.ACTIVE) {
+            throw new InvalidTokenException("User is not active: " + id);
+        }
 
         String newAccessToken = generateAccessToken(user.get());
         String newRefreshToken = generateRefreshToken(user.get());
 
-        logger.info("Tokens refreshed for user: {}", getNameFromToken(refreshToken));
+        logger.info("Tokens refreshed for user: {}", user.get().getIdentificationNumber());
         return new TokenResponseDTO(newAccessToken, newRefreshToken);
     }
 
-    private void validateRefreshToken(String refreshToken) {
-        if (isTokenExpired(refreshToken)) {
-            logger.error("Refresh token expired.");
-            throw new TokenExpiredException("Refresh token has expired.");
+    public String generateAccessToken(User user) {
+        return generateToken(user, false);
+    }
+
+    public String generateRefreshToken(User user) {
+        return generateToken(user, true);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private <T> T parseClaims(String token, Function<Claims, T> claimsResolver) {
+        return parseClaims(token, claimsResolver, "The token has expired.");
+    }
+
+    private <T> T parseClaims(String token, Function<Claims, T> claimsResolver, String expiredMessage) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            logger.debug("Token has expired: {}", e.getMessage());
+            throw new TokenExpiredException(expiredMessage);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("Error while parsing JWT token: {}", e.getMessage());
+            throw new InvalidTokenException("Invalid token.");
         }
+        return claimsResolver.apply(claims);
+    }
 
-        if (getIdFromToken(refreshToken) == null) {
-            throw new InvalidTokenException("Invalid refresh token.");
+    private void requireAccessToken(Claims claims) {
+        if (!ACCESS_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new InvalidTokenException("Not an access token.");
         }
+        requirePermissionVersion(claims);
     }
 
-    public String generateAccessToken(User user) {
-        return generateToken(user, false);
+    private void requirePermissionVersion(Claims claims) {
+        Integer version = claims.get(PERMISSIONS_VERSION_CLAIM, Integer.class);
+        if (version == null || version != PermissionBitset.VERSION) {
+            throw new InvalidTokenException("Unsupported permissions version in token.");
+        }
     }
 
-    public String generateRefreshToken(User user) {
-        return generateToken(user, true);
+    private long decodeMask(Claims claims) {
+        try {
+            return PermissionBitset.decodeMask(claims.get(PERMISSIONS_CLAIM, String.class));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid permissions in token.");
+        }
     }
 
-    @FunctionalInterface
-    private interface JsonProcessingFunction<T> {
-        T apply() throws JsonProcessingException;
+    // Los tokens emitidos antes de este claim no llevan rol; se tratan como usuario sin rol
+    private UserRole decodeRole(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (role == null) {
+            return null;
+        }
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid role in token.");
+        }
     }
 }
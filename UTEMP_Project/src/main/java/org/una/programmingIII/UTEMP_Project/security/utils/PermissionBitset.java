@@ -0,0 +1,107 @@
+package org.una.programmingIII.UTEMP_Project.security.utils;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+
+import java.util.*;
+
+/**
+ * Encodes a set of permissions as a bitset over {@link UserPermission} ordinals. The same layout is stored as a
+ * {@code long} mask in the users table and sent in tokens as its little-endian bytes (base64url without padding),
+ * so the token claim stays a few bytes long whatever the number of permissions.
+ * <p>
+ * The encoding depends on the order of the enum: new permissions must be appended at the end. If the order ever
+ * has to change, stored masks must be migrated and {@link #VERSION} bumped so tokens issued with the old layout are
+ * rejected instead of misread.
+ */
+public final class PermissionBitset {
+
+    public static final int VERSION = 1;
+
+    private static final UserPermission[] PERMISSIONS = UserPermission.values();
+    private static final GrantedAuthority[] AUTHORITIES = new GrantedAuthority[PERMISSIONS.length];
+    private static final long KNOWN_BITS = PERMISSIONS.length >= Long.SIZE ? -1L : (1L << PERMISSIONS.length) - 1;
+
+    static {
+        if (PERMISSIONS.length > Long.SIZE) {
+            throw new IllegalStateException("UserPermission has more values than fit in a permission mask");
+        }
+        for (UserPermission permission : PERMISSIONS) {
+            AUTHORITIES[permission.ordinal()] = new SimpleGrantedAuthority(permission.name());
+        }
+    }
+
+    private PermissionBitset() {
+    }
+
+    public static long mask(Collection<UserPermission> permissions) {
+        long mask = 0;
+        if (permissions != null) {
+            for (UserPermission permission : permissions) {
+                mask |= 1L << permission.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<UserPermission> fromMask(long mask) {
+        checkKnownBits(mask);
+        EnumSet<UserPermission> permissions = EnumSet.noneOf(UserPermission.class);
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            permissions.add(PERMISSIONS[Long.numberOfTrailingZeros(bits)]);
+        }
+        return permissions;
+    }
+
+    public static String encode(Collection<UserPermission> permissions) {
+        long mask = mask(permissions);
+        byte[] bytes = new byte[(Long.SIZE - Long.numberOfLeadingZeros(mask) + 7) / 8];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (mask >>> (i * 8));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static long decodeMask(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return 0;
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(encoded);
+        if (bytes.length > Long.BYTES) {
+            throw new IllegalArgumentException("Permission bitset is too long: " + bytes.length + " bytes");
+        }
+        long mask = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            mask |= (bytes[i] & 0xFFL) << (i * 8);
+        }
+        checkKnownBits(mask);
+        return mask;
+    }
+
+    public static EnumSet<UserPermission> decode(String encoded) {
+        return fromMask(decodeMask(encoded));
+    }
+
+    public static List<GrantedAuthority> toAuthorities(String encoded) {
+        return AuthorityCache.forPermissions(decodeMask(encoded));
+    }
+
+    public static GrantedAuthority authority(UserPermission permission) {
+        return AUTHORITIES[permission.ordinal()];
+    }
+
+    static GrantedAuthority authority(int ordinal) {
+        return AUTHORITIES[ordinal];
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Un bit fuera del rango del enum significa que la mascara se genero con otra version de los permisos
+    private static void checkKnownBits(long mask) {
+        long unknown = mask & ~KNOWN_BITS;
+        if (unknown != 0) {
+            throw new IllegalArgumentException("Unknown permission bit: " + Long.numberOfTrailingZeros(unknown));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.una.programmingIII.UTEMP_Project.security.utils.jwtTokenProvider;
 
 import org.una.programmingIII.UTEMP_Project.dtos.TokenDTOs.TokenResponseDTO;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+
+import java.util.Optional;
 
 public interface JwtTokenProvider {
     String generateAccessToken(String identificationNumber);
@@ -16,4 +19,6 @@ public interface JwtTokenProvider {
     Long getIdFromToken(String token);
 
     String getIdentificationNumberFromToken(String token);
+
+    Optional<CustomUserDetails> getUserDetailsFromToken(String token);
 }
@@ -8,8 +8,10 @@ import org.una.programmingIII.UTEMP_Project.dtos.TokenDTOs.TokenResponseDTO;
 import org.una.programmingIII.UTEMP_Project.exceptions.CustomServiceException;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
 
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 public class JwtTokenProviderImplementation implements JwtTokenProvider {
@@ -72,6 +74,12 @@ public class JwtTokenProviderImplementation implements JwtTokenProvider {
         return jwtTokenProvider.getIdentificationNumberFromToken(token);
     }
 
+    @Override
+    public Optional<CustomUserDetails> getUserDetailsFromToken(String token) {
+        Objects.requireNonNull(token, "Token must not be null");
+        return jwtTokenProvider.getUserDetailsFromToken(token);
+    }
+
     public String getUsernameFromToken(String token) {
         Objects.requireNonNull(token, "Token must not be null");
         return jwtTokenProvider.getNameFromToken(token);
@@ -2,28 +2,30 @@ package org.una.programmingIII.UTEMP_Project.services;
 
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.models.UserState;
+import org.una.programmingIII.UTEMP_Project.security.utils.AuthorityCache;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class CustomUserDetails implements UserDetails {
     @Getter
     private final User user;
+    @Getter
+    private final long permissionMask;
     private final List<GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
-        if (user == null) {
-            throw new IllegalArgumentException("User must not be null");
-        }
-        this.user = user;
-        this.authorities = user.getPermissions().stream()
-                .map(permission -> new SimpleGrantedAuthority(permission.name()))
-                .collect(Collectors.toList());
+        this(user, PermissionBitset.mask(requireUser(user).getPermissions()));
+    }
+
+    public CustomUserDetails(User user, long permissionMask) {
+        this.user = requireUser(user);
+        this.permissionMask = permissionMask;
+        this.authorities = AuthorityCache.forPermissions(permissionMask);
     }
 
     @Override
@@ -68,4 +70,11 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return user.getState() == UserState.ACTIVE;
     }
-}
\ No newline at end of file
+
+    private static User requireUser(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User must not be null");
+        }
+        return user;
+    }
+}
@@ -1,15 +1,21 @@
 package org.una.programmingIII.UTEMP_Project.services;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     private final UserRepository userRepository;
 
@@ -26,4 +32,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
         return new CustomUserDetails(user);
     }
-}
\ No newline at end of file
+
+    // Lo invoca el AuthenticationManager despues de un login exitoso cuando el hash usa un algoritmo o costo antiguo
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByIdentificationNumber(userDetails.getUsername());
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with identification number: " + userDetails.getUsername());
+        }
+        user.setPassword(newPassword);
+        logger.info("Password hash upgraded for user ID {}", user.getId());
+        return new CustomUserDetails(userRepository.save(user));
+    }
+}
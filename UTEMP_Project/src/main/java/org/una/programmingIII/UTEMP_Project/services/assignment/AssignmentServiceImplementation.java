@@ -226,7 +226,8 @@ public class AssignmentServiceImplementation extends Subject<EmailNotificationOb
         Assignment assignment = getEntityById(assignmentId, assignmentRepository, "Assignment");
         Submission submission = getEntityById(submissionId, submissionRepository, "Submission");
 
-        if (!assignment.getSubmissions().contains(submission)) {
+        // Se compara por id: no hace falta cargar la coleccion de entregas de la asignacion
+        if (submission.getAssignment() == null || !assignmentId.equals(submission.getAssignment().getId())) {
             throw new ResourceNotFoundException("Submission not found in this assignment", submissionId);
         }
 
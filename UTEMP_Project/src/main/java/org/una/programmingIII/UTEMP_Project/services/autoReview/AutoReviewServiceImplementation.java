@@ -1,21 +1,25 @@
 package org.una.programmingIII.UTEMP_Project.services.autoReview;
 
-import io.krakens.grok.api.Grok;
-import io.krakens.grok.api.GrokCompiler;
-import io.krakens.grok.api.Match;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
 import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.FileMetadatum;
 import org.una.programmingIII.UTEMP_Project.models.Grade;
 import org.una.programmingIII.UTEMP_Project.models.GradeState;
 import org.una.programmingIII.UTEMP_Project.models.Submission;
 import org.una.programmingIII.UTEMP_Project.observers.Subject;
 import org.una.programmingIII.UTEMP_Project.repositories.SubmissionRepository;
 import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewDocument;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewEngineRegistry;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewResult;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokCaptures;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternRegistry;
 
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -26,9 +30,9 @@ public class AutoReviewServiceImplementation extends Subject<EmailNotificationOb
 
     private static final Logger logger = LoggerFactory.getLogger(AutoReviewServiceImplementation.class);
 
-    private static final String COMMENT_PATTERN = "%{NUMBER:grade} : %{GREEDYDATA:message}";
-    private static final double MAX_GRADE = 10.0;
-    private static final double MIN_GRADE = 0.0;
+    private static final String COMMENT_PATTERN_SET = "auto-review-comment";
+    private static final String COMMENT_EXPRESSION = "comment";
+    private static final int MAX_COMMENT_LENGTH = 1000;
     private static final Map<Double, String> commentsMap = new HashMap<>() {{
         put(0.0, "You have much to improve in your work.");
         put(1.0, "You need to try harder.");
@@ -42,23 +46,20 @@ public class AutoReviewServiceImplementation extends Subject<EmailNotificationOb
         put(9.0, "Excellent work.");
         put(10.0, "Excellent, very good work.");
     }};
-    private final Map<String, Double> fileGrades = new ConcurrentHashMap<>();
+    private final Map<String, ReviewResult> fileReviews = new ConcurrentHashMap<>();
     private final Map<String, String> fileComments = new ConcurrentHashMap<>();
     private final SubmissionRepository submissionRepository;
-    private final Grok grok;
+    private final ReviewEngineRegistry reviewEngineRegistry;
+    private final GrokPatternRegistry grokPatternRegistry;
 
     public AutoReviewServiceImplementation(
-            SubmissionRepository submissionRepository) {
+            SubmissionRepository submissionRepository,
+            ReviewEngineRegistry reviewEngineRegistry,
+            GrokPatternRegistry grokPatternRegistry) {
 
         this.submissionRepository = submissionRepository;
-        this.grok = initializeGrok();
-    }
-
-    private Grok initializeGrok() {
-        GrokCompiler grokCompiler = GrokCompiler.newInstance();
-        grokCompiler.register("NUMBER", "(\\d+(\\.\\d+)?)");
-        grokCompiler.register("GREEDYDATA", "(.*)");
-        return grokCompiler.compile(COMMENT_PATTERN);
+        this.reviewEngineRegistry = reviewEngineRegistry;
+        this.grokPatternRegistry = grokPatternRegistry;
     }
 
     @Async("taskExecutor")
@@ -66,12 +67,13 @@ public class AutoReviewServiceImplementation extends Subject<EmailNotificationOb
         CompletableFuture.supplyAsync(() -> {
             try {
                 Submission submission = validateSubmission(submissionId);
-                String fileId = submission.getFileMetadata().getFirst().getId().toString();
+                FileMetadatum file = getReviewableFile(submission);
+                String fileId = file.getId().toString();
 
-                double grade = fileGrades.computeIfAbsent(fileId, this::generateGrade);
-                String comment = fileComments.computeIfAbsent(fileId, id -> generateComment(grade));
+                ReviewResult review = fileReviews.computeIfAbsent(fileId, id -> reviewFile(file));
+                String comment = fileComments.computeIfAbsent(fileId, id -> generateComment(review));
 
-                return createGradeEntity(submission, grade, comment);
+                return createGradeEntity(submission, review.getGrade(), comment);
             } catch (InvalidDataException e) {
                 logger.error("Invalid data error: {}", e.getMessage());
                 throw e;
@@ -85,29 +87,51 @@ public class AutoReviewServiceImplementation extends Subject<EmailNotificationOb
         });
     }
 
-    private double generateGrade(String fileId) {
-        return Math.random() * (MAX_GRADE - MIN_GRADE) + MIN_GRADE;
+    private FileMetadatum getReviewableFile(Submission submission) {
+        if (submission.getFileMetadata() == null || submission.getFileMetadata().isEmpty()) {
+            throw new InvalidDataException("Submission " + submission.getId() + " has no files to review.");
+        }
+        FileMetadatum file = submission.getFileMetadata().getFirst();
+        if (file.getStoragePath() == null) {
+            throw new InvalidDataException("File " + file.getId() + " has not finished uploading.");
+        }
+        return file;
+    }
+
+    private ReviewResult reviewFile(FileMetadatum file) {
+        ReviewDocument document = ReviewDocument.builder()
+                .fileId(file.getId())
+                .fileName(file.getFileName())
+                .fileType(file.getFileType())
+                .path(Paths.get(file.getStoragePath()))
+                .build();
+        return reviewEngineRegistry.review(document);
     }
 
-    private String generateComment(double grade) {
+    private String generateComment(ReviewResult review) {
+        double grade = review.getGrade();
         if (grade < 0) {
             throw new InvalidDataException("Grade cannot be negative.");
         }
 
-        String message = commentsMap.getOrDefault(grade, "Comment not found.");
-        String logMessage = grade + " : " + message;
+        double gradeBucket = Math.floor(grade);
+        String message = commentsMap.getOrDefault(gradeBucket, "Comment not found.");
+        String logMessage = gradeBucket + " : " + message;
 
         if ("Comment not found.".equals(message)) {
             logger.warn("No comment found for grade: {}", grade);
         }
-        return extractMessageWithGrok(logMessage);
+        String comment = extractMessageWithGrok(logMessage) + " " + review.getSummary();
+        return comment.length() > MAX_COMMENT_LENGTH ? comment.substring(0, MAX_COMMENT_LENGTH) : comment;
     }
 
     private String extractMessageWithGrok(String logMessage) {
-        Match match = grok.match(logMessage);
+        GrokCaptures captures = grokPatternRegistry.getPatternSet(COMMENT_PATTERN_SET)
+                .get(COMMENT_EXPRESSION)
+                .match(logMessage);
 
-        if (match != null && !match.capture().isEmpty()) {
-            return (String) match.capture().getOrDefault("message", "Message not captured.");
+        if (captures.isMatched()) {
+            return captures.getOrDefault("message", "Message not captured.");
         } else {
             logger.warn("No match found for log message: {}", logMessage);
             return "Message not captured.";
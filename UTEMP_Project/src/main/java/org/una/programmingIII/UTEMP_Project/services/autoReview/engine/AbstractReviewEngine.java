@@ -0,0 +1,138 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.una.programmingIII.UTEMP_Project.exceptions.FileServiceException;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Pipeline shared by every engine: read (file channel) -> tokenize -> check (rules in parallel) -> score.
+ */
+public abstract class AbstractReviewEngine implements ReviewEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractReviewEngine.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    protected static final double MAX_GRADE = 10.0;
+    protected static final double MIN_GRADE = 0.0;
+
+    private final Executor reviewExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long maxFileSize;
+
+    protected AbstractReviewEngine(Executor reviewExecutor, MeterRegistry meterRegistry, long maxFileSize) {
+        this.reviewExecutor = reviewExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxFileSize = maxFileSize;
+    }
+
+    protected abstract List<String> tokenize(String content);
+
+    protected abstract List<ReviewRule> getRules();
+
+    protected int getBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    protected abstract double score(List<String> segments, List<ReviewFinding> findings);
+
+    protected abstract String summarize(List<String> segments, List<ReviewFinding> findings);
+
+    @Override
+    public ReviewResult review(ReviewDocument document) {
+        ReviewMetrics metrics = new ReviewMetrics(getName(), meterRegistry);
+        try {
+            String content = metrics.time("read", () -> readContent(document.getPath()));
+            List<String> segments = metrics.time("tokenize", () -> tokenize(content));
+            List<ReviewFinding> findings = metrics.time("check", () -> runRules(segments));
+            double grade = metrics.time("score", () -> clamp(score(segments, findings)));
+
+            logger.info("Engine {} reviewed file {}: grade={}, findings={}, stages={}",
+                    getName(), document.getFileId(), grade, findings.size(), metrics.getStageMillis());
+            return new ReviewResult(getName(), grade, segments.size(), findings.size(),
+                    summarize(segments, findings), metrics.getStageMillis());
+        } catch (IOException e) {
+            logger.error("Error reading file {} for review: {}", document.getPath(), e.getMessage());
+            throw new FileServiceException("Could not read file for review: " + document.getFileName());
+        }
+    }
+
+    protected String readContent(Path path) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > maxFileSize) {
+                throw new InvalidDataException("File exceeds the maximum reviewable size of " + maxFileSize + " bytes.");
+            }
+
+            StringBuilder content = new StringBuilder((int) size);
+            ByteBuffer bytes = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            CharBuffer chars = CharBuffer.allocate(READ_BUFFER_SIZE);
+            while (channel.read(bytes) != -1) {
+                bytes.flip();
+                decoder.decode(bytes, chars, false);
+                drain(chars, content);
+                bytes.compact();
+            }
+            bytes.flip();
+            decoder.decode(bytes, chars, true);
+            decoder.flush(chars);
+            drain(chars, content);
+            return content.toString();
+        }
+    }
+
+    private void drain(CharBuffer chars, StringBuilder content) {
+        chars.flip();
+        content.append(chars);
+        chars.clear();
+    }
+
+    private List<ReviewFinding> runRules(List<String> segments) {
+        int batchSize = Math.max(1, getBatchSize());
+        List<CompletableFuture<List<ReviewFinding>>> futures = new ArrayList<>();
+        for (ReviewRule rule : getRules()) {
+            for (int from = 0; from < segments.size(); from += batchSize) {
+                int first = from;
+                List<String> batch = segments.subList(from, Math.min(segments.size(), from + batchSize));
+                futures.add(CompletableFuture.supplyAsync(() -> rule.check(batch, first), reviewExecutor));
+            }
+        }
+
+        List<ReviewFinding> findings = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<ReviewFinding>> future : futures) {
+                findings.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return findings;
+    }
+
+    private double clamp(double grade) {
+        return Math.max(MIN_GRADE, Math.min(MAX_GRADE, grade));
+    }
+}
@@ -0,0 +1,149 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokExpression;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Va antes que LanguageTool: un .java o .log subido como text/plain se revisa por su extension
+@Component
+@Order(1)
+public class GrokReviewEngine extends AbstractReviewEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrokReviewEngine.class);
+    private static final String NAME = "grok";
+    private static final Set<String> EXTENSIONS = Set.of(
+            "log", "java", "kt", "py", "js", "ts", "c", "h", "cpp", "cs", "go", "rb", "php",
+            "sql", "sh", "xml", "json", "yml", "yaml", "properties", "html", "css");
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\\R");
+    private static final double PENALTY_PER_WEIGHTED_ISSUE = 0.5;
+    private static final int LINES_PER_BATCH = 2000;
+
+    private static final String PATTERN_SET = "review-code";
+    private static final String CATEGORY_ATTRIBUTE = "category";
+    private static final String WEIGHT_ATTRIBUTE = "weight";
+    private static final String DEFAULT_CATEGORY = "CUSTOM";
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private final GrokPatternRegistry grokPatternRegistry;
+
+    @Autowired
+    public GrokReviewEngine(
+            @Qualifier("reviewExecutor") Executor reviewExecutor,
+            MeterRegistry meterRegistry,
+            GrokPatternRegistry grokPatternRegistry,
+            @Value("${review.max-file-size:10485760}") long maxFileSize) {
+
+        super(reviewExecutor, meterRegistry, maxFileSize);
+        this.grokPatternRegistry = grokPatternRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(ReviewDocument document) {
+        return EXTENSIONS.contains(document.getExtension());
+    }
+
+    @Override
+    protected List<String> tokenize(String content) {
+        return List.of(LINE_SEPARATOR.split(content));
+    }
+
+    @Override
+    protected List<ReviewRule> getRules() {
+        // Se consulta en cada revision para tomar las reglas recargadas del registro, con su categoria y peso
+        List<ReviewRule> rules = new ArrayList<>();
+        for (GrokExpression expression : grokPatternRegistry.getPatternSet(PATTERN_SET).getExpressions()) {
+            String category = expression.getAttribute(CATEGORY_ATTRIBUTE);
+            rules.add(new GrokRule(expression, category != null ? category : DEFAULT_CATEGORY, weightOf(expression)));
+        }
+        return rules;
+    }
+
+    @Override
+    protected int getBatchSize() {
+        return LINES_PER_BATCH;
+    }
+
+    @Override
+    protected double score(List<String> segments, List<ReviewFinding> findings) {
+        if (segments.isEmpty()) {
+            return MIN_GRADE;
+        }
+        double weighted = findings.stream()
+                .mapToDouble(ReviewFinding::getWeight)
+                .sum();
+        return MAX_GRADE - (weighted * 100.0 / segments.size()) * PENALTY_PER_WEIGHTED_ISSUE;
+    }
+
+    @Override
+    protected String summarize(List<String> segments, List<ReviewFinding> findings) {
+        Map<String, Long> byCategory = findings.stream()
+                .collect(Collectors.groupingBy(ReviewFinding::getCategory, Collectors.counting()));
+        return String.format("Reviewed %d lines: %d findings %s.", segments.size(), findings.size(), byCategory);
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private double weightOf(GrokExpression expression) {
+        String weight = expression.getAttribute(WEIGHT_ATTRIBUTE);
+        if (weight == null) {
+            return DEFAULT_WEIGHT;
+        }
+        try {
+            return Double.parseDouble(weight);
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid weight '{}' on Grok rule {}, using {}", weight, expression.getId(), DEFAULT_WEIGHT);
+            return DEFAULT_WEIGHT;
+        }
+    }
+
+    private static class GrokRule implements ReviewRule {
+
+        private final GrokExpression expression;
+        private final String category;
+        private final double weight;
+
+        GrokRule(GrokExpression expression, String category, double weight) {
+            this.expression = expression;
+            this.category = category;
+            this.weight = weight;
+        }
+
+        @Override
+        public String getId() {
+            return expression.getId();
+        }
+
+        @Override
+        public List<ReviewFinding> check(List<String> segments, int firstSegment) {
+            List<ReviewFinding> findings = new ArrayList<>();
+            for (int i = 0; i < segments.size(); i++) {
+                if (expression.matches(segments.get(i))) {
+                    int line = firstSegment + i;
+                    findings.add(new ReviewFinding(getId(), category, line,
+                            "Line " + (line + 1) + " matched rule " + getId(), weight));
+                }
+            }
+            return findings;
+        }
+    }
+}
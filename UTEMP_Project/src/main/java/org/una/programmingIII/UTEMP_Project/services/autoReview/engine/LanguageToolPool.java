@@ -0,0 +1,185 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.languagetool.JLanguageTool;
+import org.languagetool.Languages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.una.programmingIII.UTEMP_Project.exceptions.CustomServiceException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * JLanguageTool instances are expensive to build and not thread-safe, so each language keeps a bounded
+ * set of instances that are created lazily and handed out to one checker at a time.
+ */
+@Component
+public class LanguageToolPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(LanguageToolPool.class);
+    private static final String WARM_UP_TEXT = "This is a sentence used to warm up the grammar checker.";
+
+    private final Map<String, LanguagePool> pools = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int poolSize;
+    private final long borrowTimeoutMillis;
+    private final List<String> warmUpLanguages;
+    private final Function<String, JLanguageTool> factory;
+
+    @Autowired
+    public LanguageToolPool(
+            MeterRegistry meterRegistry,
+            @Value("${review.languagetool.pool-size:0}") int poolSize,
+            @Value("${review.languagetool.borrow-timeout-ms:2000}") long borrowTimeoutMillis,
+            @Value("${review.languagetool.warm-up-languages:en-US}") List<String> warmUpLanguages) {
+
+        this(meterRegistry, poolSize, borrowTimeoutMillis, warmUpLanguages,
+                languageCode -> new JLanguageTool(Languages.getLanguageForShortCode(languageCode)));
+    }
+
+    public LanguageToolPool(MeterRegistry meterRegistry, int poolSize, long borrowTimeoutMillis,
+                            List<String> warmUpLanguages, Function<String, JLanguageTool> factory) {
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.warmUpLanguages = warmUpLanguages;
+        this.factory = factory;
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String languageCode : warmUpLanguages) {
+            long start = System.nanoTime();
+            LanguagePool pool = getPool(languageCode);
+            try {
+                for (int i = 0; i < poolSize; i++) {
+                    pool.warmUpInstance();
+                }
+                logger.info("LanguageTool pool for {} warmed up with {} instances in {} ms", languageCode, poolSize,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (Exception e) {
+                logger.error("Error warming up LanguageTool pool for {}: {}", languageCode, e.getMessage());
+            }
+        }
+    }
+
+    public <T> T withChecker(String languageCode, CheckerTask<T> task) {
+        LanguagePool pool = getPool(languageCode);
+        JLanguageTool languageTool = pool.borrow();
+        try {
+            return task.apply(languageTool);
+        } catch (IOException e) {
+            throw new CustomServiceException("Grammar check failed for language " + languageCode, e);
+        } finally {
+            pool.release(languageTool);
+        }
+    }
+
+    private LanguagePool getPool(String languageCode) {
+        return pools.computeIfAbsent(languageCode, LanguagePool::new);
+    }
+
+    @FunctionalInterface
+    public interface CheckerTask<T> {
+        T apply(JLanguageTool languageTool) throws IOException;
+    }
+
+    private class LanguagePool {
+
+        private final String languageCode;
+        private final BlockingQueue<JLanguageTool> idle;
+        private final AtomicInteger created = new AtomicInteger();
+
+        LanguagePool(String languageCode) {
+            this.languageCode = languageCode;
+            this.idle = new ArrayBlockingQueue<>(poolSize);
+            if (meterRegistry != null) {
+                Gauge.builder("utemp.languagetool.pool.created", created, AtomicInteger::get)
+                        .tag("language", languageCode)
+                        .register(meterRegistry);
+                Gauge.builder("utemp.languagetool.pool.idle", idle, BlockingQueue::size)
+                        .tag("language", languageCode)
+                        .register(meterRegistry);
+            }
+        }
+
+        void warmUpInstance() throws IOException {
+            JLanguageTool languageTool = tryCreate();
+            if (languageTool == null) {
+                return;
+            }
+            try {
+                languageTool.check(WARM_UP_TEXT);
+            } catch (IOException | RuntimeException e) {
+                // La instancia que fallo se descarta y su cupo se devuelve para que borrow pueda crear otra
+                created.decrementAndGet();
+                throw e;
+            }
+            release(languageTool);
+        }
+
+        // La espera corta es intencional: quien pide ocupa un hilo de reviewExecutor mientras espera
+        JLanguageTool borrow() {
+            JLanguageTool languageTool = idle.poll();
+            if (languageTool != null) {
+                return languageTool;
+            }
+            languageTool = tryCreate();
+            if (languageTool != null) {
+                return languageTool;
+            }
+            try {
+                languageTool = idle.poll(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomServiceException("Interrupted while waiting for a grammar checker", e);
+            }
+            if (languageTool == null) {
+                throw new CustomServiceException("No grammar checker available for " + languageCode
+                        + " after " + borrowTimeoutMillis + " ms");
+            }
+            return languageTool;
+        }
+
+        void release(JLanguageTool languageTool) {
+            if (!idle.offer(languageTool)) {
+                logger.warn("LanguageTool pool for {} is full, discarding instance", languageCode);
+                created.decrementAndGet();
+            }
+        }
+
+        private JLanguageTool tryCreate() {
+            int current;
+            do {
+                current = created.get();
+                if (current >= poolSize) {
+                    return null;
+                }
+            } while (!created.compareAndSet(current, current + 1));
+
+            try {
+                logger.info("Creating LanguageTool instance {} of {} for {}", current + 1, poolSize, languageCode);
+                return factory.apply(languageCode);
+            } catch (RuntimeException e) {
+                created.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.languagetool.rules.RuleMatch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+@Component
+@Order(2)
+public class LanguageToolReviewEngine extends AbstractReviewEngine {
+
+    private static final String NAME = "languagetool";
+    private static final String SPELLING = "SPELLING";
+    private static final String GRAMMAR = "GRAMMAR";
+    private static final Set<String> EXTENSIONS = Set.of("txt", "md", "markdown", "text");
+    private static final Pattern PARAGRAPH_SEPARATOR = Pattern.compile("\\R\\s*\\R");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final LanguageToolPool languageToolPool;
+    private final String languageCode;
+    private final int paragraphsPerBatch;
+    private final double spellingWeight;
+    private final double grammarWeight;
+
+    @Autowired
+    public LanguageToolReviewEngine(
+            @Qualifier("reviewExecutor") Executor reviewExecutor,
+            MeterRegistry meterRegistry,
+            LanguageToolPool languageToolPool,
+            @Value("${review.max-file-size:10485760}") long maxFileSize,
+            @Value("${review.languagetool.language:en-US}") String languageCode,
+            @Value("${review.languagetool.paragraphs-per-batch:8}") int paragraphsPerBatch,
+            @Value("${review.languagetool.spelling-weight:1.0}") double spellingWeight,
+            @Value("${review.languagetool.grammar-weight:1.5}") double grammarWeight) {
+
+        super(reviewExecutor, meterRegistry, maxFileSize);
+        this.languageToolPool = languageToolPool;
+        this.languageCode = languageCode;
+        this.paragraphsPerBatch = paragraphsPerBatch;
+        this.spellingWeight = spellingWeight;
+        this.grammarWeight = grammarWeight;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(ReviewDocument document) {
+        String fileType = document.getFileType();
+        return EXTENSIONS.contains(document.getExtension())
+                || (fileType != null && (fileType.startsWith("text/plain") || fileType.startsWith("text/markdown")));
+    }
+
+    @Override
+    protected List<String> tokenize(String content) {
+        return Arrays.stream(PARAGRAPH_SEPARATOR.split(content))
+                .map(String::trim)
+                .filter(paragraph -> !paragraph.isEmpty())
+                .toList();
+    }
+
+    @Override
+    protected List<ReviewRule> getRules() {
+        return List.of(new GrammarRule());
+    }
+
+    @Override
+    protected int getBatchSize() {
+        return paragraphsPerBatch;
+    }
+
+    @Override
+    protected double score(List<String> segments, List<ReviewFinding> findings) {
+        long words = countWords(segments);
+        if (words == 0) {
+            return MIN_GRADE;
+        }
+        double spellingDensity = per100Words(count(findings, SPELLING), words);
+        double grammarDensity = per100Words(count(findings, GRAMMAR), words);
+        return MAX_GRADE - spellingDensity * spellingWeight - grammarDensity * grammarWeight;
+    }
+
+    @Override
+    protected String summarize(List<String> segments, List<ReviewFinding> findings) {
+        return String.format("Reviewed %d words: %d spelling and %d grammar issues found.",
+                countWords(segments), count(findings, SPELLING), count(findings, GRAMMAR));
+    }
+
+    private long countWords(List<String> segments) {
+        return segments.stream()
+                .mapToLong(segment -> WHITESPACE.split(segment).length)
+                .sum();
+    }
+
+    private long count(List<ReviewFinding> findings, String category) {
+        return findings.stream().filter(finding -> category.equals(finding.getCategory())).count();
+    }
+
+    private double per100Words(long issues, long words) {
+        return issues * 100.0 / words;
+    }
+
+    private class GrammarRule implements ReviewRule {
+
+        @Override
+        public String getId() {
+            return NAME;
+        }
+
+        @Override
+        public List<ReviewFinding> check(List<String> segments, int firstSegment) {
+            return languageToolPool.withChecker(languageCode, languageTool -> {
+                List<ReviewFinding> findings = new ArrayList<>();
+                for (int i = 0; i < segments.size(); i++) {
+                    for (RuleMatch match : languageTool.check(segments.get(i))) {
+                        String category = match.getRule().isDictionaryBasedSpellingRule() ? SPELLING : GRAMMAR;
+                        findings.add(new ReviewFinding(match.getRule().getId(), category, firstSegment + i, match.getMessage()));
+                    }
+                }
+                return findings;
+            });
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReviewDocument {
+    private final Long fileId;
+    private final String fileName;
+    private final String fileType;
+    private final Path path;
+
+    public String getExtension() {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,9 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+public interface ReviewEngine {
+    String getName();
+
+    boolean supports(ReviewDocument document);
+
+    ReviewResult review(ReviewDocument document);
+}
@@ -0,0 +1,39 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.stereotype.Component;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ReviewEngineRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewEngineRegistry.class);
+
+    private final List<ReviewEngine> engines;
+
+    @Autowired
+    public ReviewEngineRegistry(List<ReviewEngine> engines) {
+        // Se gana el primer motor que acepta el documento, asi que el orden debe ser explicito
+        List<ReviewEngine> ordered = new ArrayList<>(engines);
+        AnnotationAwareOrderComparator.sort(ordered);
+        this.engines = List.copyOf(ordered);
+        logger.info("Review engines registered: {}", this.engines.stream().map(ReviewEngine::getName).toList());
+    }
+
+    public ReviewEngine resolve(ReviewDocument document) {
+        return engines.stream()
+                .filter(engine -> engine.supports(document))
+                .findFirst()
+                .orElseThrow(() -> new InvalidDataException("No review engine supports file " + document.getFileName()));
+    }
+
+    public ReviewResult review(ReviewDocument document) {
+        return resolve(document).review(document);
+    }
+}
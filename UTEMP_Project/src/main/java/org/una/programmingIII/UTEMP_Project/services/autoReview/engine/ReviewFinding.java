@@ -0,0 +1,20 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReviewFinding {
+    private final String ruleId;
+    private final String category;
+    private final int segment;
+    private final String message;
+    private final double weight;
+
+    public ReviewFinding(String ruleId, String category, int segment, String message) {
+        this(ruleId, category, segment, message, 1.0);
+    }
+}
@@ -0,0 +1,50 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ReviewMetrics {
+
+    private static final String STAGE_TIMER = "utemp.review.stage";
+
+    private final String engineName;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+
+    public ReviewMetrics(String engineName, MeterRegistry meterRegistry) {
+        this.engineName = engineName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T time(String stage, Stage<T> action) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return action.run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            stageMillis.put(stage, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            if (meterRegistry != null) {
+                Timer.builder(STAGE_TIMER)
+                        .tag("engine", engineName)
+                        .tag("stage", stage)
+                        .register(meterRegistry)
+                        .record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public Map<String, Long> getStageMillis() {
+        return Collections.unmodifiableMap(stageMillis);
+    }
+
+    @FunctionalInterface
+    public interface Stage<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,19 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReviewResult {
+    private final String engineName;
+    private final double grade;
+    private final int segments;
+    private final int findings;
+    private final String summary;
+    private final Map<String, Long> stageMillis;
+}
@@ -0,0 +1,9 @@
+package org.una.programmingIII.UTEMP_Project.services.autoReview.engine;
+
+import java.util.List;
+
+public interface ReviewRule {
+    String getId();
+
+    List<ReviewFinding> check(List<String> segments, int firstSegment);
+}
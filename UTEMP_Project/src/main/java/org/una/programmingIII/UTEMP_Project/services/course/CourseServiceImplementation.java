@@ -25,6 +25,7 @@ import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
 import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.services.notification.NotificationService;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
@@ -45,6 +46,7 @@ public class CourseServiceImplementation extends Subject<EmailNotificationObserv
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
     private final AssignmentRepository assignmentRepository;
+    private final HierarchyIndex hierarchyIndex;
     private final NotificationService notificationService;
 
     private final GenericMapper<Course, CourseDTO> courseMapper;
@@ -57,13 +59,15 @@ public class CourseServiceImplementation extends Subject<EmailNotificationObserv
             DepartmentRepository departmentRepository,
             AssignmentRepository assignmentRepository,
             NotificationService notificationService,
-            GenericMapperFactory mapperFactory) {
+            GenericMapperFactory mapperFactory,
+            HierarchyIndex hierarchyIndex) {
 
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
         this.departmentRepository = departmentRepository;
         this.assignmentRepository = assignmentRepository;
         this.notificationService = notificationService;
+        this.hierarchyIndex = hierarchyIndex;
         this.courseMapper = mapperFactory.createMapper(Course.class, CourseDTO.class);
         this.assignmentMapper = mapperFactory.createMapper(Assignment.class, AssignmentDTO.class);
     }
@@ -114,6 +118,7 @@ public class CourseServiceImplementation extends Subject<EmailNotificationObserv
     @Override
     @Transactional
     public CourseDTO createCourse(@Valid CourseDTO courseDTO) {
+        hierarchyIndex.markChanged();
         try {
             Course course = courseMapper.convertToEntity(courseDTO);
             course.setTeacher(getEntityById(/*courseDTO.getTeacher().getId()*/43L, userRepository, "Teacher"));
@@ -135,6 +140,7 @@ public class CourseServiceImplementation extends Subject<EmailNotificationObserv
     @Override
     @Transactional
     public Optional<CourseDTO> updateCourse(Long id, @Valid CourseDTO courseDTO) {
+        hierarchyIndex.markChanged();
         try {
             Optional<Course> optionalCourse = courseRepository.findById(id);
             Course existingCourse = optionalCourse.orElseThrow(() -> new ResourceNotFoundException("Course", id));
@@ -157,6 +163,7 @@ public class CourseServiceImplementation extends Subject<EmailNotificationObserv
     @Override
     @Transactional
     public void deleteCourse(Long id) {
+        hierarchyIndex.markChanged();
         try {
             Course course = getEntityById(id, courseRepository, "Course");
 
@@ -20,6 +20,7 @@ import org.una.programmingIII.UTEMP_Project.models.Department;
 import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
 
@@ -36,6 +37,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final FacultyRepository facultyRepository;
     private final CourseRepository courseRepository;
+    private final HierarchyIndex hierarchyIndex;
 
     private final GenericMapper<Department, DepartmentDTO> departmentMapper;
     private final GenericMapper<Course, CourseDTO> courseMapper;
@@ -45,11 +47,13 @@ public class DepartmentServiceImplementation implements DepartmentService {
             DepartmentRepository departmentRepository,
             FacultyRepository facultyRepository,
             CourseRepository courseRepository,
-            GenericMapperFactory mapperFactory) {
+            GenericMapperFactory mapperFactory,
+            HierarchyIndex hierarchyIndex) {
 
         this.departmentRepository = departmentRepository;
         this.facultyRepository = facultyRepository;
         this.courseRepository = courseRepository;
+        this.hierarchyIndex = hierarchyIndex;
         this.departmentMapper = mapperFactory.createMapper(Department.class, DepartmentDTO.class);
         this.courseMapper = mapperFactory.createMapper(Course.class, CourseDTO.class);
     }
@@ -91,6 +95,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     @Override
     @Transactional
     public DepartmentDTO createDepartment(DepartmentDTO departmentDTO) {
+        hierarchyIndex.markChanged();
         try {
             Department department = departmentMapper.convertToEntity(departmentDTO);
             department.setFaculty(getEntityById(departmentDTO.getFaculty().getId(), facultyRepository, "Faculty"));
@@ -111,6 +116,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     @Override
     @Transactional
     public Optional<DepartmentDTO> updateDepartment(Long id, @Valid DepartmentDTO departmentDTO) {
+        hierarchyIndex.markChanged();
         try {
             Optional<Department> optionalDepartment = departmentRepository.findById(id);
             Department existingDepartment = optionalDepartment.orElseThrow(() -> new ResourceNotFoundException("Department", id));
@@ -134,6 +140,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     @Override
     @Transactional
     public void deleteDepartment(Long id) {
+        hierarchyIndex.markChanged();
         try {
             Department department = getEntityById(id, departmentRepository, "Department");
             executeWithLogging(() -> {
@@ -169,6 +176,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     @Override
     @Transactional
     public void addCourseToDepartment(Long departmentId, CourseDTO courseDTO) {
+        hierarchyIndex.markChanged();
         try {
             Department department = getEntityById(departmentId, departmentRepository, "Department");
             Course course = courseMapper.convertToEntity(courseDTO);
@@ -192,6 +200,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     @Override
     @Transactional
     public void removeCourseFromDepartment(Long departmentId, Long courseId) {
+        hierarchyIndex.markChanged();
         try {
             Department department = getEntityById(departmentId, departmentRepository, "Department");
             Course course = getEntityById(courseId, courseRepository, "Course");
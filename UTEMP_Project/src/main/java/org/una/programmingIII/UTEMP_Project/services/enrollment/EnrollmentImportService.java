@@ -0,0 +1,9 @@
+package org.una.programmingIII.UTEMP_Project.services.enrollment;
+
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO;
+
+import java.io.InputStream;
+
+public interface EnrollmentImportService {
+    EnrollmentImportResultDTO importEnrollments(InputStream input, String contentType);
+}
@@ -0,0 +1,287 @@
+package org.una.programmingIII.UTEMP_Project.services.enrollment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO.RowResult;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO.RowStatus;
+import org.una.programmingIII.UTEMP_Project.exceptions.FileServiceException;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.models.Enrollment;
+import org.una.programmingIII.UTEMP_Project.models.EnrollmentState;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.EnrollmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Streams a CSV ("identificationNumber,courseId") or NDJSON ({"identificationNumber": "...", "courseId": 1}) body
+ * and imports it in chunks: each chunk resolves users, courses and existing enrollments with one IN query each
+ * and is saved in its own transaction, so the database work per chunk is bounded and a failing chunk does not undo
+ * the others. The report still holds one result per row and the duplicate check one key per committed row, so
+ * memory grows with the size of the file.
+ */
+@Service
+public class EnrollmentImportServiceImplementation implements EnrollmentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentImportServiceImplementation.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int chunkSize;
+
+    @Autowired
+    public EnrollmentImportServiceImplementation(
+            EnrollmentRepository enrollmentRepository,
+            CourseRepository courseRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${enrollments.import.chunk-size:500}") int chunkSize) {
+
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public EnrollmentImportResultDTO importEnrollments(InputStream input, String contentType) {
+        boolean ndjson = contentType != null && contentType.toLowerCase().contains("json");
+        ImportState state = new ImportState();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (!ndjson && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                chunk.add(ndjson ? parseJsonRow(lineNumber, line) : parseCsvRow(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, state);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, state);
+            }
+        } catch (IOException e) {
+            logger.error("Error reading enrollment import: {}", e.getMessage());
+            throw new FileServiceException("Error reading enrollment import: " + e.getMessage());
+        }
+
+        if (state.results.isEmpty()) {
+            throw new InvalidDataException("The enrollment import does not contain any rows.");
+        }
+        state.results.sort(Comparator.comparingLong(RowResult::getLine));
+        logger.info("Enrollment import finished: {} rows, {} created, {} skipped, {} failed",
+                state.results.size(), state.created, state.skipped, state.failed);
+        return EnrollmentImportResultDTO.builder()
+                .totalRows(state.results.size())
+                .created(state.created)
+                .skipped(state.skipped)
+                .failed(state.failed)
+                .rows(state.results)
+                .build();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void importChunk(List<ImportRow> chunk, ImportState state) {
+        List<ImportRow> pending = new ArrayList<>(chunk.size());
+        Set<String> chunkKeys = new HashSet<>();
+        for (ImportRow row : chunk) {
+            String key = row.identificationNumber + ":" + row.courseId;
+            if (row.error != null) {
+                state.report(row, RowStatus.INVALID, row.error);
+            } else if (state.seen.contains(key) || !chunkKeys.add(key)) {
+                state.report(row, RowStatus.DUPLICATED_IN_FILE, "Row repeats a previous line of the file");
+            } else {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<RowResult> chunkResults = transactionTemplate.execute(status -> saveChunk(pending, state));
+            state.merge(Objects.requireNonNull(chunkResults));
+            // Solo cuentan como vistas las filas de un bloque confirmado: si el bloque falla, una copia posterior
+            // de la misma fila se vuelve a intentar en lugar de reportarse como duplicada
+            state.seen.addAll(chunkKeys);
+        } catch (Exception e) {
+            logger.error("Error importing enrollment chunk starting at line {}: {}", pending.getFirst().line, e.getMessage());
+            pending.forEach(row -> state.report(row, RowStatus.FAILED, "Chunk could not be saved: " + e.getMessage()));
+        }
+    }
+
+    private List<RowResult> saveChunk(List<ImportRow> rows, ImportState state) {
+        Set<String> identificationNumbers = new HashSet<>();
+        Set<Long> unknownCourses = new HashSet<>();
+        for (ImportRow row : rows) {
+            identificationNumbers.add(row.identificationNumber);
+            if (!state.existingCourses.contains(row.courseId) && !state.missingCourses.contains(row.courseId)) {
+                unknownCourses.add(row.courseId);
+            }
+        }
+
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllByIdentificationNumberIn(identificationNumbers)
+                .forEach(user -> users.put(user.getIdentificationNumber(), user));
+        if (!unknownCourses.isEmpty()) {
+            List<Long> found = courseRepository.findExistingIds(unknownCourses);
+            state.existingCourses.addAll(found);
+            unknownCourses.removeAll(found);
+            state.missingCourses.addAll(unknownCourses);
+        }
+
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (ImportRow row : rows) {
+            User user = users.get(row.identificationNumber);
+            if (user != null && state.existingCourses.contains(row.courseId)) {
+                studentIds.add(user.getId());
+                courseIds.add(row.courseId);
+            }
+        }
+        Set<String> enrolled = new HashSet<>();
+        if (!studentIds.isEmpty()) {
+            for (Object[] pair : enrollmentRepository.findStudentAndCourseIds(studentIds, courseIds)) {
+                enrolled.add(pair[0] + ":" + pair[1]);
+            }
+        }
+
+        List<RowResult> results = new ArrayList<>(rows.size());
+        List<Enrollment> enrollments = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            User user = users.get(row.identificationNumber);
+            if (user == null) {
+                results.add(row.result(RowStatus.USER_NOT_FOUND, "No user with identification number " + row.identificationNumber));
+            } else if (!state.existingCourses.contains(row.courseId)) {
+                results.add(row.result(RowStatus.COURSE_NOT_FOUND, "No course with ID " + row.courseId));
+            } else if (enrolled.contains(user.getId() + ":" + row.courseId)) {
+                results.add(row.result(RowStatus.ALREADY_ENROLLED, "Student is already enrolled in the course"));
+            } else {
+                enrollments.add(Enrollment.builder()
+                        .student(user)
+                        .course(courseRepository.getReferenceById(row.courseId))
+                        .state(EnrollmentState.ENROLLED)
+                        .build());
+                results.add(row.result(RowStatus.CREATED, null));
+            }
+        }
+        enrollmentRepository.saveAll(enrollments);
+        return results;
+    }
+
+    private boolean isCsvHeader(String line) {
+        String[] columns = line.split("[,;]");
+        return columns.length >= 2 && !unquote(columns[1]).matches("\\d+");
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line) {
+        String[] columns = line.split("[,;]");
+        if (columns.length < 2) {
+            return ImportRow.invalid(lineNumber, "Expected identificationNumber,courseId");
+        }
+        return ImportRow.of(lineNumber, unquote(columns[0]), unquote(columns[1]));
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return ImportRow.of(lineNumber, node.path("identificationNumber").asText(null), node.path("courseId").asText(null));
+        } catch (IOException e) {
+            return ImportRow.invalid(lineNumber, "Malformed JSON line");
+        }
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private final String identificationNumber;
+        private final Long courseId;
+        private final String error;
+
+        private ImportRow(long line, String identificationNumber, Long courseId, String error) {
+            this.line = line;
+            this.identificationNumber = identificationNumber;
+            this.courseId = courseId;
+            this.error = error;
+        }
+
+        static ImportRow of(long line, String identificationNumber, String courseId) {
+            if (identificationNumber == null || identificationNumber.isBlank()) {
+                return new ImportRow(line, identificationNumber, null, "Identification number is required");
+            }
+            try {
+                return new ImportRow(line, identificationNumber.trim(), Long.parseLong(courseId.trim()), null);
+            } catch (NullPointerException | NumberFormatException e) {
+                return new ImportRow(line, identificationNumber, null, "Course ID must be a number");
+            }
+        }
+
+        static ImportRow invalid(long line, String error) {
+            return new ImportRow(line, null, null, error);
+        }
+
+        RowResult result(RowStatus status, String message) {
+            return new RowResult(line, identificationNumber, courseId, status, message);
+        }
+    }
+
+    private static class ImportState {
+        private final List<RowResult> results = new ArrayList<>();
+        private final Set<String> seen = new HashSet<>();
+        private final Set<Long> existingCourses = new HashSet<>();
+        private final Set<Long> missingCourses = new HashSet<>();
+        private int created;
+        private int skipped;
+        private int failed;
+
+        void report(ImportRow row, RowStatus status, String message) {
+            add(row.result(status, message));
+        }
+
+        void merge(List<RowResult> chunkResults) {
+            chunkResults.forEach(this::add);
+        }
+
+        private void add(RowResult result) {
+            results.add(result);
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATED_IN_FILE, ALREADY_ENROLLED -> skipped++;
+                default -> failed++;
+            }
+        }
+    }
+}
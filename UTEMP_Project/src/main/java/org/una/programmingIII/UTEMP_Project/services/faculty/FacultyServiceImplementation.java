@@ -20,6 +20,7 @@ import org.una.programmingIII.UTEMP_Project.models.Faculty;
 import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
 
@@ -36,6 +37,7 @@ public class FacultyServiceImplementation implements FacultyService {
     private final FacultyRepository facultyRepository;
     private final UniversityRepository universityRepository;
     private final DepartmentRepository departmentRepository;
+    private final HierarchyIndex hierarchyIndex;
 
     private final GenericMapper<Faculty, FacultyDTO> facultyMapper;
     private final GenericMapper<Department, DepartmentDTO> departmentMapper;
@@ -45,11 +47,13 @@ public class FacultyServiceImplementation implements FacultyService {
             FacultyRepository facultyRepository,
             UniversityRepository universityRepository,
             DepartmentRepository departmentRepository,
-            GenericMapperFactory mapperFactory) {
+            GenericMapperFactory mapperFactory,
+            HierarchyIndex hierarchyIndex) {
 
         this.facultyRepository = facultyRepository;
         this.universityRepository = universityRepository;
         this.departmentRepository = departmentRepository;
+        this.hierarchyIndex = hierarchyIndex;
         this.facultyMapper = mapperFactory.createMapper(Faculty.class, FacultyDTO.class);
         this.departmentMapper = mapperFactory.createMapper(Department.class, DepartmentDTO.class);
     }
@@ -91,6 +95,7 @@ public class FacultyServiceImplementation implements FacultyService {
     @Override
     @Transactional
     public FacultyDTO createFaculty(FacultyDTO facultyDTO) {
+        hierarchyIndex.markChanged();
         try {
             Faculty faculty = facultyMapper.convertToEntity(facultyDTO);
             faculty.setUniversity(getEntityById(facultyDTO.getUniversity().getId(), universityRepository, "University"));
@@ -111,6 +116,7 @@ public class FacultyServiceImplementation implements FacultyService {
     @Override
     @Transactional
     public Optional<FacultyDTO> updateFaculty(Long id, @Valid FacultyDTO facultyDTO) {
+        hierarchyIndex.markChanged();
         try {
             Optional<Faculty> optionalFaculty = facultyRepository.findById(id);
             Faculty existingFaculty = optionalFaculty.orElseThrow(() -> new ResourceNotFoundException("Faculty", id));
@@ -132,6 +138,7 @@ public class FacultyServiceImplementation implements FacultyService {
     @Override
     @Transactional
     public void deleteFaculty(Long id) {
+        hierarchyIndex.markChanged();
         try {
             Faculty faculty = getEntityById(id, facultyRepository, "Faculty");
             executeWithLogging(() -> {
@@ -167,6 +174,7 @@ public class FacultyServiceImplementation implements FacultyService {
     @Override
     @Transactional
     public void addDepartmentToFaculty(Long facultyId, DepartmentDTO departmentDTO) {
+        hierarchyIndex.markChanged();
         try {
             Faculty faculty = getEntityById(facultyId, facultyRepository, "Faculty");
             Department department = departmentMapper.convertToEntity(departmentDTO);
@@ -190,6 +198,7 @@ public class FacultyServiceImplementation implements FacultyService {
     @Override
     @Transactional
     public void removeDepartmentFromFaculty(Long facultyId, Long departmentId) {
+        hierarchyIndex.markChanged();
         try {
             Faculty faculty = getEntityById(facultyId, facultyRepository, "Faculty");
             Department department = getEntityById(departmentId, departmentRepository, "Department");
@@ -0,0 +1,11 @@
+package org.una.programmingIII.UTEMP_Project.services.grade;
+
+import org.una.programmingIII.UTEMP_Project.controllers.request.CalificationRequest;
+import org.una.programmingIII.UTEMP_Project.dtos.GradeBatchResultDTO;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+
+import java.util.List;
+
+public interface GradeBatchService {
+    GradeBatchResultDTO gradeSubmissions(List<CalificationRequest> califications, CustomUserDetails grader);
+}
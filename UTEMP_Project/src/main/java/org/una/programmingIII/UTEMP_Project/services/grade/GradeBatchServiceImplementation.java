@@ -0,0 +1,246 @@
+package org.una.programmingIII.UTEMP_Project.services.grade;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.controllers.request.CalificationRequest;
+import org.una.programmingIII.UTEMP_Project.dtos.GradeBatchResultDTO;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.*;
+import org.una.programmingIII.UTEMP_Project.observers.Subject;
+import org.una.programmingIII.UTEMP_Project.repositories.GradeRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.NotificationRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.SubmissionRepository;
+import org.una.programmingIII.UTEMP_Project.security.authorization.OwnershipAuthorizationManager;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
+
+import java.util.*;
+
+@Service
+@Transactional
+public class GradeBatchServiceImplementation extends Subject<EmailNotificationObserver> implements GradeBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradeBatchServiceImplementation.class);
+    private static final int MAX_COMMENTS_LENGTH = 1000;
+    private static final int MAX_NOTIFICATION_LENGTH = 500;
+
+    private final GradeRepository gradeRepository;
+    private final SubmissionRepository submissionRepository;
+    private final NotificationRepository notificationRepository;
+    private final int maxBatchSize;
+    private final int flushSize;
+
+    @Autowired
+    public GradeBatchServiceImplementation(
+            GradeRepository gradeRepository,
+            SubmissionRepository submissionRepository,
+            NotificationRepository notificationRepository,
+            @Value("${grades.batch.max-size:1000}") int maxBatchSize,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int flushSize) {
+
+        this.gradeRepository = gradeRepository;
+        this.submissionRepository = submissionRepository;
+        this.notificationRepository = notificationRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.flushSize = flushSize;
+    }
+
+    @Override
+    @Transactional
+    public GradeBatchResultDTO gradeSubmissions(List<CalificationRequest> califications, CustomUserDetails grader) {
+        validateCalifications(califications);
+
+        Map<Long, CalificationRequest> bySubmission = new LinkedHashMap<>();
+        califications.forEach(calification -> bySubmission.put(calification.getSubmissionId(), calification));
+
+        // Una sola consulta IN para las entregas (con estudiante, curso y profesor) y otra para las notas existentes
+        Map<Long, Submission> submissions = new HashMap<>();
+        submissionRepository.findAllForGradingByIdIn(bySubmission.keySet())
+                .forEach(submission -> submissions.put(submission.getId(), submission));
+        for (Long submissionId : bySubmission.keySet()) {
+            if (!submissions.containsKey(submissionId)) {
+                throw new ResourceNotFoundException("Submission", submissionId);
+            }
+        }
+        checkOwnership(submissions.values(), grader);
+
+        // Si una entrega tiene varias notas se actualiza la más reciente (mayor id), igual que en el libro de notas
+        Map<Long, Grade> existingGrades = new HashMap<>();
+        gradeRepository.findBySubmissionIdInOrderByIdDesc(bySubmission.keySet())
+                .forEach(grade -> existingGrades.putIfAbsent(grade.getSubmission().getId(), grade));
+
+        List<Grade> grades = new ArrayList<>(bySubmission.size());
+        int created = 0;
+        for (Map.Entry<Long, CalificationRequest> entry : bySubmission.entrySet()) {
+            Grade grade = existingGrades.get(entry.getKey());
+            if (grade == null) {
+                grade = Grade.builder().submission(submissions.get(entry.getKey())).build();
+                created++;
+            }
+            grade.setGrade(entry.getValue().getGradeValue());
+            grade.setComments(entry.getValue().getComments());
+            grade.setReviewedByAi(false);
+            grade.setState(GradeState.FINALIZED);
+            grades.add(grade);
+        }
+        saveInChunks(grades);
+
+        GradeBatchResultDTO result = GradeBatchResultDTO.builder()
+                .received(califications.size())
+                .created(created)
+                .updated(grades.size() - created)
+                .build();
+        notifyAboutGrades(grades, result);
+
+        logger.info("Batch grading finished: {} created, {} updated", result.getCreated(), result.getUpdated());
+        return result;
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void validateCalifications(List<CalificationRequest> califications) {
+        if (califications == null || califications.isEmpty()) {
+            throw new InvalidDataException("The gradebook must contain at least one grade.");
+        }
+        if (califications.size() > maxBatchSize) {
+            throw new InvalidDataException("The gradebook cannot contain more than " + maxBatchSize + " grades.");
+        }
+
+        List<String> errors = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < califications.size(); i++) {
+            CalificationRequest calification = califications.get(i);
+            if (calification == null || calification.getSubmissionId() == null) {
+                errors.add("Entry " + i + ": submission ID is required");
+                continue;
+            }
+            if (!seen.add(calification.getSubmissionId())) {
+                errors.add("Entry " + i + ": duplicated submission ID " + calification.getSubmissionId());
+            }
+            Double gradeValue = calification.getGradeValue();
+            if (gradeValue == null || gradeValue < 0 || gradeValue > 10) {
+                errors.add("Entry " + i + ": grade value must be between 0 and 10");
+            }
+            String comments = calification.getComments();
+            if (comments == null || comments.trim().isEmpty()) {
+                errors.add("Entry " + i + ": comments cannot be null or empty");
+            } else if (comments.length() > MAX_COMMENTS_LENGTH) {
+                errors.add("Entry " + i + ": comments must be at most " + MAX_COMMENTS_LENGTH + " characters long");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidDataException("Invalid gradebook: " + String.join("; ", errors));
+        }
+    }
+
+    // Igual que @RequiresOwnership(level = TEACHER): solo el docente del curso califica sus entregas; el lote es todo o nada
+    private void checkOwnership(Collection<Submission> submissions, CustomUserDetails grader) {
+        if (grader == null) {
+            throw new AccessDeniedException("An authenticated grader is required.");
+        }
+        if (OwnershipAuthorizationManager.bypassesOwnership(grader)) {
+            return;
+        }
+        Long graderId = grader.getUser().getId();
+        List<Long> foreignSubmissions = submissions.stream()
+                .filter(submission -> {
+                    User teacher = submission.getAssignment().getCourse().getTeacher();
+                    return teacher == null || !teacher.getId().equals(graderId);
+                })
+                .map(Submission::getId)
+                .sorted()
+                .toList();
+        if (!foreignSubmissions.isEmpty()) {
+            throw new AccessDeniedException("User " + graderId + " does not teach the courses of submissions " + foreignSubmissions);
+        }
+    }
+
+    private void saveInChunks(List<Grade> grades) {
+        // Cada bloque se envía como un batch JDBC (hibernate.jdbc.batch_size)
+        for (int from = 0; from < grades.size(); from += flushSize) {
+            gradeRepository.saveAll(grades.subList(from, Math.min(from + flushSize, grades.size())));
+            gradeRepository.flush();
+        }
+    }
+
+    private void notifyAboutGrades(List<Grade> grades, GradeBatchResultDTO result) {
+        Map<Long, User> recipients = new HashMap<>();
+        Map<Long, StringBuilder> studentMessages = new LinkedHashMap<>();
+        Map<Long, Integer> teacherCounts = new LinkedHashMap<>();
+
+        for (Grade grade : grades) {
+            Submission submission = grade.getSubmission();
+            User student = submission.getStudent();
+            User teacher = submission.getAssignment().getCourse().getTeacher();
+            recipients.putIfAbsent(student.getId(), student);
+
+            StringBuilder message = studentMessages.computeIfAbsent(student.getId(), id -> new StringBuilder());
+            if (!message.isEmpty()) {
+                message.append("; ");
+            }
+            message.append("The grade of the assigment '").append(submission.getAssignment().getTitle())
+                    .append("' was ").append(grade.getGrade());
+            // Un curso sin docente asignado (solo lo puede calificar un administrador) no genera aviso al docente
+            if (teacher != null) {
+                recipients.putIfAbsent(teacher.getId(), teacher);
+                teacherCounts.merge(teacher.getId(), 1, Integer::sum);
+            }
+        }
+
+        List<Notification> notifications = new ArrayList<>(studentMessages.size() + teacherCounts.size());
+        studentMessages.forEach((studentId, message) ->
+                notifications.add(buildNotification(recipients.get(studentId), message.toString())));
+        teacherCounts.forEach((teacherId, count) ->
+                notifications.add(buildNotification(recipients.get(teacherId), count + " grades were registered in your courses.")));
+        notificationRepository.saveAll(notifications);
+
+        Map<String, String> studentEmails = new LinkedHashMap<>();
+        studentMessages.forEach((studentId, message) -> studentEmails.put(recipients.get(studentId).getEmail(), message.toString()));
+        Map<String, Integer> teacherEmails = new LinkedHashMap<>();
+        teacherCounts.forEach((teacherId, count) -> teacherEmails.put(recipients.get(teacherId).getEmail(), count));
+        afterCommit(() -> sendEmails(studentEmails, teacherEmails));
+
+        result.setNotifiedStudents(studentMessages.size());
+        result.setNotifiedTeachers(teacherCounts.size());
+    }
+
+    private void sendEmails(Map<String, String> studentEmails, Map<String, Integer> teacherEmails) {
+        try {
+            studentEmails.forEach((email, message) -> notifyObservers("SUBMISSION_GRADED", message, email));
+            teacherEmails.forEach((email, count) ->
+                    notifyObservers("GRADE_NOTIFICATION", count + " grades were registered in your courses.", email));
+        } catch (Exception e) {
+            logger.error("Error sending batch grading emails: {}", e.getMessage());
+        }
+    }
+
+    // Los correos solo salen si el lote se confirma; un rollback (p. ej. en un bloque posterior) no avisa a nadie
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Notification buildNotification(User user, String message) {
+        return Notification.builder()
+                .user(user)
+                .message(message.length() > MAX_NOTIFICATION_LENGTH ? message.substring(0, MAX_NOTIFICATION_LENGTH) : message)
+                .status(NotificationStatus.UNREAD)
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import org.una.programmingIII.UTEMP_Project.dtos.GradebookDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Student x assignment matrix of one course, stored in primitive arrays with running sums per row, per column
+ * and a grade distribution, so every change is applied in O(1) and a snapshot never touches the database.
+ */
+public class CourseGradebook {
+
+    private static final int BUCKETS = 10;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Long courseId;
+
+    private final Map<Long, Integer> studentIndex = new HashMap<>();
+    private final List<Long> studentIds = new ArrayList<>();
+    private final List<String> studentNames = new ArrayList<>();
+    private final Map<Long, Integer> assignmentIndex = new HashMap<>();
+    private final List<Long> assignmentIds = new ArrayList<>();
+    private final List<String> assignmentTitles = new ArrayList<>();
+
+    // gradeId -> (fila << 32 | columna), tanto de la nota visible como de las desplazadas
+    private final Map<Long, Long> cellsByGrade = new HashMap<>();
+    // Notas desplazadas por otra de mayor id en la misma celda; solo existe si hubo colision
+    private final Map<Long, TreeMap<Long, Double>> hiddenByCell = new HashMap<>();
+
+    private double[][] grades = new double[0][];
+    private long[][] gradeIds = new long[0][];
+    private int columnCapacity = INITIAL_CAPACITY;
+
+    private double[] studentSums = new double[0];
+    private int[] studentCounts = new int[0];
+    private double[] assignmentSums = new double[INITIAL_CAPACITY];
+    private int[] assignmentCounts = new int[INITIAL_CAPACITY];
+    private final int[] distribution = new int[BUCKETS];
+    private double totalSum;
+    private int totalCount;
+
+    public CourseGradebook(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public synchronized boolean contains(Long gradeId) {
+        return cellsByGrade.containsKey(gradeId);
+    }
+
+    public synchronized boolean containsAssignment(Long assignmentId) {
+        return assignmentIndex.containsKey(assignmentId);
+    }
+
+    public synchronized boolean hasStaleStudentName(Long studentId, String name) {
+        Integer row = studentIndex.get(studentId);
+        return row != null && !Objects.equals(studentNames.get(row), name);
+    }
+
+    public synchronized boolean hasStaleAssignmentTitle(Long assignmentId, String title) {
+        Integer column = assignmentIndex.get(assignmentId);
+        return column != null && !Objects.equals(assignmentTitles.get(column), title);
+    }
+
+    public synchronized void put(GradebookEntry entry) {
+        remove(entry.getGradeId());
+
+        int row = studentRow(entry.getStudentId(), entry.getStudentName());
+        int column = assignmentColumn(entry.getAssignmentId(), entry.getAssignmentTitle());
+        long cell = ((long) row << 32) | column;
+        cellsByGrade.put(entry.getGradeId(), cell);
+
+        // Una celda muestra la nota de mayor id, igual que la carga inicial (ORDER BY g.id); las demas quedan guardadas
+        long shownGrade = gradeIds[row][column];
+        if (shownGrade == 0) {
+            show(row, column, entry.getGradeId(), entry.getGrade());
+        } else if (entry.getGradeId() > shownGrade) {
+            hiddenGrades(cell).put(shownGrade, value(row, column));
+            show(row, column, entry.getGradeId(), entry.getGrade());
+        } else {
+            hiddenGrades(cell).put(entry.getGradeId(), entry.getGrade());
+        }
+    }
+
+    public synchronized boolean update(Long gradeId, Double value) {
+        Long cell = cellsByGrade.get(gradeId);
+        if (cell == null) {
+            return false;
+        }
+        int row = (int) (cell >>> 32);
+        int column = (int) (long) cell;
+        if (gradeIds[row][column] == gradeId) {
+            setValue(row, column, value);
+        } else {
+            hiddenByCell.get(cell).put(gradeId, value);
+        }
+        return true;
+    }
+
+    public synchronized boolean remove(Long gradeId) {
+        Long cell = cellsByGrade.remove(gradeId);
+        if (cell == null) {
+            return false;
+        }
+        int row = (int) (cell >>> 32);
+        int column = (int) (long) cell;
+        TreeMap<Long, Double> hidden = hiddenByCell.get(cell);
+        if (gradeIds[row][column] != gradeId) {
+            hidden.remove(gradeId);
+        } else if (hidden != null) {
+            // Al borrar la nota visible se recupera la siguiente mas reciente de la celda
+            Map.Entry<Long, Double> next = hidden.pollLastEntry();
+            show(row, column, next.getKey(), next.getValue());
+        } else {
+            setValue(row, column, null);
+            gradeIds[row][column] = 0;
+        }
+        if (hidden != null && hidden.isEmpty()) {
+            hiddenByCell.remove(cell);
+        }
+        return true;
+    }
+
+    public synchronized GradebookDTO toDTO() {
+        List<GradebookDTO.AssignmentColumn> columns = new ArrayList<>(assignmentIds.size());
+        for (int column = 0; column < assignmentIds.size(); column++) {
+            columns.add(GradebookDTO.AssignmentColumn.builder()
+                    .id(assignmentIds.get(column))
+                    .title(assignmentTitles.get(column))
+                    .average(average(assignmentSums[column], assignmentCounts[column]))
+                    .gradedCount(assignmentCounts[column])
+                    .build());
+        }
+
+        List<GradebookDTO.StudentRow> rows = new ArrayList<>(studentIds.size());
+        for (int row = 0; row < studentIds.size(); row++) {
+            List<Double> values = new ArrayList<>(assignmentIds.size());
+            for (int column = 0; column < assignmentIds.size(); column++) {
+                double value = grades[row][column];
+                values.add(Double.isNaN(value) ? null : value);
+            }
+            rows.add(GradebookDTO.StudentRow.builder()
+                    .id(studentIds.get(row))
+                    .name(studentNames.get(row))
+                    .average(average(studentSums[row], studentCounts[row]))
+                    .grades(values)
+                    .build());
+        }
+
+        return GradebookDTO.builder()
+                .courseId(courseId)
+                .average(average(totalSum, totalCount))
+                .gradedCount(totalCount)
+                .distribution(distribution.clone())
+                .assignments(columns)
+                .students(rows)
+                .build();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void show(int row, int column, long gradeId, Double value) {
+        setValue(row, column, value);
+        gradeIds[row][column] = gradeId;
+    }
+
+    private TreeMap<Long, Double> hiddenGrades(long cell) {
+        return hiddenByCell.computeIfAbsent(cell, key -> new TreeMap<>());
+    }
+
+    private Double value(int row, int column) {
+        double value = grades[row][column];
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private void setValue(int row, int column, Double value) {
+        double previous = grades[row][column];
+        if (!Double.isNaN(previous)) {
+            studentSums[row] -= previous;
+            studentCounts[row]--;
+            assignmentSums[column] -= previous;
+            assignmentCounts[column]--;
+            totalSum -= previous;
+            totalCount--;
+            distribution[bucket(previous)]--;
+        }
+
+        double next = value == null ? Double.NaN : value;
+        grades[row][column] = next;
+        if (!Double.isNaN(next)) {
+            studentSums[row] += next;
+            studentCounts[row]++;
+            assignmentSums[column] += next;
+            assignmentCounts[column]++;
+            totalSum += next;
+            totalCount++;
+            distribution[bucket(next)]++;
+        }
+    }
+
+    private int studentRow(Long studentId, String studentName) {
+        Integer row = studentIndex.get(studentId);
+        if (row != null) {
+            return row;
+        }
+        row = studentIds.size();
+        studentIndex.put(studentId, row);
+        studentIds.add(studentId);
+        studentNames.add(studentName);
+
+        if (row == grades.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, grades.length * 2);
+            grades = Arrays.copyOf(grades, capacity);
+            gradeIds = Arrays.copyOf(gradeIds, capacity);
+            studentSums = Arrays.copyOf(studentSums, capacity);
+            studentCounts = Arrays.copyOf(studentCounts, capacity);
+        }
+        grades[row] = emptyRow(columnCapacity);
+        gradeIds[row] = new long[columnCapacity];
+        return row;
+    }
+
+    private int assignmentColumn(Long assignmentId, String assignmentTitle) {
+        Integer column = assignmentIndex.get(assignmentId);
+        if (column != null) {
+            return column;
+        }
+        column = assignmentIds.size();
+        assignmentIndex.put(assignmentId, column);
+        assignmentIds.add(assignmentId);
+        assignmentTitles.add(assignmentTitle);
+
+        if (column == columnCapacity) {
+            int capacity = columnCapacity * 2;
+            for (int row = 0; row < studentIds.size(); row++) {
+                double[] grown = Arrays.copyOf(grades[row], capacity);
+                Arrays.fill(grown, columnCapacity, capacity, Double.NaN);
+                grades[row] = grown;
+                gradeIds[row] = Arrays.copyOf(gradeIds[row], capacity);
+            }
+            assignmentSums = Arrays.copyOf(assignmentSums, capacity);
+            assignmentCounts = Arrays.copyOf(assignmentCounts, capacity);
+            columnCapacity = capacity;
+        }
+        return column;
+    }
+
+    private static double[] emptyRow(int capacity) {
+        double[] row = new double[capacity];
+        Arrays.fill(row, Double.NaN);
+        return row;
+    }
+
+    private static int bucket(double value) {
+        return (int) Math.max(0, Math.min(BUCKETS - 1, Math.floor(value)));
+    }
+
+    private static Double average(double sum, int count) {
+        return count == 0 ? null : sum / count;
+    }
+}
@@ -0,0 +1,22 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grade ids created, updated or deleted in one transaction. Applied to the gradebook after the commit.
+ */
+@Getter
+public class GradeChangeSet {
+    private final Set<Long> persisted = new LinkedHashSet<>();
+    private final Map<Long, Double> updated = new HashMap<>();
+    private final Set<Long> removed = new LinkedHashSet<>();
+
+    public boolean isEmpty() {
+        return persisted.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+}
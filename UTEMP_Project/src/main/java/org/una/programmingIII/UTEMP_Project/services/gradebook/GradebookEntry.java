@@ -0,0 +1,16 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GradebookEntry {
+    private Long gradeId;
+    private Long courseId;
+    private Long studentId;
+    private String studentName;
+    private Long assignmentId;
+    private String assignmentTitle;
+    private Double grade;
+}
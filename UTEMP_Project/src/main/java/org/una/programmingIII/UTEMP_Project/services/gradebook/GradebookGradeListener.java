@@ -0,0 +1,73 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.models.Grade;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects the grade changes of the current transaction and hands them to the gradebook once it commits,
+ * so a rollback never reaches the in-memory view and a whole batch is resolved with one query.
+ */
+@Component
+public class GradebookGradeListener {
+
+    private static final Object CHANGES_KEY = GradebookGradeListener.class;
+
+    private final ObjectProvider<GradebookService> gradebookService;
+
+    @Autowired
+    public GradebookGradeListener(ObjectProvider<GradebookService> gradebookService) {
+        this.gradebookService = gradebookService;
+    }
+
+    @PostPersist
+    public void onPersist(Grade grade) {
+        record(changes -> changes.getPersisted().add(grade.getId()));
+    }
+
+    @PostUpdate
+    public void onUpdate(Grade grade) {
+        record(changes -> changes.getUpdated().put(grade.getId(), grade.getGrade()));
+    }
+
+    @PostRemove
+    public void onRemove(Grade grade) {
+        record(changes -> changes.getRemoved().add(grade.getId()));
+    }
+
+    private void record(Consumer<GradeChangeSet> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            GradeChangeSet changes = new GradeChangeSet();
+            change.accept(changes);
+            gradebookService.getObject().applyGradeChanges(changes);
+            return;
+        }
+
+        GradeChangeSet changes = (GradeChangeSet) TransactionSynchronizationManager.getResource(CHANGES_KEY);
+        if (changes == null) {
+            GradeChangeSet transactionChanges = new GradeChangeSet();
+            TransactionSynchronizationManager.bindResource(CHANGES_KEY, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    gradebookService.getObject().applyGradeChanges(transactionChanges);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGES_KEY);
+                }
+            });
+            changes = transactionChanges;
+        }
+        change.accept(changes);
+    }
+}
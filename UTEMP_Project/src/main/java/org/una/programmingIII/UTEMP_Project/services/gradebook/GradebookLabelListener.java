@@ -0,0 +1,59 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.models.Assignment;
+import org.una.programmingIII.UTEMP_Project.models.User;
+
+import java.util.function.Consumer;
+
+/**
+ * Drops the gradebooks that show a student name or an assignment title that just changed. Like the ownership
+ * listener it evicts at flush time and again when the transaction completes, so a gradebook loaded in between
+ * cannot keep the old label.
+ */
+@Component
+public class GradebookLabelListener {
+
+    private final ObjectProvider<GradebookService> gradebookService;
+
+    @Autowired
+    public GradebookLabelListener(ObjectProvider<GradebookService> gradebookService) {
+        this.gradebookService = gradebookService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        switch (entity) {
+            case User user -> evict(gradebooks -> gradebooks.evictStudent(user.getId(), user.getName()));
+            case Assignment assignment -> evict(gradebooks -> gradebooks.evictAssignment(assignment.getId(),
+                    assignment.getCourse() != null ? assignment.getCourse().getId() : null, assignment.getTitle()));
+            default -> {
+            }
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void evict(Consumer<GradebookService> action) {
+        GradebookService gradebooks = gradebookService.getIfAvailable();
+        if (gradebooks == null) {
+            return;
+        }
+        action.accept(gradebooks);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(gradebooks);
+                }
+            });
+        }
+    }
+}
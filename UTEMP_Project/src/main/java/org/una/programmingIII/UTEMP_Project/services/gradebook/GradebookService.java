@@ -0,0 +1,15 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import org.una.programmingIII.UTEMP_Project.dtos.GradebookDTO;
+
+public interface GradebookService {
+    GradebookDTO getCourseGradebook(Long courseId);
+
+    void applyGradeChanges(GradeChangeSet changes);
+
+    void evictCourse(Long courseId);
+
+    void evictStudent(Long studentId, String name);
+
+    void evictAssignment(Long assignmentId, Long courseId, String title);
+}
@@ -0,0 +1,176 @@
+package org.una.programmingIII.UTEMP_Project.services.gradebook;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.una.programmingIII.UTEMP_Project.configs.ReplicaRoutingDataSource;
+import org.una.programmingIII.UTEMP_Project.dtos.GradebookDTO;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.GradeRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Service
+@Transactional(readOnly = true)
+public class GradebookServiceImplementation implements GradebookService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradebookServiceImplementation.class);
+
+    private final GradeRepository gradeRepository;
+    private final CourseRepository courseRepository;
+
+    // Acotado y con expiracion: los cursos que nadie consulta salen de memoria y cualquier cambio que no se
+    // haya visto (otra instancia, SQL directo) se corrige solo al recargar
+    private final Cache<Long, CourseGradebook> gradebooks;
+    private final AtomicLong changeVersion = new AtomicLong();
+
+    @Autowired
+    public GradebookServiceImplementation(
+            GradeRepository gradeRepository,
+            CourseRepository courseRepository,
+            @Value("${gradebook.cache.max-courses:256}") int maxCourses,
+            @Value("${gradebook.cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+
+        this(gradeRepository, courseRepository, System::nanoTime, maxCourses, Duration.ofMinutes(expireAfterWriteMinutes));
+    }
+
+    public GradebookServiceImplementation(
+            GradeRepository gradeRepository,
+            CourseRepository courseRepository,
+            LongSupplier clock,
+            int maxCourses,
+            Duration expireAfterWrite) {
+
+        this.gradeRepository = gradeRepository;
+        this.courseRepository = courseRepository;
+        this.gradebooks = Caffeine.newBuilder()
+                .maximumSize(maxCourses)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public GradebookDTO getCourseGradebook(Long courseId) {
+        CourseGradebook gradebook = gradebooks.getIfPresent(courseId);
+        if (gradebook == null) {
+            gradebook = ReplicaRoutingDataSource.readFromPrimary(() -> loadGradebook(courseId));
+        }
+        return gradebook.toDTO();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void applyGradeChanges(GradeChangeSet changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        changeVersion.incrementAndGet();
+        if (gradebooks.asMap().isEmpty()) {
+            return;
+        }
+
+        for (Long gradeId : changes.getRemoved()) {
+            CourseGradebook gradebook = gradebookOf(gradeId);
+            if (gradebook != null) {
+                gradebook.remove(gradeId);
+            }
+        }
+
+        // Las notas nuevas (o que no estan indexadas) se resuelven con una sola consulta IN
+        Set<Long> unresolved = new HashSet<>(changes.getPersisted());
+        changes.getUpdated().forEach((gradeId, value) -> {
+            if (!changes.getRemoved().contains(gradeId) && !updateLoaded(gradeId, value)) {
+                unresolved.add(gradeId);
+            }
+        });
+        unresolved.removeAll(changes.getRemoved());
+
+        if (!unresolved.isEmpty()) {
+            // Corre justo despues del commit: en una replica las notas nuevas podrian no existir todavia
+            List<GradebookEntry> entries = ReplicaRoutingDataSource.readFromPrimary(
+                    () -> gradeRepository.findGradebookEntriesByIdIn(unresolved));
+            for (GradebookEntry entry : entries) {
+                CourseGradebook gradebook = gradebooks.getIfPresent(entry.getCourseId());
+                if (gradebook != null) {
+                    gradebook.put(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void evictCourse(Long courseId) {
+        changeVersion.incrementAndGet();
+        gradebooks.invalidate(courseId);
+    }
+
+    @Override
+    public void evictStudent(Long studentId, String name) {
+        changeVersion.incrementAndGet();
+        gradebooks.asMap().values().removeIf(gradebook -> gradebook.hasStaleStudentName(studentId, name));
+    }
+
+    @Override
+    public void evictAssignment(Long assignmentId, Long courseId, String title) {
+        changeVersion.incrementAndGet();
+        // Si la tarea cambio de curso, sus notas salen del curso anterior y entran al nuevo
+        boolean moved = gradebooks.asMap().values().removeIf(gradebook ->
+                gradebook.containsAssignment(assignmentId) && !gradebook.getCourseId().equals(courseId));
+        if (moved && courseId != null) {
+            gradebooks.invalidate(courseId);
+        }
+        gradebooks.asMap().values().removeIf(gradebook -> gradebook.hasStaleAssignmentTitle(assignmentId, title));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private CourseGradebook loadGradebook(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course", courseId);
+        }
+        long version = changeVersion.get();
+
+        List<GradebookEntry> entries = gradeRepository.findGradebookEntriesByCourseId(courseId);
+        CourseGradebook gradebook = new CourseGradebook(courseId);
+        entries.forEach(gradebook::put);
+
+        // Si hubo cambios mientras se cargaba no se guarda en memoria; la proxima consulta lo vuelve a cargar
+        if (changeVersion.get() == version) {
+            CourseGradebook existing = gradebooks.asMap().putIfAbsent(courseId, gradebook);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        logger.info("Gradebook loaded for course ID {}: {} grades", courseId, entries.size());
+        return gradebook;
+    }
+
+    private boolean updateLoaded(Long gradeId, Double value) {
+        CourseGradebook gradebook = gradebookOf(gradeId);
+        return gradebook != null && gradebook.update(gradeId, value);
+    }
+
+    // La cantidad de cursos en memoria esta acotada, asi que se recorren en lugar de mantener otro indice por nota
+    private CourseGradebook gradebookOf(Long gradeId) {
+        for (CourseGradebook gradebook : gradebooks.asMap().values()) {
+            if (gradebook.contains(gradeId)) {
+                return gradebook;
+            }
+        }
+        return null;
+    }
+}
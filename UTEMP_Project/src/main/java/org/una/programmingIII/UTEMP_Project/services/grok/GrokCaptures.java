@@ -0,0 +1,49 @@
+package org.una.programmingIII.UTEMP_Project.services.grok;
+
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+
+public class GrokCaptures {
+
+    static final GrokCaptures NO_MATCH = new GrokCaptures(null, new String[0], new String[0]);
+
+    private final Matcher matcher;
+    private final String[] groupNames;
+    private final String[] captureNames;
+
+    GrokCaptures(Matcher matcher, String[] groupNames, String[] captureNames) {
+        this.matcher = matcher;
+        this.groupNames = groupNames;
+        this.captureNames = captureNames;
+    }
+
+    public boolean isMatched() {
+        return matcher != null;
+    }
+
+    public String get(String captureName) {
+        for (int i = 0; i < captureNames.length; i++) {
+            if (captureNames[i].equals(captureName)) {
+                String value = matcher.group(groupNames[i]);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    public String getOrDefault(String captureName, String defaultValue) {
+        String value = isMatched() ? get(captureName) : null;
+        return value != null ? value : defaultValue;
+    }
+
+    public void forEach(BiConsumer<String, String> consumer) {
+        for (int i = 0; i < captureNames.length; i++) {
+            String value = matcher.group(groupNames[i]);
+            if (value != null) {
+                consumer.accept(captureNames[i], value);
+            }
+        }
+    }
+}
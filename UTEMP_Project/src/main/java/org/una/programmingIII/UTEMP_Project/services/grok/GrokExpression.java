@@ -0,0 +1,67 @@
+package org.una.programmingIII.UTEMP_Project.services.grok;
+
+import io.krakens.grok.api.Grok;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled Grok expression. Matching runs straight on the expanded regex, and captures are read from the
+ * matcher by group name, so no capture map is built per line.
+ */
+public class GrokExpression {
+
+    private final String id;
+    private final String expression;
+    private final Pattern pattern;
+    private final String[] groupNames;
+    private final String[] captureNames;
+    private final Map<String, String> attributes;
+
+    public GrokExpression(String id, String expression, Grok grok) {
+        this(id, expression, grok, Map.of());
+    }
+
+    public GrokExpression(String id, String expression, Grok grok, Map<String, String> attributes) {
+        this.id = id;
+        this.expression = expression;
+        this.attributes = Map.copyOf(attributes);
+        this.pattern = Pattern.compile(grok.getNamedRegex());
+
+        Map<String, String> namedGroups = grok.getNamedRegexCollection();
+        this.groupNames = new String[namedGroups.size()];
+        this.captureNames = new String[namedGroups.size()];
+        int index = 0;
+        for (Map.Entry<String, String> group : namedGroups.entrySet()) {
+            groupNames[index] = group.getKey();
+            captureNames[index] = group.getValue();
+            index++;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    // Atributos declarados junto al nombre de la regla ("nombre;clave=valor"); null si no se declaro
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public boolean matches(CharSequence text) {
+        return text != null && pattern.matcher(text).find();
+    }
+
+    public GrokCaptures match(CharSequence text) {
+        if (text == null) {
+            return GrokCaptures.NO_MATCH;
+        }
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? new GrokCaptures(matcher, groupNames, captureNames) : GrokCaptures.NO_MATCH;
+    }
+}
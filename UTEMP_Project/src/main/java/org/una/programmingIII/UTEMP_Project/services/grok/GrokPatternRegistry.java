@@ -0,0 +1,11 @@
+package org.una.programmingIII.UTEMP_Project.services.grok;
+
+import java.util.Set;
+
+public interface GrokPatternRegistry {
+    GrokPatternSet getPatternSet(String name);
+
+    Set<String> getPatternSetNames();
+
+    void reload();
+}
@@ -0,0 +1,224 @@
+package org.una.programmingIII.UTEMP_Project.services.grok;
+
+import io.krakens.grok.api.GrokCompiler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Pattern sets are read from "*.grok" files: lines named in UPPER_CASE define reusable patterns, lines named in
+ * lower-case are the expressions compiled into the set. A rule name may carry attributes for the consumer of the
+ * set ("error-log;category=LOG;weight=2.0"). Built-in sets come from classpath:grok/, and files in
+ * grok.rules.directory override them and are reloaded when they change.
+ */
+@Service
+public class GrokPatternRegistryImplementation implements GrokPatternRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrokPatternRegistryImplementation.class);
+    private static final String BUILT_IN_LOCATION = "classpath*:grok/*.grok";
+    private static final String FILE_EXTENSION = ".grok";
+    private static final Pattern DEFINITION_NAME = Pattern.compile("[A-Z0-9_]+");
+    private static final String ATTRIBUTE_SEPARATOR = ";";
+
+    private final String rulesDirectory;
+    private final boolean watchRulesDirectory;
+    private volatile Map<String, GrokPatternSet> patternSets = Map.of();
+    private Thread watcherThread;
+
+    @Autowired
+    public GrokPatternRegistryImplementation(
+            @Value("${grok.rules.directory:}") String rulesDirectory,
+            @Value("${grok.rules.watch:true}") boolean watchRulesDirectory) {
+
+        this.rulesDirectory = rulesDirectory;
+        this.watchRulesDirectory = watchRulesDirectory;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+        if (watchRulesDirectory && !rulesDirectory.isBlank()) {
+            startWatcher(Paths.get(rulesDirectory));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+    }
+
+    @Override
+    public GrokPatternSet getPatternSet(String name) {
+        GrokPatternSet patternSet = patternSets.get(name);
+        if (patternSet == null) {
+            throw new InvalidDataException("Grok pattern set not found: " + name);
+        }
+        return patternSet;
+    }
+
+    @Override
+    public Set<String> getPatternSetNames() {
+        return patternSets.keySet();
+    }
+
+    @Override
+    public synchronized void reload() {
+        Map<String, GrokPatternSet> loaded = new HashMap<>();
+        loadBuiltInSets(loaded);
+        loadDirectorySets(loaded);
+        patternSets = Map.copyOf(loaded);
+        logger.info("Grok pattern sets loaded: {}", new TreeSet<>(loaded.keySet()));
+    }
+
+    private void loadBuiltInSets(Map<String, GrokPatternSet> loaded) {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(BUILT_IN_LOCATION)) {
+                String name = setName(Objects.requireNonNull(resource.getFilename()));
+                try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                    loaded.put(name, compile(name, reader));
+                } catch (IOException | RuntimeException e) {
+                    keepPrevious(name, loaded, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error listing built-in Grok pattern sets: {}", e.getMessage());
+        }
+    }
+
+    private void loadDirectorySets(Map<String, GrokPatternSet> loaded) {
+        if (rulesDirectory.isBlank()) {
+            return;
+        }
+        Path directory = Paths.get(rulesDirectory);
+        if (!Files.isDirectory(directory)) {
+            logger.warn("Grok rules directory does not exist: {}", directory.toAbsolutePath());
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .forEach(file -> {
+                        String name = setName(file.getFileName().toString());
+                        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                            loaded.put(name, compile(name, reader));
+                        } catch (IOException | RuntimeException e) {
+                            keepPrevious(name, loaded, e);
+                        }
+                    });
+        } catch (IOException e) {
+            logger.error("Error listing Grok rules directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void keepPrevious(String name, Map<String, GrokPatternSet> loaded, Exception e) {
+        logger.error("Error compiling Grok pattern set {}: {}", name, e.getMessage());
+        GrokPatternSet previous = patternSets.get(name);
+        if (previous != null) {
+            loaded.put(name, previous);
+        }
+    }
+
+    static GrokPatternSet compile(String name, Reader source) throws IOException {
+        GrokCompiler compiler = GrokCompiler.newInstance();
+        compiler.registerDefaultPatterns();
+        Map<String, String> expressions = new LinkedHashMap<>();
+        Map<String, Map<String, String>> attributes = new HashMap<>();
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = indexOfWhitespace(line);
+            if (separator < 0) {
+                throw new InvalidDataException("Malformed Grok line in set " + name + ": " + line);
+            }
+            String[] key = line.substring(0, separator).split(ATTRIBUTE_SEPARATOR);
+            String pattern = line.substring(separator).trim();
+            if (DEFINITION_NAME.matcher(key[0]).matches()) {
+                if (key.length > 1) {
+                    throw new InvalidDataException("Attributes are only allowed on rules in set " + name + ": " + line);
+                }
+                compiler.register(key[0], pattern);
+            } else {
+                expressions.put(key[0], pattern);
+                attributes.put(key[0], parseAttributes(name, key));
+            }
+        }
+
+        List<GrokExpression> compiled = new ArrayList<>(expressions.size());
+        expressions.forEach((id, expression) ->
+                compiled.add(new GrokExpression(id, expression, compiler.compile(expression), attributes.get(id))));
+        return new GrokPatternSet(name, compiled);
+    }
+
+    private static Map<String, String> parseAttributes(String name, String[] key) {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 1; i < key.length; i++) {
+            int equals = key[i].indexOf('=');
+            if (equals <= 0) {
+                throw new InvalidDataException("Malformed attribute '" + key[i] + "' on rule " + key[0] + " in set " + name);
+            }
+            attributes.put(key[i].substring(0, equals), key[i].substring(equals + 1));
+        }
+        return attributes;
+    }
+
+    private static int indexOfWhitespace(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String setName(String fileName) {
+        return fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+    }
+
+    private void startWatcher(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        watcherThread = new Thread(() -> {
+            try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                while (!Thread.currentThread().isInterrupted()) {
+                    WatchKey key = watchService.take();
+                    key.pollEvents();
+                    logger.info("Change detected in Grok rules directory {}, reloading", directory);
+                    reload();
+                    key.reset();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                logger.error("Error watching Grok rules directory {}: {}", directory, e.getMessage());
+            }
+        }, "grok-rules-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+}
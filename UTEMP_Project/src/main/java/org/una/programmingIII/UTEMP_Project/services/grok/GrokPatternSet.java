@@ -0,0 +1,33 @@
+package org.una.programmingIII.UTEMP_Project.services.grok;
+
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+
+import java.util.List;
+
+public class GrokPatternSet {
+
+    private final String name;
+    private final List<GrokExpression> expressions;
+
+    public GrokPatternSet(String name, List<GrokExpression> expressions) {
+        this.name = name;
+        this.expressions = List.copyOf(expressions);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<GrokExpression> getExpressions() {
+        return expressions;
+    }
+
+    public GrokExpression get(String id) {
+        for (GrokExpression expression : expressions) {
+            if (expression.getId().equals(id)) {
+                return expression;
+            }
+        }
+        throw new InvalidDataException("Grok expression '" + id + "' not found in pattern set " + name);
+    }
+}
@@ -0,0 +1,15 @@
+package org.una.programmingIII.UTEMP_Project.services.hierarchy;
+
+/**
+ * In-memory university → faculty → department → course tree. Readers take the current {@link HierarchySnapshot}
+ * and navigate it without touching the database; writers call {@link #markChanged()} and a new snapshot replaces the
+ * old one on the first read after their transaction commits.
+ */
+public interface HierarchyIndex {
+    HierarchySnapshot getSnapshot();
+
+    // Marca el arbol como desactualizado al confirmar la transaccion actual (o de inmediato si no hay una)
+    void markChanged();
+
+    void reload();
+}
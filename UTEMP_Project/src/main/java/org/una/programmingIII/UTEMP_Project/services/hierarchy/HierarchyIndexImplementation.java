@@ -0,0 +1,146 @@
+package org.una.programmingIII.UTEMP_Project.services.hierarchy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.configs.ReplicaRoutingDataSource;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads the hierarchy with one id/name/parent query per level and rebuilds it on the first read after universities,
+ * faculties, departments or courses change. Changes are detected through the shared version stamps of
+ * {@link ResourceVersionService}, so a write handled by another instance is seen within
+ * {@code http.cache.version-refresh-ms}, and the snapshot version is the combined stamp of those four kinds, so every
+ * instance serves the same ETag for the same tree. Commits only mark the snapshot as stale; the rebuild runs on the
+ * read path and never inside the writer's transaction callbacks.
+ */
+@Service
+public class HierarchyIndexImplementation implements HierarchyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(HierarchyIndexImplementation.class);
+
+    private static final Set<ResourceKind> HIERARCHY_KINDS = EnumSet.of(
+            ResourceKind.UNIVERSITY, ResourceKind.FACULTY, ResourceKind.DEPARTMENT, ResourceKind.COURSE);
+
+    private final UniversityRepository universityRepository;
+    private final FacultyRepository facultyRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CourseRepository courseRepository;
+    private final ResourceVersionService resourceVersionService;
+
+    private final Object reloadLock = new Object();
+    private volatile boolean stale;
+    private volatile HierarchySnapshot snapshot;
+
+    @Autowired
+    public HierarchyIndexImplementation(
+            UniversityRepository universityRepository,
+            FacultyRepository facultyRepository,
+            DepartmentRepository departmentRepository,
+            CourseRepository courseRepository,
+            ResourceVersionService resourceVersionService) {
+
+        this.universityRepository = universityRepository;
+        this.facultyRepository = facultyRepository;
+        this.departmentRepository = departmentRepository;
+        this.courseRepository = courseRepository;
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Hierarchy index not loaded at startup; it will be loaded on first use");
+        }
+    }
+
+    @Override
+    public HierarchySnapshot getSnapshot() {
+        long version = resourceVersionService.getCurrentVersion(HIERARCHY_KINDS);
+        HierarchySnapshot current = snapshot;
+        if (current != null && !needsReload(current, version)) {
+            return current;
+        }
+        synchronized (reloadLock) {
+            current = snapshot;
+            if (current == null || needsReload(current, version)) {
+                current = load(version);
+            }
+            return current;
+        }
+    }
+
+    @Override
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale = true;
+            }
+        });
+    }
+
+    @Override
+    public void reload() {
+        synchronized (reloadLock) {
+            load(resourceVersionService.getCurrentVersion(HIERARCHY_KINDS));
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Una version negativa indica que no se pudieron leer los sellos: se sigue sirviendo el arbol cargado
+    private boolean needsReload(HierarchySnapshot current, long version) {
+        return stale || (version >= 0 && version != current.getVersion());
+    }
+
+    // La version se lee antes que las filas: si algo cambia durante la carga, la siguiente lectura vuelve a cargar
+    private HierarchySnapshot load(long version) {
+        stale = false;
+        try {
+            Map<HierarchyLevel, List<Object[]>> rows = ReplicaRoutingDataSource.readFromPrimary(() -> {
+                Map<HierarchyLevel, List<Object[]>> levels = new EnumMap<>(HierarchyLevel.class);
+                levels.put(HierarchyLevel.UNIVERSITY, universityRepository.findHierarchyRows());
+                levels.put(HierarchyLevel.FACULTY, facultyRepository.findHierarchyRows());
+                levels.put(HierarchyLevel.DEPARTMENT, departmentRepository.findHierarchyRows());
+                levels.put(HierarchyLevel.COURSE, courseRepository.findHierarchyRows());
+                return levels;
+            });
+            HierarchySnapshot loaded = new HierarchySnapshot(version, rows);
+            snapshot = loaded;
+            logger.debug("Hierarchy index reloaded: {} universities, {} courses",
+                    loaded.size(HierarchyLevel.UNIVERSITY), loaded.size(HierarchyLevel.COURSE));
+            return loaded;
+        } catch (RuntimeException e) {
+            // Se conserva la version anterior; la siguiente lectura vuelve a intentarlo
+            stale = true;
+            logger.error("Error reloading hierarchy index: {}", e.getMessage());
+            if (snapshot == null) {
+                throw e;
+            }
+            return snapshot;
+        }
+    }
+}
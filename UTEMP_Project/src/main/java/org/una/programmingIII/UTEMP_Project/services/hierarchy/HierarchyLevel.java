@@ -0,0 +1,16 @@
+package org.una.programmingIII.UTEMP_Project.services.hierarchy;
+
+public enum HierarchyLevel {
+    UNIVERSITY,
+    FACULTY,
+    DEPARTMENT,
+    COURSE;
+
+    public HierarchyLevel getChildLevel() {
+        return this == COURSE ? null : values()[ordinal() + 1];
+    }
+
+    public HierarchyLevel getParentLevel() {
+        return this == UNIVERSITY ? null : values()[ordinal() - 1];
+    }
+}
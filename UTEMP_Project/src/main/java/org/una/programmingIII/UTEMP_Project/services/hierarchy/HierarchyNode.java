@@ -0,0 +1,7 @@
+package org.una.programmingIII.UTEMP_Project.services.hierarchy;
+
+import java.util.List;
+
+// Nodo inmutable del arbol academico; parentId es null en universidades y en registros huerfanos
+public record HierarchyNode(Long id, String name, Long parentId, List<Long> childIds) {
+}
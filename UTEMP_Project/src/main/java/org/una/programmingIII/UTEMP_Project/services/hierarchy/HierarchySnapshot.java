@@ -0,0 +1,107 @@
+package org.una.programmingIII.UTEMP_Project.services.hierarchy;
+
+import org.una.programmingIII.UTEMP_Project.dtos.HierarchyNodeDTO;
+
+import java.util.*;
+
+/**
+ * Immutable view of the university → faculty → department → course tree at one point in time. Nodes are indexed by
+ * level and id, so parent and child lookups are hash lookups; the tree served by the API is built once per snapshot.
+ * Children are ordered by name. Rows whose parent does not exist are indexed but left out of the tree.
+ */
+public final class HierarchySnapshot {
+
+    private static final Comparator<HierarchyNode> BY_NAME = Comparator
+            .comparing(HierarchyNode::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(HierarchyNode::id);
+
+    private final long version;
+    private final Map<HierarchyLevel, Map<Long, HierarchyNode>> nodes = new EnumMap<>(HierarchyLevel.class);
+    private final List<HierarchyNode> universities;
+    private final List<HierarchyNodeDTO> tree;
+
+    // Cada fila es {id, nombre} para universidades y {id, nombre, idDelPadre} para los demas niveles
+    public HierarchySnapshot(long version, Map<HierarchyLevel, List<Object[]>> rows) {
+        this.version = version;
+
+        Map<HierarchyLevel, Map<Long, List<Long>>> childIds = new EnumMap<>(HierarchyLevel.class);
+        for (HierarchyLevel level : HierarchyLevel.values()) {
+            Map<Long, List<Long>> byParent = new HashMap<>();
+            for (Object[] row : rows.getOrDefault(level, List.of())) {
+                if (row.length > 2 && row[2] != null) {
+                    byParent.computeIfAbsent((Long) row[2], parent -> new ArrayList<>()).add((Long) row[0]);
+                }
+            }
+            childIds.put(level, byParent);
+        }
+
+        // Se construye de abajo hacia arriba para poder ordenar los hijos por nombre
+        for (int i = HierarchyLevel.values().length - 1; i >= 0; i--) {
+            HierarchyLevel level = HierarchyLevel.values()[i];
+            HierarchyLevel childLevel = level.getChildLevel();
+            Map<Long, HierarchyNode> children = childLevel != null ? nodes.get(childLevel) : Map.of();
+            Map<Long, List<Long>> childrenByParent = childLevel != null ? childIds.get(childLevel) : Map.of();
+
+            Map<Long, HierarchyNode> levelNodes = new HashMap<>();
+            for (Object[] row : rows.getOrDefault(level, List.of())) {
+                Long id = (Long) row[0];
+                List<Long> sortedChildren = childrenByParent.getOrDefault(id, List.of()).stream()
+                        .map(children::get)
+                        .sorted(BY_NAME)
+                        .map(HierarchyNode::id)
+                        .toList();
+                levelNodes.put(id, new HierarchyNode(id, (String) row[1], row.length > 2 ? (Long) row[2] : null, sortedChildren));
+            }
+            nodes.put(level, Collections.unmodifiableMap(levelNodes));
+        }
+
+        this.universities = nodes.get(HierarchyLevel.UNIVERSITY).values().stream().sorted(BY_NAME).toList();
+        this.tree = universities.stream().map(university -> toDTO(HierarchyLevel.UNIVERSITY, university)).toList();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Optional<HierarchyNode> getNode(HierarchyLevel level, Long id) {
+        return Optional.ofNullable(nodes.get(level).get(id));
+    }
+
+    public Optional<HierarchyNode> getParent(HierarchyLevel level, Long id) {
+        HierarchyNode node = nodes.get(level).get(id);
+        if (node == null || node.parentId() == null || level.getParentLevel() == null) {
+            return Optional.empty();
+        }
+        return getNode(level.getParentLevel(), node.parentId());
+    }
+
+    public List<HierarchyNode> getChildren(HierarchyLevel level, Long id) {
+        HierarchyNode node = nodes.get(level).get(id);
+        if (node == null || level.getChildLevel() == null) {
+            return List.of();
+        }
+        Map<Long, HierarchyNode> children = nodes.get(level.getChildLevel());
+        return node.childIds().stream().map(children::get).toList();
+    }
+
+    public List<HierarchyNode> getUniversities() {
+        return universities;
+    }
+
+    public List<HierarchyNodeDTO> getTree() {
+        return tree;
+    }
+
+    public int size(HierarchyLevel level) {
+        return nodes.get(level).size();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private HierarchyNodeDTO toDTO(HierarchyLevel level, HierarchyNode node) {
+        List<HierarchyNodeDTO> children = getChildren(level, node.id()).stream()
+                .map(child -> toDTO(level.getChildLevel(), child))
+                .toList();
+        return new HierarchyNodeDTO(node.id(), node.name(), children);
+    }
+}
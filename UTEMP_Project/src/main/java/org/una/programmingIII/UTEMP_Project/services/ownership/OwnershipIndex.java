@@ -0,0 +1,32 @@
+package org.una.programmingIII.UTEMP_Project.services.ownership;
+
+import java.util.Optional;
+
+/**
+ * In-memory view of who teaches or takes each course, and of the course and student behind assignments and
+ * submissions, used to authorize access to a single resource without querying the database on every call.
+ */
+public interface OwnershipIndex {
+    boolean teaches(Long userId, Long courseId);
+
+    // Docente del curso o estudiante matriculado (no retirado)
+    boolean participates(Long userId, Long courseId);
+
+    Optional<Long> getCourseOfAssignment(Long assignmentId);
+
+    Optional<SubmissionOwner> getSubmissionOwner(Long submissionId);
+
+    void invalidateUser(Long userId);
+
+    void invalidateAllUsers();
+
+    // Docente indicado mas todo usuario cuyo docente o matricula en cache incluya el curso
+    void invalidateCourse(Long courseId, Long teacherId);
+
+    void invalidateAssignment(Long assignmentId);
+
+    void invalidateSubmission(Long submissionId);
+
+    record SubmissionOwner(Long assignmentId, Long studentId) {
+    }
+}
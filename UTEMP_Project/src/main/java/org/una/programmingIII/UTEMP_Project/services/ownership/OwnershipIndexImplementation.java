@@ -0,0 +1,244 @@
+package org.una.programmingIII.UTEMP_Project.services.ownership;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.una.programmingIII.UTEMP_Project.configs.ReplicaRoutingDataSource;
+import org.una.programmingIII.UTEMP_Project.models.EnrollmentState;
+import org.una.programmingIII.UTEMP_Project.repositories.AssignmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.EnrollmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.SubmissionRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps, per user, the ids of the courses they teach and take, loaded with two id-only queries on first use, and
+ * the course of each assignment and the assignment and student of each submission, loaded one at a time. Entries
+ * are dropped by {@link OwnershipIndexListener} when the underlying rows change; memberships also expire after a
+ * TTL as a safety net for changes made outside JPA.
+ * <p>
+ * A load that races with an invalidation is discarded instead of cached, so a stale read can only be served once.
+ * Loads read from the primary, since they usually follow the write that invalidated the entry.
+ */
+@Service
+public class OwnershipIndexImplementation implements OwnershipIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OwnershipIndexImplementation.class);
+
+    private static final String LOOKUPS_COUNTER = "utemp.authz.ownership.lookups";
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final LongSupplier clock;
+    private final long ttlNanos;
+    private final int maxUsers;
+    private final int maxResources;
+
+    private final Map<Long, Membership> memberships = new ConcurrentHashMap<>();
+    private final Map<Long, Long> assignmentCourses = new ConcurrentHashMap<>();
+    private final Map<Long, SubmissionOwner> submissionOwners = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public OwnershipIndexImplementation(
+            CourseRepository courseRepository,
+            EnrollmentRepository enrollmentRepository,
+            AssignmentRepository assignmentRepository,
+            SubmissionRepository submissionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.ownership.ttl-seconds:600}") long ttlSeconds,
+            @Value("${security.ownership.max-users:50000}") int maxUsers,
+            @Value("${security.ownership.max-resources:200000}") int maxResources) {
+
+        this(courseRepository, enrollmentRepository, assignmentRepository, submissionRepository, meterRegistry,
+                System::nanoTime, ttlSeconds, maxUsers, maxResources);
+    }
+
+    public OwnershipIndexImplementation(
+            CourseRepository courseRepository,
+            EnrollmentRepository enrollmentRepository,
+            AssignmentRepository assignmentRepository,
+            SubmissionRepository submissionRepository,
+            MeterRegistry meterRegistry,
+            LongSupplier clock,
+            long ttlSeconds,
+            int maxUsers,
+            int maxResources) {
+
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.submissionRepository = submissionRepository;
+        this.clock = clock;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxUsers = maxUsers;
+        this.maxResources = maxResources;
+
+        if (meterRegistry != null) {
+            this.hits = Counter.builder(LOOKUPS_COUNTER).tag("result", "hit").register(meterRegistry);
+            this.misses = Counter.builder(LOOKUPS_COUNTER).tag("result", "miss").register(meterRegistry);
+            Gauge.builder("utemp.authz.ownership.entries", this,
+                    index -> index.memberships.size() + index.assignmentCourses.size() + index.submissionOwners.size())
+                    .register(meterRegistry);
+        } else {
+            this.hits = null;
+            this.misses = null;
+        }
+    }
+
+    @Override
+    public boolean teaches(Long userId, Long courseId) {
+        return userId != null && courseId != null && membership(userId).taught().contains(courseId);
+    }
+
+    @Override
+    public boolean participates(Long userId, Long courseId) {
+        if (userId == null || courseId == null) {
+            return false;
+        }
+        Membership membership = membership(userId);
+        return membership.taught().contains(courseId) || membership.enrolled().contains(courseId);
+    }
+
+    @Override
+    public Optional<Long> getCourseOfAssignment(Long assignmentId) {
+        if (assignmentId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lookup(assignmentCourses, assignmentId, maxResources,
+                id -> assignmentRepository.findCourseIdById(id).orElse(null)));
+    }
+
+    @Override
+    public Optional<SubmissionOwner> getSubmissionOwner(Long submissionId) {
+        if (submissionId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lookup(submissionOwners, submissionId, maxResources, id -> {
+            List<Object[]> rows = submissionRepository.findAssignmentAndStudentIds(id);
+            return rows.isEmpty() ? null : new SubmissionOwner((Long) rows.getFirst()[0], (Long) rows.getFirst()[1]);
+        }));
+    }
+
+    @Override
+    public void invalidateUser(Long userId) {
+        if (userId != null) {
+            invalidations.incrementAndGet();
+            memberships.remove(userId);
+        }
+    }
+
+    @Override
+    public void invalidateAllUsers() {
+        invalidations.incrementAndGet();
+        memberships.clear();
+    }
+
+    @Override
+    public void invalidateCourse(Long courseId, Long teacherId) {
+        invalidations.incrementAndGet();
+        if (teacherId != null) {
+            memberships.remove(teacherId);
+        }
+        if (courseId != null) {
+            memberships.values().removeIf(membership ->
+                    membership.taught().contains(courseId) || membership.enrolled().contains(courseId));
+        }
+    }
+
+    @Override
+    public void invalidateAssignment(Long assignmentId) {
+        if (assignmentId != null) {
+            invalidations.incrementAndGet();
+            assignmentCourses.remove(assignmentId);
+        }
+    }
+
+    @Override
+    public void invalidateSubmission(Long submissionId) {
+        if (submissionId != null) {
+            invalidations.incrementAndGet();
+            submissionOwners.remove(submissionId);
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private Membership membership(Long userId) {
+        long now = clock.getAsLong();
+        Membership membership = memberships.get(userId);
+        if (membership != null && now - membership.loadedAt() < ttlNanos) {
+            increment(hits);
+            return membership;
+        }
+        increment(misses);
+        long generation = invalidations.get();
+        Membership loaded = ReplicaRoutingDataSource.readFromPrimary(() -> new Membership(
+                Set.copyOf(courseRepository.findIdsByTeacherId(userId)),
+                Set.copyOf(enrollmentRepository.findCourseIdsByStudentId(userId, EnrollmentState.DROPPED)),
+                now));
+        if (memberships.size() >= maxUsers) {
+            memberships.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+            if (memberships.size() >= maxUsers) {
+                logger.warn("Ownership index reached {} users; clearing memberships", maxUsers);
+                memberships.clear();
+            }
+        }
+        store(memberships, userId, loaded, generation);
+        return loaded;
+    }
+
+    private <V> V lookup(Map<Long, V> cache, Long id, int maxEntries, Function<Long, V> loader) {
+        V value = cache.get(id);
+        if (value != null) {
+            increment(hits);
+            return value;
+        }
+        increment(misses);
+        long generation = invalidations.get();
+        value = ReplicaRoutingDataSource.readFromPrimary(() -> loader.apply(id));
+        // Los ids inexistentes no se guardan: un id nuevo debe verse en cuanto exista
+        if (value != null) {
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+            store(cache, id, value, generation);
+        }
+        return value;
+    }
+
+    private <V> void store(Map<Long, V> cache, Long key, V value, long generation) {
+        cache.put(key, value);
+        if (invalidations.get() != generation) {
+            cache.remove(key, value);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Membership(Set<Long> taught, Set<Long> enrolled, long loadedAt) {
+    }
+}
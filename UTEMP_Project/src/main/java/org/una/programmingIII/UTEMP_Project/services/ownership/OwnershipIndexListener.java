@@ -0,0 +1,72 @@
+package org.una.programmingIII.UTEMP_Project.services.ownership;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.models.*;
+
+import java.util.function.Consumer;
+
+/**
+ * JPA listener that keeps {@link OwnershipIndex} in sync with courses, enrollments, assignments and submissions.
+ * Entries are dropped at flush time and again when the transaction completes, so a reload that happens in between
+ * cannot leave the pre-commit state cached. Created by Hibernate through Spring, hence the lazy lookup of the index.
+ */
+public class OwnershipIndexListener {
+
+    private final ObjectProvider<OwnershipIndex> ownershipIndex;
+
+    public OwnershipIndexListener(ObjectProvider<OwnershipIndex> ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        switch (entity) {
+            case Enrollment enrollment -> invalidate(index -> index.invalidateUser(idOf(enrollment.getStudent())));
+            case Course course -> invalidate(index -> index.invalidateUser(idOf(course.getTeacher())));
+            default -> {
+                // Las asignaciones y entregas nuevas no estan en el indice
+            }
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        switch (entity) {
+            case Enrollment enrollment -> invalidate(index -> index.invalidateUser(idOf(enrollment.getStudent())));
+            // El docente pudo haber cambiado: se descartan el docente actual y quien tenga el curso en cache
+            case Course course -> invalidate(index -> index.invalidateCourse(course.getId(), idOf(course.getTeacher())));
+            case Assignment assignment -> invalidate(index -> index.invalidateAssignment(assignment.getId()));
+            case Submission submission -> invalidate(index -> index.invalidateSubmission(submission.getId()));
+            default -> {
+            }
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void invalidate(Consumer<OwnershipIndex> action) {
+        OwnershipIndex index = ownershipIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        action.accept(index);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(index);
+                }
+            });
+        }
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
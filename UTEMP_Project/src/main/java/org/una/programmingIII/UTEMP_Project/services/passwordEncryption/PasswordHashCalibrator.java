@@ -0,0 +1,62 @@
+package org.una.programmingIII.UTEMP_Project.services.passwordEncryption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Measures the hashing cost on the current hardware and picks the largest work factor that stays under the target
+ * latency. The configured values act as a floor, so a slow machine never weakens the hashes below them.
+ */
+public final class PasswordHashCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-Pa55word!";
+    private static final int SAMPLES = 3;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 64;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int bcryptStrength(long targetMillis, int minStrength) {
+        // Cada punto de strength duplica el costo, asi que basta con medir el minimo y extrapolar
+        double millis = measure(new BCryptPasswordEncoder(minStrength));
+        int strength = minStrength;
+        while (strength < MAX_BCRYPT_STRENGTH && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+        logger.info("BCrypt calibrated to strength {} (~{} ms per hash, target {} ms)", strength, Math.round(millis), targetMillis);
+        return strength;
+    }
+
+    public static int argon2Iterations(long targetMillis, int memoryKb, int parallelism, int minIterations) {
+        // El costo de Argon2 crece de forma lineal con las iteraciones para una memoria fija
+        double perIteration = measure(argon2(memoryKb, parallelism, 1));
+        int iterations = (int) Math.min(MAX_ARGON2_ITERATIONS, Math.floor(targetMillis / Math.max(perIteration, 0.01)));
+        iterations = Math.max(minIterations, iterations);
+        logger.info("Argon2 calibrated to {} iterations with {} KiB (~{} ms per hash, target {} ms)",
+                iterations, memoryKb, Math.round(perIteration * iterations), targetMillis);
+        return iterations;
+    }
+
+    public static Argon2PasswordEncoder argon2(int memoryKb, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, parallelism, memoryKb, iterations);
+    }
+
+    static double measure(PasswordEncoder encoder) {
+        // La primera llamada calienta el JIT; se toma el mejor de varios intentos para reducir el ruido
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+}
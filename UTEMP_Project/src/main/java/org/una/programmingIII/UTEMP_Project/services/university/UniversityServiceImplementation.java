@@ -20,6 +20,7 @@ import org.una.programmingIII.UTEMP_Project.models.Faculty;
 import org.una.programmingIII.UTEMP_Project.models.University;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
 
@@ -35,6 +36,7 @@ public class UniversityServiceImplementation implements UniversityService {
 
     private final UniversityRepository universityRepository;
     private final FacultyRepository facultyRepository;
+    private final HierarchyIndex hierarchyIndex;
     private final GenericMapper<University, UniversityDTO> universityMapper;
     private final GenericMapper<Faculty, FacultyDTO> facultyMapper;
 
@@ -42,10 +44,12 @@ public class UniversityServiceImplementation implements UniversityService {
     public UniversityServiceImplementation(
             UniversityRepository universityRepository,
             FacultyRepository facultyRepository,
-            GenericMapperFactory mapperFactory) {
+            GenericMapperFactory mapperFactory,
+            HierarchyIndex hierarchyIndex) {
 
         this.universityRepository = universityRepository;
         this.facultyRepository = facultyRepository;
+        this.hierarchyIndex = hierarchyIndex;
         this.universityMapper = mapperFactory.createMapper(University.class, UniversityDTO.class);
         this.facultyMapper = mapperFactory.createMapper(Faculty.class, FacultyDTO.class);
     }
@@ -87,6 +91,7 @@ public class UniversityServiceImplementation implements UniversityService {
     @Override
     @Transactional
     public UniversityDTO createUniversity(@Valid UniversityDTO universityDTO) {
+        hierarchyIndex.markChanged();
         try {
             University university = universityMapper.convertToEntity(universityDTO);
             University savedUniversity = universityRepository.save(university);
@@ -103,6 +108,7 @@ public class UniversityServiceImplementation implements UniversityService {
     @Override
     @Transactional
     public Optional<UniversityDTO> updateUniversity(Long id, @Valid UniversityDTO universityDTO) {
+        hierarchyIndex.markChanged();
         try {
             Optional<University> optionalUniversity = universityRepository.findById(id);
             University existingUniversity = optionalUniversity.orElseThrow(() ->
@@ -123,6 +129,7 @@ public class UniversityServiceImplementation implements UniversityService {
     @Override
     @Transactional
     public void deleteUniversity(Long id) {
+        hierarchyIndex.markChanged();
         try {
             University university = getEntityById(id, universityRepository, "University");
             executeWithLogging(() -> {
@@ -143,6 +150,7 @@ public class UniversityServiceImplementation implements UniversityService {
     @Override
     @Transactional
     public void addFacultyToUniversity(Long universityId, FacultyDTO facultyDTO) {
+        hierarchyIndex.markChanged();
         try {
             University university = getEntityById(universityId, universityRepository, "University");
             Faculty faculty = facultyMapper.convertToEntity(facultyDTO);
@@ -166,6 +174,7 @@ public class UniversityServiceImplementation implements UniversityService {
     @Override
     @Transactional
     public void removeFacultyFromUniversity(Long universityId, Long facultyId) {
+        hierarchyIndex.markChanged();
         University university = getEntityById(universityId, universityRepository, "University");
         Faculty faculty = getEntityById(facultyId, facultyRepository, "Faculty");
 
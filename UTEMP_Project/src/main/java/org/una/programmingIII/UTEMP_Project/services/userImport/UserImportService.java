@@ -0,0 +1,11 @@
+package org.una.programmingIII.UTEMP_Project.services.userImport;
+
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO;
+
+import java.io.InputStream;
+
+public interface UserImportService {
+    UserImportProgressDTO startImport(InputStream input, String contentType);
+
+    UserImportProgressDTO getImportProgress(Long jobId);
+}
@@ -0,0 +1,470 @@
+package org.una.programmingIII.UTEMP_Project.services.userImport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO.JobStatus;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO.RowError;
+import org.una.programmingIII.UTEMP_Project.exceptions.CustomServiceException;
+import org.una.programmingIII.UTEMP_Project.exceptions.FileServiceException;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ServiceBusyException;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.models.UserState;
+import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.services.passwordEncryption.PasswordEncryptionService;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
+import org.una.programmingIII.UTEMP_Project.validators.UserValidator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports users from a CSV ("identificationNumber,name,email,password,role[,state]") or NDJSON body. The body is
+ * spooled to a temporary file, up to users.import.max-bytes and users.import.max-rows, and processed in the background: each chunk checks existing identification numbers
+ * with one IN query, hashes the passwords of the new users on a bounded fork-join pool and is saved with saveAll in
+ * its own transaction. The caller gets a job id and polls its progress.
+ */
+@Service
+public class UserImportServiceImplementation implements UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImplementation.class);
+    private static final long REJECTED_RETRY_AFTER_SECONDS = 30;
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final PasswordEncryptionService passwordEncryptionService;
+    private final UserValidator userValidator;
+    private final GenericMapper<User, UserDTO> userMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor importExecutor;
+    private final ForkJoinPool hashPool;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final int retainedJobs;
+    private final long maxBytes;
+    private final long maxRows;
+
+    private final Map<Long, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong jobSequence = new AtomicLong();
+
+    @Autowired
+    public UserImportServiceImplementation(
+            GenericMapperFactory mapperFactory,
+            UserRepository userRepository,
+            PasswordEncryptionService passwordEncryptionService,
+            UserValidator userValidator,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("userImportExecutor") Executor importExecutor,
+            @Value("${users.import.chunk-size:500}") int chunkSize,
+            @Value("${users.import.hash-parallelism:0}") int hashParallelism,
+            @Value("${users.import.max-reported-errors:200}") int maxReportedErrors,
+            @Value("${users.import.retained-jobs:20}") int retainedJobs,
+            @Value("${users.import.max-bytes:20971520}") long maxBytes,
+            @Value("${users.import.max-rows:100000}") long maxRows) {
+
+        this.userMapper = mapperFactory.createMapper(User.class, UserDTO.class);
+        this.userRepository = userRepository;
+        this.passwordEncryptionService = passwordEncryptionService;
+        this.userValidator = userValidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importExecutor = importExecutor;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.retainedJobs = retainedJobs;
+        this.maxBytes = maxBytes;
+        this.maxRows = maxRows;
+
+        // El hash de la contraseña es lo que domina el costo; se limita a los nucleos disponibles
+        int parallelism = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(parallelism);
+        logger.info("User import hash pool initialized with parallelism: {}", parallelism);
+    }
+
+    @Override
+    public UserImportProgressDTO startImport(InputStream input, String contentType) {
+        boolean ndjson = contentType != null && contentType.toLowerCase().contains("json");
+        Path file = spool(input);
+
+        ImportJob job = new ImportJob(jobSequence.incrementAndGet(), maxReportedErrors);
+        jobs.put(job.id, job);
+        evictFinishedJobs();
+
+        UserImportProgressDTO queued = job.snapshot();
+        try {
+            importExecutor.execute(() -> runImport(job, file, ndjson));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            deleteQuietly(file);
+            logger.warn("User import job {} rejected: the import queue is full", job.id);
+            throw new ServiceBusyException("Too many user imports in progress, try again later", REJECTED_RETRY_AFTER_SECONDS);
+        }
+        logger.info("User import job {} queued", job.id);
+        return queued;
+    }
+
+    @Override
+    public UserImportProgressDTO getImportProgress(Long jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("User import", jobId);
+        }
+        return job.snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Los limites se revisan mientras se copia, asi que un cuerpo demasiado grande se corta sin llenar el disco
+    private Path spool(InputStream input) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("user-import-", ".tmp");
+            long bytes = 0;
+            long lines = 0;
+            byte last = '\n';
+            byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+            try (OutputStream output = Files.newOutputStream(file)) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    bytes += read;
+                    if (bytes > maxBytes) {
+                        throw new InvalidDataException("The user import exceeds the maximum size of " + maxBytes + " bytes.");
+                    }
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                    last = buffer[read - 1];
+                    // Se admite una linea extra para el encabezado CSV
+                    if (lines + (last != '\n' ? 1 : 0) > maxRows + 1) {
+                        throw new InvalidDataException("The user import exceeds the maximum of " + maxRows + " rows.");
+                    }
+                    output.write(buffer, 0, read);
+                }
+            }
+            if (bytes == 0) {
+                throw new InvalidDataException("The user import does not contain any rows.");
+            }
+            return file;
+        } catch (InvalidDataException e) {
+            deleteQuietly(file);
+            throw e;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            logger.error("Error reading user import: {}", e.getMessage());
+            throw new FileServiceException("Error reading user import: " + e.getMessage());
+        }
+    }
+
+    private void runImport(ImportJob job, Path file, boolean ndjson) {
+        job.start();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (!ndjson && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                chunk.add(ndjson ? parseJsonRow(lineNumber, line) : parseCsvRow(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, job);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, job);
+            }
+            job.complete();
+            logger.info("User import job {} finished: {} rows, {} created, {} skipped, {} failed",
+                    job.id, job.processed, job.created, job.skipped, job.failed);
+        } catch (Exception e) {
+            logger.error("User import job {} failed: {}", job.id, e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportJob job) {
+        List<ImportRow> pending = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.error != null) {
+                job.failed(row, row.error);
+            } else if (!job.seen.add(row.user.getIdentificationNumber())) {
+                job.skipped(row, "Identification number repeats a previous line of the file");
+            } else {
+                try {
+                    userValidator.validate(row.user);
+                    pending.add(row);
+                } catch (InvalidDataException e) {
+                    job.failed(row, e.getMessage());
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Set<String> identificationNumbers = new HashSet<>();
+        pending.forEach(row -> identificationNumbers.add(row.user.getIdentificationNumber()));
+        Set<String> existing = new HashSet<>(userRepository.findExistingIdentificationNumbers(identificationNumbers));
+
+        List<ImportRow> newRows = new ArrayList<>(pending.size());
+        for (ImportRow row : pending) {
+            if (existing.contains(row.user.getIdentificationNumber())) {
+                job.skipped(row, "User already exists");
+            } else {
+                newRows.add(row);
+            }
+        }
+        if (newRows.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> hashes = hashPasswords(newRows);
+            List<User> users = new ArrayList<>(newRows.size());
+            for (int i = 0; i < newRows.size(); i++) {
+                User user = userMapper.convertToEntity(newRows.get(i).user);
+                user.setPassword(hashes.get(i));
+                users.add(user);
+            }
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+            job.created(newRows.size());
+        } catch (Exception e) {
+            logger.error("Error importing user chunk starting at line {}: {}", newRows.getFirst().line, e.getMessage());
+            newRows.forEach(row -> job.failed(row, "Chunk could not be saved: " + e.getMessage()));
+        }
+    }
+
+    private List<String> hashPasswords(List<ImportRow> rows) {
+        List<Callable<String>> tasks = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String password = row.user.getPassword();
+            tasks.add(() -> passwordEncryptionService.encryptPassword(password));
+        }
+
+        try {
+            List<String> hashes = new ArrayList<>(rows.size());
+            for (Future<String> hash : hashPool.invokeAll(tasks)) {
+                hashes.add(hash.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomServiceException("Password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new CustomServiceException("Error hashing passwords", e.getCause());
+        }
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() <= retainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .map(job -> job.id)
+                .sorted()
+                .limit(jobs.size() - retainedJobs)
+                .toList()
+                .forEach(jobs::remove);
+    }
+
+    private boolean isCsvHeader(String line) {
+        String[] columns = line.split("[,;]");
+        return columns.length >= 3 && !unquote(columns[2]).contains("@");
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line) {
+        String[] columns = line.split("[,;]", -1);
+        if (columns.length < 5) {
+            return ImportRow.invalid(lineNumber, "Expected identificationNumber,name,email,password,role[,state]");
+        }
+        return ImportRow.of(lineNumber, unquote(columns[0]), unquote(columns[1]), unquote(columns[2]),
+                unquote(columns[3]), unquote(columns[4]), columns.length > 5 ? unquote(columns[5]) : null);
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return ImportRow.of(lineNumber,
+                    node.path("identificationNumber").asText(null),
+                    node.path("name").asText(null),
+                    node.path("email").asText(null),
+                    node.path("password").asText(null),
+                    node.path("role").asText(null),
+                    node.path("state").asText(null));
+        } catch (IOException e) {
+            return ImportRow.invalid(lineNumber, "Malformed JSON line");
+        }
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private final UserDTO user;
+        private final String error;
+
+        private ImportRow(long line, UserDTO user, String error) {
+            this.line = line;
+            this.user = user;
+            this.error = error;
+        }
+
+        static ImportRow of(long line, String identificationNumber, String name, String email,
+                            String password, String role, String state) {
+            UserDTO user = UserDTO.builder()
+                    .identificationNumber(identificationNumber)
+                    .name(name)
+                    .email(email)
+                    .password(password)
+                    .build();
+            if (identificationNumber == null || identificationNumber.isBlank()) {
+                return new ImportRow(line, user, "Identification number is required");
+            }
+            user.setIdentificationNumber(identificationNumber.trim());
+            try {
+                user.setRole(role == null ? null : UserRole.valueOf(role.trim().toUpperCase()));
+                // Los usuarios importados quedan activos salvo que la fila indique otro estado
+                user.setState(state == null || state.isBlank() ? UserState.ACTIVE : UserState.valueOf(state.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                return new ImportRow(line, user, "Unknown role or state");
+            }
+            return new ImportRow(line, user, null);
+        }
+
+        static ImportRow invalid(long line, String error) {
+            return new ImportRow(line, null, error);
+        }
+    }
+
+    private static class ImportJob {
+        private final long id;
+        private final int maxReportedErrors;
+        private final Set<String> seen = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private JobStatus status = JobStatus.QUEUED;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String message;
+        private int processed;
+        private int created;
+        private int skipped;
+        private int failed;
+
+        ImportJob(long id, int maxReportedErrors) {
+            this.id = id;
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        synchronized void start() {
+            status = JobStatus.RUNNING;
+            startedAt = LocalDateTime.now();
+        }
+
+        synchronized void complete() {
+            status = JobStatus.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized void fail(String reason) {
+            status = JobStatus.FAILED;
+            message = reason;
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized boolean isFinished() {
+            return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+        }
+
+        synchronized void created(int count) {
+            processed += count;
+            created += count;
+        }
+
+        synchronized void skipped(ImportRow row, String reason) {
+            processed++;
+            skipped++;
+            report(row, reason);
+        }
+
+        synchronized void failed(ImportRow row, String reason) {
+            processed++;
+            failed++;
+            report(row, reason);
+        }
+
+        synchronized UserImportProgressDTO snapshot() {
+            return UserImportProgressDTO.builder()
+                    .jobId(id)
+                    .status(status)
+                    .processed(processed)
+                    .created(created)
+                    .skipped(skipped)
+                    .failed(failed)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .message(message)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+
+        private void report(ImportRow row, String reason) {
+            if (errors.size() < maxReportedErrors) {
+                String identificationNumber = row.user == null ? null : row.user.getIdentificationNumber();
+                errors.add(new RowError(row.line, identificationNumber, reason));
+            }
+        }
+    }
+}
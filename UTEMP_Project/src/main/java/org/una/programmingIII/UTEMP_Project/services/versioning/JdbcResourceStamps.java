@@ -0,0 +1,43 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stamps each kind with the version row of its table in {@code resource_versions}, which the triggers of the V5
+ * migration increment when a transaction that wrote the table commits. All kinds are read with a single query over
+ * one row per table, whatever the size of the tables.
+ */
+@Component
+public class JdbcResourceStamps implements ResourceStamps {
+
+    private static final String QUERY = "SELECT table_name, version FROM resource_versions";
+
+    private static final Map<String, ResourceKind> KINDS_BY_TABLE = Arrays.stream(ResourceKind.values())
+            .collect(Collectors.toUnmodifiableMap(ResourceKind::getTable, Function.identity()));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JdbcResourceStamps(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long[] read() {
+        long[] stamps = new long[ResourceKind.values().length];
+        jdbcTemplate.query(QUERY, row -> {
+            ResourceKind kind = KINDS_BY_TABLE.get(row.getString("table_name"));
+            if (kind != null) {
+                stamps[kind.ordinal()] = row.getLong("version");
+            }
+        });
+        return stamps;
+    }
+}
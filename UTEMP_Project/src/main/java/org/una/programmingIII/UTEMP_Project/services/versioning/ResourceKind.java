@@ -0,0 +1,47 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Entities whose changes affect cached HTTP representations. Each kind lists the kinds its DTO embeds, directly or
+ * through nested collections and copied names, so that a change to any of them changes its ETag.
+ */
+public enum ResourceKind {
+    UNIVERSITY("universities"),
+    FACULTY("faculties"),
+    DEPARTMENT("departments"),
+    COURSE("courses"),
+    ASSIGNMENT("assignments"),
+    ENROLLMENT("enrollments"),
+    SUBMISSION("submissions"),
+    USER("users");
+
+    private final String table;
+    private Set<ResourceKind> dependencies;
+
+    static {
+        USER.dependencies = EnumSet.of(USER);
+        ENROLLMENT.dependencies = EnumSet.of(ENROLLMENT);
+        // La entrega copia el titulo de la asignacion y el nombre del estudiante
+        SUBMISSION.dependencies = EnumSet.of(SUBMISSION, ASSIGNMENT, USER);
+        ASSIGNMENT.dependencies = EnumSet.of(ASSIGNMENT, SUBMISSION, USER);
+        // El curso copia el nombre del departamento
+        COURSE.dependencies = EnumSet.of(COURSE, DEPARTMENT, ASSIGNMENT, ENROLLMENT, SUBMISSION, USER);
+        DEPARTMENT.dependencies = EnumSet.of(DEPARTMENT, COURSE, ASSIGNMENT, ENROLLMENT, SUBMISSION, USER);
+        FACULTY.dependencies = EnumSet.complementOf(EnumSet.of(UNIVERSITY));
+        UNIVERSITY.dependencies = EnumSet.allOf(ResourceKind.class);
+    }
+
+    ResourceKind(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Set<ResourceKind> getDependencies() {
+        return dependencies;
+    }
+}
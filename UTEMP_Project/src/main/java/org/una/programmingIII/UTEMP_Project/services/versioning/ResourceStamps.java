@@ -0,0 +1,10 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+/**
+ * Reads one stamp per {@link ResourceKind}, indexed by ordinal, from the shared database. Every application instance
+ * reads the same stamps for the same data, so a write handled by one instance changes the versions of all of them.
+ */
+@FunctionalInterface
+public interface ResourceStamps {
+    long[] read();
+}
@@ -0,0 +1,53 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.models.*;
+
+/**
+ * JPA listener that tells {@link ResourceVersionService} whenever a row of a {@link ResourceKind} is written, so the
+ * database stamps are read again on the next request. It reports at flush time and again after the transaction
+ * completes, so stamps read before the commit are never kept.
+ */
+public class ResourceVersionListener {
+
+    private final ObjectProvider<ResourceVersionService> resourceVersionService;
+
+    public ResourceVersionListener(ObjectProvider<ResourceVersionService> resourceVersionService) {
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ResourceKind kind = switch (entity) {
+            case University university -> ResourceKind.UNIVERSITY;
+            case Faculty faculty -> ResourceKind.FACULTY;
+            case Department department -> ResourceKind.DEPARTMENT;
+            case Course course -> ResourceKind.COURSE;
+            case Assignment assignment -> ResourceKind.ASSIGNMENT;
+            case Enrollment enrollment -> ResourceKind.ENROLLMENT;
+            case Submission submission -> ResourceKind.SUBMISSION;
+            case User user -> ResourceKind.USER;
+            default -> null;
+        };
+        ResourceVersionService versions = resourceVersionService.getIfAvailable();
+        if (kind == null || versions == null) {
+            return;
+        }
+        versions.recordChange(kind);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.recordChange(kind);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Version stamps used to answer conditional GETs on the university hierarchy. ETags combine the entity's
+ * {@code lastUpdate} with a version that moves whenever any kind it embeds changes, so a cached ETag can be
+ * compared against {@code If-None-Match} without loading or mapping the entity again.
+ */
+public interface ResourceVersionService {
+    long getCurrentVersion(ResourceKind kind);
+
+    // Version combinada de los tipos indicados; negativa y distinta en cada llamada si no se pudieron leer los sellos
+    long getCurrentVersion(Set<ResourceKind> kinds);
+
+    // Solo responde si el ETag del recurso ya se calculo con la version actual
+    Optional<String> getCachedETag(ResourceKind kind, Long id);
+
+    String recordETag(ResourceKind kind, Long id, LocalDateTime lastUpdate, long version);
+
+    String getCollectionETag(ResourceKind kind);
+
+    CacheControl getCacheControl(ResourceKind kind);
+
+    void recordChange(ResourceKind kind);
+}
@@ -0,0 +1,180 @@
+package org.una.programmingIII.UTEMP_Project.services.versioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Derives the version of each {@link ResourceKind} from database stamps ({@link ResourceStamps}) of every kind it
+ * depends on, and keeps the last ETag served for each resource together with the version it was computed at. The
+ * stamps are re-read at most every {@code http.cache.version-refresh-ms}, or on the next request after
+ * {@link ResourceVersionListener} reports a local write, so writes made by another instance stop matching ETags
+ * within that interval and every instance issues the same ETags for the same data.
+ */
+@Service
+public class ResourceVersionServiceImplementation implements ResourceVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceVersionServiceImplementation.class);
+
+    private final ResourceStamps resourceStamps;
+    private final LongSupplier clock;
+    private final long refreshMillis;
+    private final int maxEntries;
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong failedReads = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private final Map<ResourceKey, Stamp> stamps = new ConcurrentHashMap<>();
+    private final Map<ResourceKind, CacheControl> cacheControls = new EnumMap<>(ResourceKind.class);
+
+    @Autowired
+    public ResourceVersionServiceImplementation(
+            ResourceStamps resourceStamps,
+            @Value("${http.cache.version-refresh-ms:1000}") long refreshMillis,
+            @Value("${http.cache.hierarchy.max-age-seconds:60}") long hierarchyMaxAgeSeconds,
+            @Value("${http.cache.course.max-age-seconds:0}") long courseMaxAgeSeconds,
+            @Value("${http.cache.max-entries:100000}") int maxEntries) {
+
+        this(resourceStamps, System::currentTimeMillis, refreshMillis, hierarchyMaxAgeSeconds, courseMaxAgeSeconds, maxEntries);
+    }
+
+    public ResourceVersionServiceImplementation(ResourceStamps resourceStamps, LongSupplier clock, long refreshMillis,
+                                                long hierarchyMaxAgeSeconds, long courseMaxAgeSeconds, int maxEntries) {
+        this.resourceStamps = resourceStamps;
+        this.clock = clock;
+        this.refreshMillis = refreshMillis;
+        this.maxEntries = maxEntries;
+        for (ResourceKind kind : ResourceKind.values()) {
+            cacheControls.put(kind, cacheControl(kind == ResourceKind.UNIVERSITY || kind == ResourceKind.FACULTY
+                    || kind == ResourceKind.DEPARTMENT ? hierarchyMaxAgeSeconds : courseMaxAgeSeconds));
+        }
+    }
+
+    @Override
+    public long getCurrentVersion(ResourceKind kind) {
+        return getCurrentVersion(kind.getDependencies());
+    }
+
+    @Override
+    public long getCurrentVersion(Set<ResourceKind> kinds) {
+        long[] stamps = currentStamps();
+        if (stamps == null) {
+            // Sin sellos no se puede asegurar que nada cambio: una version que no se repite evita responder 304
+            return -failedReads.incrementAndGet();
+        }
+        long version = 1;
+        // En orden de declaracion, para que todas las instancias combinen los sellos igual sea cual sea el Set
+        for (ResourceKind dependency : ResourceKind.values()) {
+            if (kinds.contains(dependency)) {
+                version = 31 * version + stamps[dependency.ordinal()];
+            }
+        }
+        return version;
+    }
+
+    @Override
+    public Optional<String> getCachedETag(ResourceKind kind, Long id) {
+        Stamp stamp = stamps.get(new ResourceKey(kind, id));
+        if (stamp == null || stamp.version() != getCurrentVersion(kind)) {
+            return Optional.empty();
+        }
+        return Optional.of(stamp.eTag());
+    }
+
+    @Override
+    public String recordETag(ResourceKind kind, Long id, LocalDateTime lastUpdate, long version) {
+        long updatedAt = lastUpdate != null ? lastUpdate.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        String eTag = quote(prefix(kind) + "-" + id + "-" + Long.toString(updatedAt, 36) + "-" + Long.toString(version, 36));
+        // Si algo cambio mientras se cargaba el recurso, el ETag se devuelve pero no se guarda
+        if (version == getCurrentVersion(kind)) {
+            if (stamps.size() >= maxEntries) {
+                logger.warn("Resource version cache reached {} entries; clearing it", maxEntries);
+                stamps.clear();
+            }
+            stamps.put(new ResourceKey(kind, id), new Stamp(eTag, version));
+        }
+        return eTag;
+    }
+
+    @Override
+    public String getCollectionETag(ResourceKind kind) {
+        return quote(prefix(kind) + "-list-" + Long.toString(getCurrentVersion(kind), 36));
+    }
+
+    @Override
+    public CacheControl getCacheControl(ResourceKind kind) {
+        return cacheControls.get(kind);
+    }
+
+    @Override
+    public void recordChange(ResourceKind kind) {
+        changes.incrementAndGet();
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // Un cambio local invalida los sellos de inmediato; los de otras instancias se ven al vencer refreshMillis
+    private long[] currentStamps() {
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(changes.get(), clock.getAsLong(), refreshMillis)) {
+            return current.stamps();
+        }
+        synchronized (this) {
+            current = snapshot;
+            long seenChanges = changes.get();
+            long now = clock.getAsLong();
+            if (current != null && current.isValid(seenChanges, now, refreshMillis)) {
+                return current.stamps();
+            }
+            try {
+                long[] stamps = resourceStamps.read();
+                snapshot = new Snapshot(stamps, now, seenChanges);
+                return stamps;
+            } catch (RuntimeException e) {
+                logger.warn("Could not read resource stamps; conditional requests are not answered: {}", e.getMessage());
+                snapshot = null;
+                return null;
+            }
+        }
+    }
+
+    // Las respuestas dependen del usuario autenticado, por eso nunca se permiten caches compartidos
+    private static CacheControl cacheControl(long maxAgeSeconds) {
+        return maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate()
+                : CacheControl.noCache().cachePrivate();
+    }
+
+    private static String prefix(ResourceKind kind) {
+        return kind.name().toLowerCase();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private record ResourceKey(ResourceKind kind, Long id) {
+    }
+
+    private record Stamp(String eTag, long version) {
+    }
+
+    private record Snapshot(long[] stamps, long readAt, long changes) {
+        boolean isValid(long currentChanges, long now, long refreshMillis) {
+            return changes == currentChanges && now - readAt < refreshMillis;
+        }
+    }
+}
@@ -3,40 +3,31 @@ package org.una.programmingIII.UTEMP_Project.transformers.converters;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * Stores permissions as a bitmask over {@link UserPermission} ordinals; see {@link PermissionBitset} for the layout.
+ */
 @Converter(autoApply = true)
-public class UserPermissionConverter implements AttributeConverter<List<UserPermission>, String> {
+public class UserPermissionConverter implements AttributeConverter<Set<UserPermission>, Long> {
 
     public UserPermissionConverter() {
     }
 
-    public String convertToDatabaseColumn(List<UserPermission> permissions) {
-        if (permissions == null || permissions.isEmpty()) {
-            return "";
-        }
-        String result = permissions.stream()
-                .map(UserPermission::name)
-                .collect(Collectors.joining(","));
-//        System.out.println("Converting permissions to DB column: " + result);
-        return result;
+    public Long convertToDatabaseColumn(Set<UserPermission> permissions) {
+        return PermissionBitset.mask(permissions);
     }
 
-    public List<UserPermission> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isEmpty()) {
-            return List.of();
+    public Set<UserPermission> convertToEntityAttribute(Long dbData) {
+        if (dbData == null) {
+            return PermissionBitset.fromMask(0);
+        }
+        try {
+            return PermissionBitset.fromMask(dbData);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid permission mask: " + dbData, e);
         }
-        return Arrays.stream(dbData.split(","))
-                .map(permission -> {
-                    try {
-                        return UserPermission.valueOf(permission.trim());
-                    } catch (IllegalArgumentException e) {
-                        throw new IllegalArgumentException("Invalid permission value: " + permission, e);
-                    }
-                })
-                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,78 @@
+package org.una.programmingIII.UTEMP_Project.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.una.programmingIII.UTEMP_Project.configs.ReplicaRoutingDataSource;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET handling for endpoints versioned by {@link ResourceVersionService}. When the client already holds
+ * the current ETag the loader is never called, so neither the database nor the mapper is touched. Loaders read from
+ * the primary: the ETag comes from the primary's stamps, and a body read from a lagging replica would be revalidated
+ * as current until the next write.
+ */
+public class ConditionalResponses {
+
+    public static <T> ResponseEntity<T> getResource(ResourceVersionService versions, ResourceKind kind, Long id,
+                                                    String ifNoneMatch, Supplier<Optional<T>> loader,
+                                                    Function<T, LocalDateTime> lastUpdate) {
+        CacheControl cacheControl = versions.getCacheControl(kind);
+        Optional<String> cachedETag = versions.getCachedETag(kind, id);
+        if (cachedETag.isPresent() && matches(ifNoneMatch, cachedETag.get())) {
+            return notModified(cachedETag.get(), cacheControl);
+        }
+
+        long version = versions.getCurrentVersion(kind);
+        Optional<T> resource = ReplicaRoutingDataSource.readFromPrimary(loader);
+        if (resource.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = versions.recordETag(kind, id, lastUpdate.apply(resource.get()), version);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag, cacheControl);
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(resource.get());
+    }
+
+    public static <T> ResponseEntity<T> getCollection(ResourceVersionService versions, ResourceKind kind,
+                                                      String ifNoneMatch, Supplier<T> loader) {
+        return getVersioned(versions.getCollectionETag(kind), versions.getCacheControl(kind), ifNoneMatch, loader);
+    }
+
+    // El ETag se toma antes de cargar: si algo cambia mientras tanto, la siguiente peticion ya no coincide
+    public static <T> ResponseEntity<T> getVersioned(String eTag, CacheControl cacheControl, String ifNoneMatch,
+                                                     Supplier<T> loader) {
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag, cacheControl);
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(ReplicaRoutingDataSource.readFromPrimary(loader));
+    }
+
+    // If-None-Match usa comparacion debil (RFC 9110, 13.1.2) y puede traer varios ETags o "*"
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+    }
+}
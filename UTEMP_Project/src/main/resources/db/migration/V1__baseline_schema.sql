@@ -0,0 +1,126 @@
+-- Esquema inicial, equivalente al que generaba spring.jpa.hibernate.ddl-auto=update.
+-- Las bases creadas con ddl-auto se marcan como version 1 (spring.flyway.baseline-on-migrate) y no ejecutan este script.
+
+CREATE TABLE users
+(
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                  VARCHAR(100) NOT NULL,
+    email                 VARCHAR(150) NOT NULL,
+    password              VARCHAR(128) NOT NULL,
+    identification_number VARCHAR(50),
+    state                 VARCHAR(255) NOT NULL DEFAULT 'ACTIVE',
+    role                  VARCHAR(255) NOT NULL,
+    permission_mask       BIGINT       NOT NULL DEFAULT 0,
+    created_at            TIMESTAMP(6) NOT NULL,
+    last_update           TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE universities
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    location    VARCHAR(200),
+    created_at  TIMESTAMP(6) NOT NULL,
+    last_update TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE faculties
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(50)  NOT NULL,
+    university_id BIGINT       NOT NULL CONSTRAINT fk_faculties_university REFERENCES universities,
+    created_at    TIMESTAMP(6) NOT NULL,
+    last_update   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE departments
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(50)  NOT NULL,
+    faculty_id  BIGINT       NOT NULL CONSTRAINT fk_departments_faculty REFERENCES faculties,
+    created_at  TIMESTAMP(6) NOT NULL,
+    last_update TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE courses
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(50)  NOT NULL,
+    description   VARCHAR(500) NOT NULL,
+    teacher_id    BIGINT       NOT NULL CONSTRAINT fk_courses_teacher REFERENCES users,
+    department_id BIGINT       NOT NULL CONSTRAINT fk_courses_department REFERENCES departments,
+    state         VARCHAR(255) NOT NULL DEFAULT 'ACTIVE',
+    created_at    TIMESTAMP(6) NOT NULL,
+    last_update   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE assignments
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100)  NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    deadline    TIMESTAMP(6) WITH TIME ZONE,
+    course_id   BIGINT        NOT NULL CONSTRAINT fk_assignments_course REFERENCES courses,
+    state       VARCHAR(255)  NOT NULL DEFAULT 'PENDING',
+    created_at  TIMESTAMP(6)  NOT NULL,
+    last_update TIMESTAMP(6)  NOT NULL
+);
+
+CREATE TABLE enrollments
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    course_id   BIGINT       NOT NULL CONSTRAINT fk_enrollments_course REFERENCES courses,
+    student_id  BIGINT       NOT NULL CONSTRAINT fk_enrollments_student REFERENCES users,
+    state       VARCHAR(255) NOT NULL DEFAULT 'ENROLLED',
+    created_at  TIMESTAMP(6) NOT NULL,
+    last_update TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE submissions
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    assignment_id BIGINT       NOT NULL CONSTRAINT fk_submissions_assignment REFERENCES assignments,
+    student_id    BIGINT       NOT NULL CONSTRAINT fk_submissions_student REFERENCES users,
+    file_name     VARCHAR(255) NOT NULL,
+    grade         FLOAT(53),
+    comments      VARCHAR(500),
+    state         VARCHAR(255) NOT NULL DEFAULT 'SUBMITTED',
+    created_at    TIMESTAMP(6) NOT NULL,
+    last_update   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE grades
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    submission_id  BIGINT       NOT NULL CONSTRAINT fk_grades_submission REFERENCES submissions,
+    grade          FLOAT(53),
+    comments       VARCHAR(1000),
+    reviewed_by_ai BOOLEAN,
+    state          VARCHAR(255) NOT NULL DEFAULT 'PENDING_REVIEW',
+    created_at     TIMESTAMP(6) NOT NULL,
+    last_update    TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE notifications
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT CONSTRAINT fk_notifications_user REFERENCES users,
+    message     VARCHAR(500),
+    status      VARCHAR(255) NOT NULL DEFAULT 'UNREAD',
+    created_at  TIMESTAMP(6) NOT NULL,
+    last_update TIMESTAMP(6) NOT NULL
+);
+
+-- assignment_id apunta a submissions: es el nombre de columna que usa el mapeo de FileMetadatum.submission
+CREATE TABLE file_metadata
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    assignment_id BIGINT CONSTRAINT fk_file_metadata_submission REFERENCES submissions,
+    student_id    BIGINT CONSTRAINT fk_file_metadata_student REFERENCES users,
+    file_name     VARCHAR(255),
+    file_size     BIGINT,
+    file_type     VARCHAR(100),
+    storage_path  VARCHAR(500),
+    created_at    TIMESTAMP(6) NOT NULL,
+    last_update   TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,56 @@
+-- Indices para las busquedas por clave foranea y por numero de identificacion; PostgreSQL no indexa las claves
+-- foraneas por si solo. IF NOT EXISTS porque las bases marcadas como version 1 pueden tener alguno creado a mano.
+
+CREATE INDEX IF NOT EXISTS idx_users_identification_number ON users (identification_number);
+
+CREATE INDEX IF NOT EXISTS idx_faculties_university_id ON faculties (university_id);
+CREATE INDEX IF NOT EXISTS idx_departments_faculty_id ON departments (faculty_id);
+CREATE INDEX IF NOT EXISTS idx_courses_department_id ON courses (department_id);
+CREATE INDEX IF NOT EXISTS idx_courses_teacher_id ON courses (teacher_id);
+CREATE INDEX IF NOT EXISTS idx_assignments_course_id ON assignments (course_id);
+
+-- Un estudiante se matricula una sola vez por curso. Los duplicados que pudiera haber dejado la version sin
+-- restriccion se reducen a la matricula modificada mas recientemente antes de crear el indice unico. Las filas
+-- descartadas no se pierden: se mueven a enrollment_duplicates para revisarlas y la migracion avisa cuantas fueron.
+CREATE TABLE enrollment_duplicates AS
+SELECT e.*, now() AS removed_at
+FROM enrollments e
+WHERE false;
+
+DO
+$$
+    DECLARE
+        moved INTEGER;
+    BEGIN
+        WITH duplicates AS (
+            DELETE
+                FROM enrollments e
+                    USING enrollments newer
+                WHERE e.student_id = newer.student_id
+                    AND e.course_id = newer.course_id
+                    AND (e.last_update, e.id) < (newer.last_update, newer.id)
+                RETURNING e.*)
+        INSERT
+        INTO enrollment_duplicates
+        SELECT duplicates.*, now()
+        FROM duplicates;
+
+        GET DIAGNOSTICS moved = ROW_COUNT;
+        IF moved > 0 THEN
+            RAISE WARNING 'Moved % duplicate enrollments to enrollment_duplicates before adding uk_enrollments_student_course', moved;
+        END IF;
+    END
+$$;
+
+-- El indice unico (student_id, course_id) sirve tambien para las busquedas por estudiante
+CREATE UNIQUE INDEX IF NOT EXISTS uk_enrollments_student_course ON enrollments (student_id, course_id);
+CREATE INDEX IF NOT EXISTS idx_enrollments_course_id ON enrollments (course_id);
+
+CREATE INDEX IF NOT EXISTS idx_submissions_assignment_id ON submissions (assignment_id);
+CREATE INDEX IF NOT EXISTS idx_submissions_student_id ON submissions (student_id);
+CREATE INDEX IF NOT EXISTS idx_grades_submission_id ON grades (submission_id);
+CREATE INDEX IF NOT EXISTS idx_file_metadata_assignment_id ON file_metadata (assignment_id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_id ON notifications (user_id);
+-- Solo las no leidas: es la porcion que se consulta y cuenta, y se mantiene pequena aunque la tabla crezca
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread ON notifications (user_id, created_at) WHERE status = 'UNREAD';
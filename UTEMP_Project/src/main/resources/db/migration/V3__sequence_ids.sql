@@ -0,0 +1,59 @@
+-- Los ids pasan de columnas IDENTITY a una secuencia por tabla. Con IDENTITY Hibernate necesita el id de cada fila
+-- al insertarla y no puede agrupar inserts; con una secuencia que avanza de ${id_allocation_size} en
+-- ${id_allocation_size} reserva un bloque de ids por llamada (optimizador pooled-lo) y envia los inserts en lotes JDBC.
+-- Cada secuencia continua despues del mayor id existente y queda como DEFAULT de la columna para los inserts manuales.
+
+CREATE SEQUENCE users_seq INCREMENT BY ${id_allocation_size} OWNED BY users.id;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+CREATE SEQUENCE universities_seq INCREMENT BY ${id_allocation_size} OWNED BY universities.id;
+SELECT setval('universities_seq', COALESCE((SELECT MAX(id) FROM universities), 0) + 1, false);
+ALTER TABLE universities ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE universities ALTER COLUMN id SET DEFAULT nextval('universities_seq');
+
+CREATE SEQUENCE faculties_seq INCREMENT BY ${id_allocation_size} OWNED BY faculties.id;
+SELECT setval('faculties_seq', COALESCE((SELECT MAX(id) FROM faculties), 0) + 1, false);
+ALTER TABLE faculties ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE faculties ALTER COLUMN id SET DEFAULT nextval('faculties_seq');
+
+CREATE SEQUENCE departments_seq INCREMENT BY ${id_allocation_size} OWNED BY departments.id;
+SELECT setval('departments_seq', COALESCE((SELECT MAX(id) FROM departments), 0) + 1, false);
+ALTER TABLE departments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE departments ALTER COLUMN id SET DEFAULT nextval('departments_seq');
+
+CREATE SEQUENCE courses_seq INCREMENT BY ${id_allocation_size} OWNED BY courses.id;
+SELECT setval('courses_seq', COALESCE((SELECT MAX(id) FROM courses), 0) + 1, false);
+ALTER TABLE courses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE courses ALTER COLUMN id SET DEFAULT nextval('courses_seq');
+
+CREATE SEQUENCE assignments_seq INCREMENT BY ${id_allocation_size} OWNED BY assignments.id;
+SELECT setval('assignments_seq', COALESCE((SELECT MAX(id) FROM assignments), 0) + 1, false);
+ALTER TABLE assignments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE assignments ALTER COLUMN id SET DEFAULT nextval('assignments_seq');
+
+CREATE SEQUENCE enrollments_seq INCREMENT BY ${id_allocation_size} OWNED BY enrollments.id;
+SELECT setval('enrollments_seq', COALESCE((SELECT MAX(id) FROM enrollments), 0) + 1, false);
+ALTER TABLE enrollments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE enrollments ALTER COLUMN id SET DEFAULT nextval('enrollments_seq');
+
+CREATE SEQUENCE submissions_seq INCREMENT BY ${id_allocation_size} OWNED BY submissions.id;
+SELECT setval('submissions_seq', COALESCE((SELECT MAX(id) FROM submissions), 0) + 1, false);
+ALTER TABLE submissions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE submissions ALTER COLUMN id SET DEFAULT nextval('submissions_seq');
+
+CREATE SEQUENCE grades_seq INCREMENT BY ${id_allocation_size} OWNED BY grades.id;
+SELECT setval('grades_seq', COALESCE((SELECT MAX(id) FROM grades), 0) + 1, false);
+ALTER TABLE grades ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE grades ALTER COLUMN id SET DEFAULT nextval('grades_seq');
+
+CREATE SEQUENCE notifications_seq INCREMENT BY ${id_allocation_size} OWNED BY notifications.id;
+SELECT setval('notifications_seq', COALESCE((SELECT MAX(id) FROM notifications), 0) + 1, false);
+ALTER TABLE notifications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE notifications ALTER COLUMN id SET DEFAULT nextval('notifications_seq');
+
+CREATE SEQUENCE file_metadata_seq INCREMENT BY ${id_allocation_size} OWNED BY file_metadata.id;
+SELECT setval('file_metadata_seq', COALESCE((SELECT MAX(id) FROM file_metadata), 0) + 1, false);
+ALTER TABLE file_metadata ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE file_metadata ALTER COLUMN id SET DEFAULT nextval('file_metadata_seq');
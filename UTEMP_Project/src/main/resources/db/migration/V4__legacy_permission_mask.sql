@@ -0,0 +1,71 @@
+-- Los permisos se guardaban como lista de nombres separados por coma en users.permissions y ahora como mascara de
+-- bits en users.permission_mask (bit = ordinal de UserPermission). Solo las bases creadas antes con ddl-auto=update y
+-- marcadas como version 1 tienen la columna antigua: se copia a la mascara de las filas que aun no tienen y se deja
+-- nula para que los usuarios nuevos se inserten sin ella. La columna antigua no se borra. Los nombres desconocidos se
+-- ignoran. La tabla de bits refleja el orden del enum en esta version y no debe cambiar aunque el enum crezca.
+
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = current_schema()
+                         AND table_name = 'users'
+                         AND column_name = 'permissions') THEN
+            RETURN;
+        END IF;
+
+        ALTER TABLE users ADD COLUMN IF NOT EXISTS permission_mask BIGINT NOT NULL DEFAULT 0;
+        ALTER TABLE users ALTER COLUMN permissions DROP NOT NULL;
+
+        UPDATE users u
+        SET permission_mask = legacy.mask
+        FROM (SELECT lu.id, bit_or(1::BIGINT << p.bit) AS mask
+              FROM users lu
+                       CROSS JOIN LATERAL unnest(string_to_array(lu.permissions, ',')) AS granted(name)
+                       JOIN (VALUES
+                           ('ALL_PERMISSIONS', 0),
+                           ('MANAGE_USERS', 1),
+                           ('MANAGE_UNIVERSITIES', 2),
+                           ('MANAGE_FACULTIES', 3),
+                           ('MANAGE_DEPARTMENTS', 4),
+                           ('MANAGE_COURSES', 5),
+                           ('MANAGE_ASSIGNMENTS', 6),
+                           ('MANAGE_SUBMISSIONS', 7),
+                           ('MANAGE_ENROLLMENTS', 8),
+                           ('MANAGE_GRADES', 9),
+                           ('GET_TEACHER_COURSES', 10),
+                           ('ADD_TEACHER_COURSES', 11),
+                           ('REMOVE_TEACHER_COURSE', 12),
+                           ('GET_STUDENT_ENROLLMENTS', 13),
+                           ('ADD_STUDENT_COURSES', 14),
+                           ('REMOVE_STUDENT_COURSES', 15),
+                           ('ADD_UNIVERSITY_FACULTIES', 16),
+                           ('REMOVE_UNIVERSITY_FACULTIES', 17),
+                           ('GET_UNIVERSITY_FACILITIES', 18),
+                           ('ADD_FACULTY_DEPARTMENTS', 19),
+                           ('REMOVE_FACULTY_DEPARTMENTS', 20),
+                           ('GET_FACULTY_DEPARTMENTS', 21),
+                           ('ADD_DEPARTMENT_COURSES', 22),
+                           ('REMOVE_DEPARTMENT_COURSES', 23),
+                           ('GET_DEPARTMENT_COURSES', 24),
+                           ('ADD_COURSE_ASSIGNMENTS', 25),
+                           ('REMOVE_COURSE_ASSIGNMENTS', 26),
+                           ('GET_COURSE_ASSIGNMENTS', 27),
+                           ('ADD_ASSIGNMENT_SUBMISSION', 28),
+                           ('REMOVE_ASSIGNMENT_SUBMISSION', 29),
+                           ('GET_ASSIGNMENT_SUBMISSIONS', 30),
+                           ('ADD_SUBMISSION_FILES', 31),
+                           ('ADD_SUBMISSION_GRADES', 32),
+                           ('REMOVE_SUBMISSION_FILES', 33),
+                           ('REMOVE_SUBMISSION_GRADES', 34),
+                           ('EVALUATE_SUBMISSIONS', 35),
+                           ('GET_SUBMISSION_GRADES', 36),
+                           ('GET_COURSE_GRADEBOOK', 37)) AS p(name, bit)
+                            ON p.name = trim(granted.name)
+              WHERE lu.permission_mask = 0
+                AND lu.permissions <> ''
+              GROUP BY lu.id) legacy
+        WHERE u.id = legacy.id;
+    END
+$$;
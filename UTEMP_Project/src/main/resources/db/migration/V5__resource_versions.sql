@@ -0,0 +1,145 @@
+-- Version por tabla para los ETag de ResourceKind, leida con una consulta de ocho filas en lugar de contar y recorrer
+-- cada tabla. Se incrementa dentro de la transaccion que escribe, asi que las demas instancias ven el cambio cuando se
+-- confirma, incluidas las escrituras hechas fuera de JPA.
+-- Cada sentencia anota su tabla en una variable local de la transaccion, sin bloquear nada. Al confirmar, el primer
+-- trigger diferido incrementa de una vez todas las tablas anotadas, bloqueando sus filas en orden de nombre: el
+-- bloqueo dura solo el commit y dos transacciones que escriben las mismas tablas no pueden bloquearse entre si.
+
+CREATE TABLE resource_versions
+(
+    table_name VARCHAR(64) PRIMARY KEY,
+    version    BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO resource_versions (table_name)
+VALUES ('universities'), ('faculties'), ('departments'), ('courses'), ('assignments'), ('enrollments'), ('submissions'), ('users');
+
+CREATE FUNCTION record_resource_write() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM set_config('utemp.written_tables',
+                       concat_ws(',', NULLIF(current_setting('utemp.written_tables', true), ''), TG_TABLE_NAME), true);
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION bump_resource_versions() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    written TEXT[] := string_to_array(NULLIF(current_setting('utemp.written_tables', true), ''), ',');
+BEGIN
+    IF written IS NULL THEN
+        RETURN NULL;
+    END IF;
+    PERFORM set_config('utemp.written_tables', '', true);
+    PERFORM 1 FROM resource_versions WHERE table_name = ANY (written) ORDER BY table_name FOR UPDATE;
+    UPDATE resource_versions SET version = version + 1 WHERE table_name = ANY (written);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_universities_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON universities
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_universities_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON universities
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_faculties_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON faculties
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_faculties_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON faculties
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_departments_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON departments
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_departments_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON departments
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_courses_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON courses
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_courses_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON courses
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_assignments_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON assignments
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_assignments_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON assignments
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_enrollments_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON enrollments
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_enrollments_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON enrollments
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_submissions_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON submissions
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_submissions_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON submissions
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
+
+CREATE TRIGGER trg_users_record_write
+    AFTER INSERT OR UPDATE OR DELETE
+    ON users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_resource_write();
+
+CREATE CONSTRAINT TRIGGER trg_users_bump_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON users
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_resource_versions();
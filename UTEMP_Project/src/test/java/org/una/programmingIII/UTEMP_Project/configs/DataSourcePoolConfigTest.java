@@ -0,0 +1,48 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourcePoolConfigTest {
+
+    @Test
+    void applyPoolSize_SizesUnsetPoolFromDatabaseCores() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        DataSourcePoolConfig.applyPoolSize(dataSource, 0, 8, 1, 1);
+
+        assertEquals(17, dataSource.getMaximumPoolSize());
+        assertEquals(dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void applyPoolSize_KeepsExplicitSettings() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(7);
+        dataSource.setMinimumIdle(2);
+
+        DataSourcePoolConfig.applyPoolSize(dataSource, 20, 8, 1, 1);
+
+        assertEquals(7, dataSource.getMaximumPoolSize());
+        assertEquals(2, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void poolSize_ConfiguredSizeWins() {
+        assertEquals(20, DataSourcePoolConfig.poolSize(20, 8, 4, 3));
+    }
+
+    @Test
+    void poolSize_SplitsDatabaseBudgetAmongInstances() {
+        assertEquals(8, DataSourcePoolConfig.poolSize(0, 8, 1, 2));
+        assertEquals(4, DataSourcePoolConfig.poolSize(0, 8, 1, 4));
+        assertEquals(1, DataSourcePoolConfig.poolSize(0, 2, 0, 10));
+    }
+
+    @Test
+    void poolSize_FallsBackToHostCoresWithoutDatabaseCores() {
+        assertEquals(Runtime.getRuntime().availableProcessors() * 2, DataSourcePoolConfig.poolSize(0, 0, 0, 1));
+    }
+}
@@ -0,0 +1,49 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordConfigTest {
+
+    private final PasswordConfig passwordConfig = new PasswordConfig();
+
+    @Test
+    void passwordEncoder_MatchesLegacyHashesAndRequestsUpgrade() {
+        PasswordEncoder encoder = encoder("argon2");
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+
+        assertTrue(encoder.matches("password123", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void passwordEncoder_EncodesWithConfiguredAlgorithm() {
+        PasswordEncoder encoder = encoder("argon2");
+        String hash = encoder.encode("password123");
+
+        assertTrue(hash.startsWith("{argon2}"));
+        assertTrue(hash.length() <= 128);
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void passwordEncoder_RequestsUpgradeForLowerBCryptCost() {
+        PasswordEncoder encoder = encoder("bcrypt");
+
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+
+    @Test
+    void passwordEncoder_RejectsUnknownAlgorithm() {
+        assertThrows(IllegalStateException.class, () -> encoder("md5"));
+    }
+
+    private PasswordEncoder encoder(String algorithm) {
+        return passwordConfig.passwordEncoder(algorithm, false, 250, 5, 1024, 1, 1, 1000);
+    }
+}
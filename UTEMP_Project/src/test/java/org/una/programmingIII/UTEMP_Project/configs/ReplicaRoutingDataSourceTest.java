@@ -0,0 +1,122 @@
+package org.una.programmingIII.UTEMP_Project.configs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+    private DataSource primary;
+    private DataSource first;
+    private DataSource second;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = dataSource(primaryConnection);
+        first = dataSource(firstConnection);
+        second = dataSource(secondConnection);
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", first);
+        replicas.put("replica-2", second);
+        routing = new ReplicaRoutingDataSource(primary, replicas, 0, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.close();
+    }
+
+    @Test
+    void getConnection_WritesGoToPrimary() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+        assertSame(primaryConnection, routing.getConnection());
+        verifyNoInteractions(first, second);
+    }
+
+    @Test
+    void getConnection_ReadOnlyRoundRobinsReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstConnection, routing.getConnection());
+        assertSame(secondConnection, routing.getConnection());
+        assertSame(firstConnection, routing.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void readFromPrimary_ReadOnlyConnectionsGoToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection cached = ReplicaRoutingDataSource.readFromPrimary(this::connection);
+        Connection nested = ReplicaRoutingDataSource.readFromPrimary(
+                () -> ReplicaRoutingDataSource.readFromPrimary(this::connection));
+
+        assertSame(primaryConnection, cached);
+        assertSame(primaryConnection, nested);
+        assertSame(firstConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_FailingReplicaSkippedUntilHealthy() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(first.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertSame(secondConnection, routing.getConnection());
+        assertSame(secondConnection, routing.getConnection());
+        assertEquals(0.0, meterRegistry.get("utemp.datasource.replica.available").tag("replica", "replica-1").gauge().value());
+
+        doReturn(firstConnection).when(first).getConnection();
+        when(firstConnection.isValid(1)).thenReturn(true);
+        when(secondConnection.isValid(1)).thenReturn(true);
+        routing.checkReplicas();
+
+        assertEquals(1.0, meterRegistry.get("utemp.datasource.replica.available").tag("replica", "replica-1").gauge().value());
+        assertSame(firstConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_AllReplicasDownFallsBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstConnection.isValid(1)).thenReturn(false);
+        when(second.getConnection()).thenThrow(new IllegalStateException("pool not started"));
+
+        routing.checkReplicas();
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private Connection connection() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,201 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Pointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.security.authorization.OwnershipAuthorizationManager;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresOwnership;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndex;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OwnershipAuthorizationManagerTest {
+
+    private OwnershipIndex ownershipIndex;
+    private OwnershipAuthorizationManager authorizationManager;
+    private Pointcut pointcut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ownershipIndex = mock(OwnershipIndex.class);
+        ObjectProvider<OwnershipIndex> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(ownershipIndex);
+        authorizationManager = new OwnershipAuthorizationManager(provider);
+        pointcut = authorizationManager.pointcut();
+
+        when(ownershipIndex.teaches(1L, 10L)).thenReturn(true);
+        when(ownershipIndex.participates(1L, 10L)).thenReturn(true);
+        when(ownershipIndex.participates(2L, 10L)).thenReturn(true);
+        when(ownershipIndex.getCourseOfAssignment(20L)).thenReturn(Optional.of(10L));
+        when(ownershipIndex.getSubmissionOwner(30L)).thenReturn(Optional.of(new OwnershipIndex.SubmissionOwner(20L, 2L)));
+    }
+
+    @Test
+    void pointcut_MatchesAnnotatedMethodsOnly() throws Exception {
+        assertTrue(matches(method("course", Long.class)));
+        assertFalse(matches(method("open")));
+    }
+
+    @Test
+    void pointcut_RejectsUnknownIdParameter() throws Exception {
+        Method method = BrokenEndpoint.class.getMethod("unknown", Long.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> pointcut.getMethodMatcher().matches(method, BrokenEndpoint.class));
+    }
+
+    @Test
+    void check_CourseRequiresParticipationOrTeaching() throws Exception {
+        assertTrue(isGranted(user(2L, UserRole.STUDENT), method("course", Long.class), 10L));
+        assertFalse(isGranted(user(3L, UserRole.STUDENT), method("course", Long.class), 10L));
+        assertTrue(isGranted(user(1L, UserRole.TEACHER), method("teacherCourse", Long.class), 10L));
+        assertFalse(isGranted(user(2L, UserRole.STUDENT), method("teacherCourse", Long.class), 10L));
+    }
+
+    @Test
+    void check_AssignmentResolvesItsCourse() throws Exception {
+        assertTrue(isGranted(user(2L, UserRole.STUDENT), method("assignment", Long.class), 20L));
+        assertFalse(isGranted(user(2L, UserRole.STUDENT), method("assignment", Long.class), 21L));
+    }
+
+    @Test
+    void check_SubmissionGrantsOwnerAndCourseTeacher() throws Exception {
+        Method participant = method("submission", Long.class, String.class);
+        Method teacher = method("gradeSubmission", Long.class);
+
+        assertTrue(isGranted(user(2L, UserRole.STUDENT), participant, 30L));
+        assertTrue(isGranted(user(1L, UserRole.TEACHER), participant, 30L));
+        assertFalse(isGranted(user(4L, UserRole.STUDENT), participant, 30L));
+        assertFalse(isGranted(user(2L, UserRole.STUDENT), teacher, 30L));
+        assertTrue(isGranted(user(1L, UserRole.TEACHER), teacher, 30L));
+        assertFalse(isGranted(user(2L, UserRole.STUDENT), participant, 31L));
+    }
+
+    @Test
+    void check_NestedSubmissionMustBelongToTheAssignmentInThePath() throws Exception {
+        Method nested = method("assignmentSubmission", Long.class, Long.class);
+
+        assertTrue(isGrantedWith(user(2L, UserRole.STUDENT), nested, 20L, 30L));
+        assertFalse(isGrantedWith(user(2L, UserRole.STUDENT), nested, 21L, 30L));
+        assertFalse(isGrantedWith(user(1L, UserRole.TEACHER), nested, 21L, 30L));
+        assertFalse(isGrantedWith(user(2L, UserRole.STUDENT), nested, null, 30L));
+    }
+
+    @Test
+    void pointcut_RejectsParentOnCourses() throws Exception {
+        Method method = BrokenEndpoint.class.getMethod("courseWithParent", Long.class, Long.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> pointcut.getMethodMatcher().matches(method, BrokenEndpoint.class));
+    }
+
+    @Test
+    void check_AdminsAndAllPermissionsSkipTheIndex() throws Exception {
+        User allPermissions = User.builder().id(5L).identificationNumber("5")
+                .permissions(EnumSet.of(UserPermission.ALL_PERMISSIONS)).build();
+
+        assertTrue(isGranted(user(6L, UserRole.ADMIN), method("course", Long.class), 99L));
+        assertTrue(isGranted(authenticated(allPermissions), method("course", Long.class), 99L));
+        verifyNoInteractions(ownershipIndex);
+    }
+
+    @Test
+    void check_DeniesMissingIdAndForeignPrincipals() throws Exception {
+        Authentication foreign = new UsernamePasswordAuthenticationToken("someone", null, null);
+
+        assertFalse(isGranted(user(1L, UserRole.TEACHER), method("course", Long.class), null));
+        assertFalse(isGranted(foreign, method("course", Long.class), 10L));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return CoursesEndpoint.class.getMethod(name, parameterTypes);
+    }
+
+    private boolean matches(Method method) {
+        return pointcut.getMethodMatcher().matches(method, method.getDeclaringClass());
+    }
+
+    private boolean isGranted(Authentication authentication, Method method, Long id) {
+        Object[] arguments = new Object[method.getParameterCount()];
+        arguments[0] = id;
+        return isGrantedWith(authentication, method, arguments);
+    }
+
+    private boolean isGrantedWith(Authentication authentication, Method method, Object... arguments) {
+        matches(method);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.getArguments()).thenReturn(arguments);
+        return authorizationManager.check(() -> authentication, invocation).isGranted();
+    }
+
+    private static Authentication user(Long id, UserRole role) {
+        return authenticated(User.builder().id(id).identificationNumber(String.valueOf(id)).role(role)
+                .permissions(EnumSet.noneOf(UserPermission.class)).build());
+    }
+
+    private static Authentication authenticated(User user) {
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    static class CoursesEndpoint {
+        @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId")
+        public void course(@PathVariable("courseId") Long id) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId",
+                level = RequiresOwnership.Level.TEACHER)
+        public void teacherCourse(@PathVariable("courseId") Long id) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.ASSIGNMENT, id = "assignmentId")
+        public void assignment(@PathVariable("assignmentId") Long id) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId")
+        public void submission(@PathVariable("submissionId") Long id, String comments) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId",
+                level = RequiresOwnership.Level.TEACHER)
+        public void gradeSubmission(@PathVariable("submissionId") Long id) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.SUBMISSION, id = "submissionId",
+                parentId = "assignmentId")
+        public void assignmentSubmission(@PathVariable("assignmentId") Long assignmentId,
+                                         @PathVariable("submissionId") Long submissionId) {
+        }
+
+        public void open() {
+        }
+    }
+
+    static class BrokenEndpoint {
+        @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "missing")
+        public void unknown(@PathVariable("courseId") Long id) {
+        }
+
+        @RequiresOwnership(resource = RequiresOwnership.Resource.COURSE, id = "courseId", parentId = "facultyId")
+        public void courseWithParent(@PathVariable("facultyId") Long facultyId, @PathVariable("courseId") Long id) {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Pointcut;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.authorization.PermissionAuthorizationManager;
+import org.una.programmingIII.UTEMP_Project.security.authorization.RequiresPermission;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PermissionAuthorizationManagerTest {
+
+    private PermissionAuthorizationManager authorizationManager;
+    private Pointcut pointcut;
+
+    @BeforeEach
+    void setUp() {
+        authorizationManager = new PermissionAuthorizationManager();
+        pointcut = authorizationManager.pointcut();
+    }
+
+    @Test
+    void pointcut_MatchesMethodAndClassAnnotations() throws Exception {
+        assertTrue(matches(CoursesEndpoint.class.getMethod("manage")));
+        assertTrue(matches(CoursesEndpoint.class.getMethod("inheritsClassPermission")));
+        assertFalse(matches(PublicEndpoint.class.getMethod("open")));
+    }
+
+    @Test
+    void check_GrantsMatchingPermission() throws Exception {
+        Method method = CoursesEndpoint.class.getMethod("manage");
+        matches(method);
+
+        assertTrue(isGranted(authenticated(UserPermission.MANAGE_COURSES), method));
+        assertTrue(isGranted(authenticated(UserPermission.MANAGE_GRADES), method));
+        assertFalse(isGranted(authenticated(UserPermission.MANAGE_USERS), method));
+    }
+
+    @Test
+    void check_AllPermissionsGrantsEverything() throws Exception {
+        Method method = CoursesEndpoint.class.getMethod("inheritsClassPermission");
+        matches(method);
+
+        assertTrue(isGranted(authenticated(UserPermission.ALL_PERMISSIONS), method));
+    }
+
+    @Test
+    void check_DeniesAnonymousAndResolvesForeignPrincipals() throws Exception {
+        Method method = CoursesEndpoint.class.getMethod("inheritsClassPermission");
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+                List.of(new SimpleGrantedAuthority("MANAGE_USERS")));
+        Authentication foreign = new UsernamePasswordAuthenticationToken("someone", null,
+                List.of(new SimpleGrantedAuthority("MANAGE_USERS")));
+
+        assertFalse(isGranted(anonymous, method));
+        assertTrue(isGranted(foreign, method));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private boolean matches(Method method) {
+        return pointcut.getMethodMatcher().matches(method, method.getDeclaringClass());
+    }
+
+    private boolean isGranted(Authentication authentication, Method method) {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        return authorizationManager.check(() -> authentication, invocation).isGranted();
+    }
+
+    private static Authentication authenticated(UserPermission permission) {
+        User user = User.builder().identificationNumber("1").permissions(EnumSet.of(permission)).build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @RequiresPermission(UserPermission.MANAGE_USERS)
+    static class CoursesEndpoint {
+        @RequiresPermission({UserPermission.MANAGE_COURSES, UserPermission.MANAGE_GRADES})
+        public void manage() {
+        }
+
+        public void inheritsClassPermission() {
+        }
+    }
+
+    static class PublicEndpoint {
+        public void open() {
+        }
+    }
+}
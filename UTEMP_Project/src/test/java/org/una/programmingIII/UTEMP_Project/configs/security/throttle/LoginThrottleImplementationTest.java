@@ -0,0 +1,77 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.una.programmingIII.UTEMP_Project.exceptions.LoginThrottledException;
+import org.una.programmingIII.UTEMP_Project.security.throttle.LoginPermit;
+import org.una.programmingIII.UTEMP_Project.security.throttle.LoginThrottleImplementation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleImplementationTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottleImplementation loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 2 intentos de rafaga y 6 por minuto por usuario, 3 por IP, 1 verificacion a la vez
+        loginThrottle = new LoginThrottleImplementation(meterRegistry, clock::get, 2, 6, 3, 60, 1, 0, 1000);
+    }
+
+    @Test
+    void acquire_ThrottlesIdentityAfterBurstAndRefills() {
+        loginThrottle.acquire("111", "10.0.0.1").close();
+        loginThrottle.acquire("111", "10.0.0.2").close();
+
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire("111", "10.0.0.3"));
+        assertEquals(10, exception.getRetryAfterSeconds());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertDoesNotThrow(() -> loginThrottle.acquire("111", "10.0.0.3").close());
+        assertEquals(1.0, meterRegistry.get("utemp.auth.login.throttled").tag("reason", "identity").counter().count());
+    }
+
+    @Test
+    void acquire_ThrottlesClientIpAcrossUsers() {
+        loginThrottle.acquire("111", "10.0.0.1").close();
+        loginThrottle.acquire("222", "10.0.0.1").close();
+        loginThrottle.acquire("333", "10.0.0.1").close();
+
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("444", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginThrottle.acquire("444", "10.0.0.2").close());
+    }
+
+    @Test
+    void acquire_RejectsWhenVerificationsAreSaturated() {
+        LoginPermit permit = loginThrottle.acquire("111", "10.0.0.1");
+        assertEquals(1, loginThrottle.activeVerifications());
+
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("222", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("utemp.auth.login.throttled").tag("reason", "concurrency").counter().count());
+
+        permit.close();
+        permit.close();
+        assertEquals(0, loginThrottle.activeVerifications());
+        assertDoesNotThrow(() -> loginThrottle.acquire("222", "10.0.0.2").close());
+    }
+
+    @Test
+    void acquire_TrackedBucketsAreBoundedBySize() {
+        SimpleMeterRegistry boundedRegistry = new SimpleMeterRegistry();
+        LoginThrottleImplementation bounded = new LoginThrottleImplementation(boundedRegistry, clock::get, 2, 6, 3, 60, 1, 0, 10);
+        for (int i = 0; i < 500; i++) {
+            bounded.acquire("user" + i, "10.0.1." + i).close();
+        }
+
+        double tracked = boundedRegistry.get("utemp.auth.login.buckets").gauge().value();
+        assertTrue(tracked <= 20, "tracked buckets: " + tracked);
+    }
+}
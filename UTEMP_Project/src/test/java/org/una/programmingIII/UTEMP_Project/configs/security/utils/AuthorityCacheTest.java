@@ -0,0 +1,40 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.models.UserRole;
+import org.una.programmingIII.UTEMP_Project.security.utils.AuthorityCache;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorityCacheTest {
+
+    @Test
+    void forPermissions_ReturnsTheSameListForTheSameMask() {
+        long mask = PermissionBitset.mask(EnumSet.of(UserPermission.MANAGE_GRADES, UserPermission.GET_SUBMISSION_GRADES));
+
+        List<GrantedAuthority> authorities = AuthorityCache.forPermissions(mask);
+
+        assertSame(authorities, AuthorityCache.forPermissions(mask));
+        assertEquals(List.of("MANAGE_GRADES", "GET_SUBMISSION_GRADES"),
+                authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        assertThrows(UnsupportedOperationException.class, () -> authorities.add(authorities.getFirst()));
+    }
+
+    @Test
+    void forUser_PrependsTheRoleAndKeepsRolesApart() {
+        long mask = PermissionBitset.mask(EnumSet.of(UserPermission.MANAGE_USERS));
+
+        List<GrantedAuthority> admin = AuthorityCache.forUser(UserRole.ADMIN, mask);
+        List<GrantedAuthority> teacher = AuthorityCache.forUser(UserRole.TEACHER, mask);
+
+        assertEquals(List.of("ADMIN", "MANAGE_USERS"), admin.stream().map(GrantedAuthority::getAuthority).toList());
+        assertEquals(List.of("TEACHER", "MANAGE_USERS"), teacher.stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(AuthorityCache.forPermissions(mask), AuthorityCache.forUser(null, mask));
+    }
+}
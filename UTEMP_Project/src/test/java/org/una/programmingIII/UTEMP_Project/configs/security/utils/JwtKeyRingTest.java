@@ -0,0 +1,83 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.una.programmingIII.UTEMP_Project.security.utils.JwtKeyRing;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path keyDirectory;
+
+    @Test
+    void testEphemeralKeyWithoutDirectory() {
+        JwtKeyRing keyRing = new JwtKeyRing("", "", 300);
+
+        JwtKeyRing.SigningKey signingKey = keyRing.getSigningKey();
+
+        assertNotNull(signingKey);
+        assertNotNull(keyRing.getVerificationKey(signingKey.kid()));
+    }
+
+    @Test
+    void testLatestKidIsActiveAndOlderKeysStillVerify() throws Exception {
+        writeKeyPair("2024-01", true);
+        writeKeyPair("2024-06", true);
+
+        JwtKeyRing keyRing = new JwtKeyRing(keyDirectory.toString(), "", 300);
+
+        assertEquals("2024-06", keyRing.getSigningKey().kid());
+        assertNotNull(keyRing.getVerificationKey("2024-01"));
+        assertThrows(IllegalArgumentException.class, () -> keyRing.getVerificationKey("unknown"));
+    }
+
+    @Test
+    void testConfiguredActiveKidAndVerifyOnlyKeys() throws Exception {
+        writeKeyPair("a", true);
+        writeKeyPair("b", false);
+
+        JwtKeyRing keyRing = new JwtKeyRing(keyDirectory.toString(), "a", 300);
+
+        assertEquals("a", keyRing.getSigningKey().kid());
+        assertNotNull(keyRing.getVerificationKey("b"));
+    }
+
+    @Test
+    void testReloadPicksUpRotatedKey() throws Exception {
+        writeKeyPair("2024-01", true);
+        JwtKeyRing keyRing = new JwtKeyRing(keyDirectory.toString(), "", 300);
+
+        writeKeyPair("2024-06", true);
+        keyRing.reload();
+
+        assertEquals("2024-06", keyRing.getSigningKey().kid());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private void writeKeyPair(String kid, boolean withPrivateKey) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        writePem(kid + ".public.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        if (withPrivateKey) {
+            writePem(kid + ".private.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        }
+    }
+
+    private void writePem(String fileName, String type, byte[] der) throws Exception {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        Files.writeString(keyDirectory.resolve(fileName),
+                "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n", StandardCharsets.US_ASCII);
+    }
+}
@@ -1,11 +1,11 @@
 package org.una.programmingIII.UTEMP_Project.configs.security.utils;
 
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.una.programmingIII.UTEMP_Project.dtos.TokenDTOs.TokenResponseDTO;
@@ -13,9 +13,14 @@ import org.una.programmingIII.UTEMP_Project.exceptions.InvalidTokenException;
 import org.una.programmingIII.UTEMP_Project.exceptions.TokenExpiredException;
 import org.una.programmingIII.UTEMP_Project.models.User;
 import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.models.UserState;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.security.utils.JwtKeyRing;
 import org.una.programmingIII.UTEMP_Project.security.utils.JwtTokenProvider;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -28,13 +33,12 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
 
-    @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
     private UserRepository userRepository;
 
-    private String secretKey = "secretKey";
+    private JwtKeyRing keyRing;
     private long accessTokenValidity = 3600000; // 1 hour
     private long refreshTokenValidity = 86400000; // 1 day
 
@@ -51,9 +55,8 @@ class JwtTokenProviderTest {
         permissions.add(UserPermission.MANAGE_USERS);
         testUser.setPermissions(permissions);
 
-        jwtTokenProvider.setSecretKey(secretKey);
-        jwtTokenProvider.setAccessTokenValidity(accessTokenValidity);
-        jwtTokenProvider.setRefreshTokenValidity(refreshTokenValidity);
+        keyRing = new JwtKeyRing("", "", 300);
+        jwtTokenProvider = new JwtTokenProvider(userRepository, keyRing, accessTokenValidity, refreshTokenValidity);
     }
 
     @Test
@@ -86,6 +89,53 @@ class JwtTokenProviderTest {
         assertTrue(jwtTokenProvider.validateToken(tokenResponse.getRefreshToken(), testUser.getIdentificationNumber()));
     }
 
+    @Test
+    void testRefreshTokensInactiveUser() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken(testUser);
+        testUser.setState(UserState.SUSPENDED);
+
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.refreshTokens(refreshToken));
+    }
+
+    @Test
+    void testAccessTokenCannotBeUsedAsRefreshToken() {
+        String accessToken = jwtTokenProvider.generateAccessToken(testUser);
+
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> jwtTokenProvider.refreshTokens(accessToken));
+        assertEquals("Invalid refresh token.", exception.getMessage());
+    }
+
+    @Test
+    void testRefreshTokenDoesNotAuthenticate() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken(testUser);
+
+        assertTrue(jwtTokenProvider.getUserDetailsFromToken(refreshToken).isEmpty());
+    }
+
+    @Test
+    void testTokenSignedWithUnknownKeyIsRejected() {
+        JwtTokenProvider otherNode = new JwtTokenProvider(userRepository, new JwtKeyRing("", "", 300),
+                accessTokenValidity, refreshTokenValidity);
+        String foreignToken = otherNode.generateAccessToken(testUser);
+
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.getUserDetailsFromToken(foreignToken));
+    }
+
+    @Test
+    void testHmacTokenIsRejected() {
+        String hmacToken = Jwts.builder()
+                .setSubject(testUser.getIdentificationNumber())
+                .claim("id", testUser.getId())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(new SecretKeySpec("an-old-shared-secret-of-at-least-256-bits".getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                .compact();
+
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.getUserDetailsFromToken(hmacToken));
+    }
+
     @Test
     void testGenerateToken() {
         String accessToken = jwtTokenProvider.generateAccessToken(testUser);
@@ -107,9 +157,10 @@ class JwtTokenProviderTest {
 
         String expiredToken = Jwts.builder()
                 .setSubject(testUser.getIdentificationNumber())
-                .setIssuedAt(new Date(System.currentTimeMillis() - 100000))
-                .setExpiration(new Date(System.currentTimeMillis() - 1000))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setIssuedAt(new Date(System.currentTimeMillis() - 200000))
+                .setExpiration(new Date(System.currentTimeMillis() - 100000))
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKey().kid())
+                .signWith(keyRing.getSigningKey().key(), SignatureAlgorithm.ES256)
                 .compact();
 
         assertFalse(jwtTokenProvider.validateToken(expiredToken, testUser.getIdentificationNumber()));
@@ -119,9 +170,10 @@ class JwtTokenProviderTest {
     void testRefreshTokensExpired() {
         String expiredRefreshToken = Jwts.builder()
                 .setSubject(testUser.getIdentificationNumber())
-                .setIssuedAt(new Date(System.currentTimeMillis() - 100000))
-                .setExpiration(new Date(System.currentTimeMillis() - 1000))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setIssuedAt(new Date(System.currentTimeMillis() - 200000))
+                .setExpiration(new Date(System.currentTimeMillis() - 100000))
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKey().kid())
+                .signWith(keyRing.getSigningKey().key(), SignatureAlgorithm.ES256)
                 .compact();
 
         Exception exception = assertThrows(TokenExpiredException.class, () -> {
@@ -129,4 +181,17 @@ class JwtTokenProviderTest {
         });
         assertEquals("Refresh token has expired.", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetUserDetailsFromToken() {
+        String token = jwtTokenProvider.generateAccessToken(testUser);
+
+        Optional<CustomUserDetails> userDetails = jwtTokenProvider.getUserDetailsFromToken(token);
+
+        assertTrue(userDetails.isPresent());
+        assertEquals(testUser.getId(), userDetails.get().getUser().getId());
+        assertEquals(testUser.getIdentificationNumber(), userDetails.get().getUsername());
+        assertEquals(List.of("MANAGE_USERS"), userDetails.get().getAuthorities().stream().map(Object::toString).toList());
+        assertEquals(List.of(UserPermission.MANAGE_USERS), jwtTokenProvider.getPermissionsFromToken(token));
+    }
+}
@@ -0,0 +1,63 @@
+package org.una.programmingIII.UTEMP_Project.configs.security.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
+
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionBitsetTest {
+
+    @Test
+    void encode_RoundTripsEveryPermission() {
+        EnumSet<UserPermission> all = EnumSet.allOf(UserPermission.class);
+
+        String encoded = PermissionBitset.encode(all);
+
+        assertEquals(all, PermissionBitset.decode(encoded));
+        assertTrue(encoded.length() <= 8, "All permissions should fit in a handful of characters: " + encoded);
+    }
+
+    @Test
+    void encode_EmptyAndSingleBit() {
+        assertEquals("", PermissionBitset.encode(List.of()));
+        assertEquals(EnumSet.noneOf(UserPermission.class), PermissionBitset.decode(""));
+        assertEquals(EnumSet.of(UserPermission.MANAGE_USERS),
+                PermissionBitset.decode(PermissionBitset.encode(List.of(UserPermission.MANAGE_USERS))));
+    }
+
+    @Test
+    void toAuthorities_ReusesSharedInstances() {
+        String encoded = PermissionBitset.encode(List.of(UserPermission.MANAGE_COURSES, UserPermission.EVALUATE_SUBMISSIONS));
+
+        List<GrantedAuthority> authorities = PermissionBitset.toAuthorities(encoded);
+
+        assertEquals(List.of("MANAGE_COURSES", "EVALUATE_SUBMISSIONS"),
+                authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(PermissionBitset.authority(UserPermission.MANAGE_COURSES), authorities.getFirst());
+        assertSame(authorities.getFirst(), PermissionBitset.toAuthorities(encoded).getFirst());
+    }
+
+    @Test
+    void mask_RoundTripsAndMatchesTokenEncoding() {
+        EnumSet<UserPermission> permissions = EnumSet.of(UserPermission.ALL_PERMISSIONS, UserPermission.GET_COURSE_GRADEBOOK);
+
+        long mask = PermissionBitset.mask(permissions);
+
+        assertEquals(permissions, PermissionBitset.fromMask(mask));
+        assertEquals(mask, PermissionBitset.decodeMask(PermissionBitset.encode(permissions)));
+        assertThrows(IllegalArgumentException.class, () -> PermissionBitset.fromMask(Long.MIN_VALUE));
+    }
+
+    @Test
+    void decode_RejectsUnknownBits() {
+        String unknown = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[]{0, 0, 0, 0, 0, 0, 0, (byte) 0x80});
+
+        assertThrows(IllegalArgumentException.class, () -> PermissionBitset.decode(unknown));
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.una.programmingIII.UTEMP_Project.controllers.request.AuthRequest;
 import org.una.programmingIII.UTEMP_Project.controllers.responses.ApiResponse;
 import org.una.programmingIII.UTEMP_Project.controllers.responses.TokenResponse;
+import org.una.programmingIII.UTEMP_Project.exceptions.LoginThrottledException;
+import org.una.programmingIII.UTEMP_Project.security.throttle.LoginThrottle;
 import org.una.programmingIII.UTEMP_Project.security.utils.JwtTokenProvider;
 import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
 import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
@@ -40,6 +42,9 @@ class AuthControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     private AuthRequest authRequest;
 
     @BeforeEach
@@ -136,4 +141,16 @@ class AuthControllerTest {
         verify(jwtTokenProvider).generateAccessToken(any());
         verify(userService).getUserById(anyLong());
     }
+
+    @Test
+    void testCreateAuthenticationToken_Throttled() {
+        when(loginThrottle.acquire(eq(authRequest.getIdentificationNumber()), any()))
+                .thenThrow(new LoginThrottledException("Too many login attempts for this user", 12));
+
+        ResponseEntity<ApiResponse<TokenResponse>> response = authController.createAuthenticationToken(authRequest);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("12", response.getHeaders().getFirst("Retry-After"));
+        verify(authenticationManager, never()).authenticate(any());
+    }
 }
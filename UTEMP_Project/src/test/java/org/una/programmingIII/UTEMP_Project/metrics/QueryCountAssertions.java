@@ -0,0 +1,75 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query count assertions for tests. Around a block of code:
+ * <pre>{@code
+ * RequestQueryStatistics statistics = QueryCountAssertions.during(() -> courseService.getCoursesByDepartmentId(1L, page));
+ * QueryCountAssertions.assertStatementsAtMost(2, statistics);
+ * }</pre>
+ * and per endpoint with MockMvc, reading what {@link RequestMetricsInterceptor} left on the request:
+ * <pre>{@code
+ * mockMvc.perform(get("/utemp/courses/department/1")).andExpect(QueryCountAssertions.statementsAtMost(2));
+ * }</pre>
+ * Failures list the most repeated statement fingerprints.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    public static RequestQueryStatistics during(ThrowingRunnable action) throws Exception {
+        RequestQueryStatistics statistics = RequestQueryStatistics.begin();
+        try {
+            action.run();
+        } finally {
+            RequestQueryStatistics.end();
+        }
+        return statistics;
+    }
+
+    public static void assertStatementsAtMost(int max, RequestQueryStatistics statistics) {
+        if (statistics.getStatements() > max) {
+            fail("Expected at most " + max + " statements but " + statistics.getStatements() + " were executed: "
+                    + describe(statistics));
+        }
+    }
+
+    public static void assertRepetitionsAtMost(int max, RequestQueryStatistics statistics) {
+        if (statistics.getMaxRepetitions() > max) {
+            fail("Expected no statement prepared more than " + max + " times (N+1): " + describe(statistics));
+        }
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> assertStatementsAtMost(max, statistics(result.getRequest().getAttribute(RequestQueryStatistics.REQUEST_ATTRIBUTE)));
+    }
+
+    public static ResultMatcher repetitionsAtMost(int max) {
+        return result -> assertRepetitionsAtMost(max, statistics(result.getRequest().getAttribute(RequestQueryStatistics.REQUEST_ATTRIBUTE)));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static RequestQueryStatistics statistics(Object attribute) {
+        assertNotNull(attribute, "No query statistics on the request; was it handled by a controller with MetricsConfig loaded?");
+        return (RequestQueryStatistics) attribute;
+    }
+
+    private static String describe(RequestQueryStatistics statistics) {
+        return statistics.mostRepeated(5).stream()
+                .map(entry -> entry.getValue() + "x [" + entry.getKey() + "]")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,167 @@
+package org.una.programmingIII.UTEMP_Project.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RequestMetricsInterceptor(meterRegistry, 5, 2);
+        request = new MockHttpServletRequest("GET", "/utemp/courses");
+        response = new MockHttpServletResponse();
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("listCourses"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestQueryStatistics.end();
+    }
+
+    @Test
+    public void testAfterCompletion_RecordsStatementsOfEverySession() {
+        interceptor.preHandle(request, response, handler);
+        executeStatements(new QueryStatisticsSessionListener(), 3);
+        executeStatements(new QueryStatisticsSessionListener(), 2);
+        response.setStatus(200);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        DistributionSummary statements = meterRegistry.get(RequestMetricsInterceptor.STATEMENTS_METRIC)
+                .tag("handler", "SampleController.listCourses").tag("outcome", "SUCCESS").summary();
+        assertEquals(1, statements.count());
+        assertEquals(5.0, statements.totalAmount());
+        Timer time = meterRegistry.get(RequestMetricsInterceptor.TIME_METRIC)
+                .tag("handler", "SampleController.listCourses").timer();
+        assertEquals(1, time.count());
+        assertNull(RequestQueryStatistics.current());
+    }
+
+    @Test
+    public void testAfterCompletion_BatchCountsAsOneStatementAndOutcomeFollowsStatus() {
+        interceptor.preHandle(request, response, handler);
+        QueryStatisticsSessionListener listener = new QueryStatisticsSessionListener();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+        response.setStatus(404);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1.0, meterRegistry.get(RequestMetricsInterceptor.STATEMENTS_METRIC)
+                .tag("outcome", "CLIENT_ERROR").summary().totalAmount());
+    }
+
+    @Test
+    public void testAsyncDispatch_RecordedOnlyOnce() {
+        interceptor.preHandle(request, response, handler);
+        executeStatements(new QueryStatisticsSessionListener(), 1);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1, meterRegistry.get(RequestMetricsInterceptor.STATEMENTS_METRIC).summary().count());
+    }
+
+    @Test
+    public void testListener_OutsideRequestIgnored() {
+        executeStatements(new QueryStatisticsSessionListener(), 2);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertTrue(meterRegistry.find(RequestMetricsInterceptor.STATEMENTS_METRIC).meters().isEmpty());
+    }
+
+    @Test
+    public void testAfterCompletion_RepeatedFingerprintFlagged() {
+        interceptor.preHandle(request, response, handler);
+        StatementFingerprintInspector inspector = new StatementFingerprintInspector();
+        inspector.inspect("select d1_0.id,d1_0.name from departments d1_0 where d1_0.id=?");
+        for (int id = 1; id <= 3; id++) {
+            inspector.inspect("select u1_0.id from users u1_0 where u1_0.id=" + id);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1.0, meterRegistry.get(RequestMetricsInterceptor.FLAGGED_METRIC)
+                .tag("handler", "SampleController.listCourses").tag("reason", "repeated").counter().count());
+        RequestQueryStatistics statistics = (RequestQueryStatistics) request.getAttribute(RequestQueryStatistics.REQUEST_ATTRIBUTE);
+        assertEquals(3, statistics.getMaxRepetitions());
+        assertEquals("select u1_0.id from users u1_0 where u1_0.id=?", statistics.mostRepeated(1).getFirst().getKey());
+    }
+
+    @Test
+    public void testAfterCompletion_StatementThresholdFlagged() {
+        interceptor.preHandle(request, response, handler);
+        executeStatements(new QueryStatisticsSessionListener(), 6);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1.0, meterRegistry.get(RequestMetricsInterceptor.FLAGGED_METRIC)
+                .tag("reason", "statements").counter().count());
+    }
+
+    @Test
+    public void testAfterCompletion_UnderThresholdsNotFlagged() {
+        interceptor.preHandle(request, response, handler);
+        executeStatements(new QueryStatisticsSessionListener(), 5);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertTrue(meterRegistry.find(RequestMetricsInterceptor.FLAGGED_METRIC).meters().isEmpty());
+    }
+
+    @Test
+    public void testFingerprint_LiteralsAndInListsReplaced() {
+        assertEquals("select c1_0.id from courses c1_0 where c1_0.name=? and c1_0.id in (...) and c1_0.state=?",
+                StatementFingerprintInspector.fingerprint(
+                        "select c1_0.id from courses c1_0\n where c1_0.name='O''Brien' and c1_0.id in (?, ?, ?)  and c1_0.state=-1"));
+    }
+
+    @Test
+    public void testObservationConvention_AddsHandlerTag() {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+
+        assertTrue(new HandlerObservationConvention().getLowCardinalityKeyValues(context).stream()
+                .anyMatch(keyValue -> keyValue.equals(KeyValue.of("handler", "SampleController.listCourses"))));
+    }
+
+    @Test
+    public void testObservationConvention_NoHandlerTaggedNone() {
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+
+        assertTrue(new HandlerObservationConvention().getLowCardinalityKeyValues(context).stream()
+                .anyMatch(keyValue -> keyValue.equals(KeyValue.of("handler", "none"))));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static void executeStatements(QueryStatisticsSessionListener listener, int count) {
+        for (int i = 0; i < count; i++) {
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        }
+    }
+
+    public static class SampleController {
+        public String listCourses() {
+            return "courses";
+        }
+    }
+}
@@ -4,7 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,7 +22,7 @@ class UserTest {
                 .password("securepassword123")
                 .role(UserRole.TEACHER)
                 .state(UserState.ACTIVE)
-                .permissions(Arrays.asList(UserPermission.MANAGE_COURSES, UserPermission.ADD_TEACHER_COURSES))
+                .permissions(EnumSet.of(UserPermission.MANAGE_COURSES, UserPermission.ADD_TEACHER_COURSES))
                 .createdAt(LocalDateTime.now())
                 .lastUpdate(LocalDateTime.now())
                 .build();
@@ -95,4 +96,24 @@ class UserTest {
         assertNotNull(authorities);
         assertTrue(authorities.stream().anyMatch(a -> a.getAuthority().equals("ADMIN")));
     }
+
+    @Test
+    void testAuthoritiesAreSharedBetweenUsersWithTheSamePermissions() {
+        User other = User.builder()
+                .role(UserRole.TEACHER)
+                .permissions(EnumSet.of(UserPermission.ADD_TEACHER_COURSES, UserPermission.MANAGE_COURSES))
+                .build();
+
+        assertSame(user.getAuthorities(), other.getAuthorities());
+        assertEquals(List.of("TEACHER", "MANAGE_COURSES", "ADD_TEACHER_COURSES"),
+                user.getAuthorities().stream().map(a -> a.getAuthority()).toList());
+    }
+
+    @Test
+    void testSetPermissionsCopiesIntoEnumSet() {
+        user.setPermissions(List.of(UserPermission.MANAGE_USERS, UserPermission.MANAGE_USERS));
+
+        assertEquals(EnumSet.of(UserPermission.MANAGE_USERS), user.getPermissions());
+        assertInstanceOf(EnumSet.class, user.getPermissions());
+    }
 }
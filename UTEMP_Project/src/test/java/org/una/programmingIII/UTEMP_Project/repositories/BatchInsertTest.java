@@ -0,0 +1,92 @@
+package org.una.programmingIII.UTEMP_Project.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.una.programmingIII.UTEMP_Project.models.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Saves enough rows through the repositories to span several id blocks and JDBC batches, on an embedded PostgreSQL
+ * migrated by Flyway, and counts the statements Hibernate prepared. With IDENTITY ids every row was its own
+ * statement; with pooled sequence ids a flush needs one statement per batch plus one sequence call per block.
+ */
+@EmbeddedPostgresTest
+public class BatchInsertTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void testSaveAll_NotificationsInsertedInBatches() {
+        User user = userRepository.saveAndFlush(user("100"));
+        Statistics statistics = statistics();
+
+        List<Notification> notifications = IntStream.range(0, ROWS)
+                .mapToObj(i -> Notification.builder().user(user).message("Notification " + i)
+                        .status(NotificationStatus.UNREAD).build())
+                .toList();
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3L * blocks(ROWS),
+                () -> "Prepared " + statistics.getPrepareStatementCount() + " statements for " + ROWS + " inserts");
+        List<Long> ids = notifications.stream().map(Notification::getId).sorted().toList();
+        assertEquals(ROWS - 1, ids.getLast() - ids.getFirst());
+    }
+
+    @Test
+    public void testSaveAll_UsersTakeIdsFromPooledBlocks() {
+        Statistics statistics = statistics();
+
+        List<User> users = userRepository.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> user("2" + i))
+                .toList());
+        entityManager.flush();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3L * blocks(ROWS),
+                () -> "Prepared " + statistics.getPrepareStatementCount() + " statements for " + ROWS + " inserts");
+        assertEquals(ROWS, users.stream().map(User::getId).distinct().count());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static long blocks(int rows) {
+        return (rows + IdSequences.ALLOCATION_SIZE - 1) / IdSequences.ALLOCATION_SIZE;
+    }
+
+    private static User user(String identificationNumber) {
+        return User.builder()
+                .name("User " + identificationNumber)
+                .email(identificationNumber + "@una.cr")
+                .password("password-" + identificationNumber)
+                .identificationNumber(identificationNumber)
+                .role(UserRole.STUDENT)
+                .state(UserState.ACTIVE)
+                .permissions(EnumSet.noneOf(UserPermission.class))
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package org.una.programmingIII.UTEMP_Project.repositories;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * One embedded PostgreSQL for the repository tests. It is only imported through {@link EmbeddedPostgresTest}, so
+ * every test class that uses it has the same configuration and shares the cached Spring context and database.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfiguration {
+
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.start();
+    }
+
+    @Bean
+    DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+        return embeddedPostgres.getPostgresDatabase();
+    }
+}
@@ -0,0 +1,20 @@
+package org.una.programmingIII.UTEMP_Project.repositories;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link DataJpaTest} against the shared embedded PostgreSQL of {@link EmbeddedPostgresConfiguration}, migrated by
+ * Flyway. Test classes must not add their own configuration, or they get a separate context and database.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmbeddedPostgresConfiguration.class)
+public @interface EmbeddedPostgresTest {
+}
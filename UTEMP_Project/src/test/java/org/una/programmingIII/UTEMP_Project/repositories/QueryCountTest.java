@@ -0,0 +1,97 @@
+package org.una.programmingIII.UTEMP_Project.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.una.programmingIII.UTEMP_Project.metrics.QueryCountAssertions;
+import org.una.programmingIII.UTEMP_Project.metrics.RequestQueryStatistics;
+import org.una.programmingIII.UTEMP_Project.models.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements of the course listings on an embedded PostgreSQL, with the statement listener and
+ * inspector configured in application.properties, so a change that turns them into per-row loads fails here.
+ */
+@EmbeddedPostgresTest
+public class QueryCountTest {
+
+    private static final int DEPARTMENTS = 4;
+    private static final int COURSES_PER_DEPARTMENT = 5;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Department> departments = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        User teacher = user();
+        entityManager.persist(teacher);
+        University university = University.builder().name("Universidad Nacional").location("Heredia").build();
+        entityManager.persist(university);
+        Faculty faculty = Faculty.builder().name("Ciencias Exactas").university(university).build();
+        entityManager.persist(faculty);
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = Department.builder().name("Departamento " + d).faculty(faculty).build();
+            entityManager.persist(department);
+            departments.add(department);
+            for (int c = 0; c < COURSES_PER_DEPARTMENT; c++) {
+                entityManager.persist(Course.builder().name("Curso " + d + "-" + c).description("Curso de prueba")
+                        .teacher(teacher).department(department).state(CourseState.ACTIVE).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testFindByDepartmentIdWithTeacher_FixedStatementCount() throws Exception {
+        Long departmentId = departments.getFirst().getId();
+
+        RequestQueryStatistics statistics = QueryCountAssertions.during(() -> {
+            Page<Course> page = courseRepository.findByDepartmentIdWithTeacher(departmentId, PageRequest.of(0, 3));
+            page.forEach(course -> {
+                assertNotNull(course.getTeacher().getName());
+                assertNotNull(course.getDepartment().getName());
+            });
+        });
+
+        // Pagina, conteo y el unico departamento
+        QueryCountAssertions.assertStatementsAtMost(3, statistics);
+        QueryCountAssertions.assertRepetitionsAtMost(1, statistics);
+    }
+
+    @Test
+    public void testLazyDepartmentPerRow_DetectedAsRepeatedStatement() throws Exception {
+        RequestQueryStatistics statistics = QueryCountAssertions.during(() ->
+                courseRepository.findAll().forEach(course -> assertNotNull(course.getDepartment().getName())));
+
+        assertEquals(DEPARTMENTS, statistics.getMaxRepetitions());
+        assertThrows(AssertionError.class, () -> QueryCountAssertions.assertRepetitionsAtMost(1, statistics));
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private static User user() {
+        return User.builder()
+                .name("Teacher")
+                .email("teacher@una.cr")
+                .password("password-teacher")
+                .identificationNumber("300")
+                .role(UserRole.TEACHER)
+                .state(UserState.ACTIVE)
+                .permissions(EnumSet.noneOf(UserPermission.class))
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package org.una.programmingIII.UTEMP_Project.repositories;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.una.programmingIII.UTEMP_Project.models.UserPermission;
+import org.una.programmingIII.UTEMP_Project.security.utils.PermissionBitset;
+import org.una.programmingIII.UTEMP_Project.services.versioning.JdbcResourceStamps;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the Flyway migrations applied to the shared embedded PostgreSQL and uses EXPLAIN to verify that the indexes
+ * of V2 exist and can answer the lookups used by the repositories. Sequential scans are disabled for the session, so
+ * these checks only prove that a matching index is usable, not that the planner would choose it on production data.
+ */
+@EmbeddedPostgresTest
+public class SchemaMigrationTest {
+
+    @Autowired
+    private EmbeddedPostgres postgres;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    // Las filas se insertan en la transaccion de cada prueba y se descartan al terminar
+    @BeforeEach
+    public void insertRows() {
+        jdbc.update("INSERT INTO users (id, name, email, password, identification_number, role, created_at, last_update) " +
+                "VALUES (1, 'Teacher', 't@una.cr', 'password', '100', 'TEACHER', now(), now()), " +
+                "(2, 'Student', 's@una.cr', 'password', '200', 'STUDENT', now(), now())");
+        jdbc.update("INSERT INTO universities (id, name, created_at, last_update) VALUES (1, 'UNA', now(), now())");
+        jdbc.update("INSERT INTO faculties (id, name, university_id, created_at, last_update) VALUES (1, 'Sciences', 1, now(), now())");
+        jdbc.update("INSERT INTO departments (id, name, faculty_id, created_at, last_update) VALUES (1, 'Informatics', 1, now(), now())");
+        jdbc.update("INSERT INTO courses (id, name, description, teacher_id, department_id, created_at, last_update) " +
+                "VALUES (1, 'Programming III', 'Course', 1, 1, now(), now())");
+        jdbc.update("INSERT INTO enrollments (course_id, student_id, created_at, last_update) VALUES (1, 2, now(), now())");
+    }
+
+    @Test
+    public void testMigrations_AppliedInOrder() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertTrue(Arrays.stream(applied).noneMatch(info -> info.getState().isFailed()));
+        assertEquals(List.of("1", "2", "3", "4", "5"), Arrays.stream(applied).map(info -> info.getVersion().getVersion()).toList());
+    }
+
+    @Test
+    public void testForeignKeyLookups_HaveUsableIndexes() throws SQLException {
+        assertIndexUsable("idx_enrollments_course_id", "SELECT * FROM enrollments WHERE course_id = 1");
+        assertIndexUsable("uk_enrollments_student_course",
+                "SELECT course_id FROM enrollments WHERE student_id = 2 AND state <> 'DROPPED'");
+        assertIndexUsable("idx_submissions_assignment_id", "SELECT * FROM submissions WHERE assignment_id = 1");
+        assertIndexUsable("idx_grades_submission_id", "SELECT * FROM grades WHERE submission_id = 1");
+        assertIndexUsable("idx_notifications_user_id", "SELECT * FROM notifications WHERE user_id = 1");
+        assertIndexUsable("idx_courses_teacher_id", "SELECT id FROM courses WHERE teacher_id = 1");
+        assertIndexUsable("idx_faculties_university_id", "SELECT * FROM faculties WHERE university_id = 1");
+    }
+
+    @Test
+    public void testIdentificationNumberLookup_HasUsableIndex() throws SQLException {
+        assertIndexUsable("idx_users_identification_number", "SELECT * FROM users WHERE identification_number = '200'");
+    }
+
+    @Test
+    public void testUnreadNotifications_HavePartialIndex() throws SQLException {
+        assertIndexUsable("idx_notifications_user_unread",
+                "SELECT * FROM notifications WHERE user_id = 1 AND status = 'UNREAD' ORDER BY created_at DESC LIMIT 20");
+    }
+
+    @Test
+    public void testEnrollment_UniquePerStudentAndCourse() {
+        assertThrows(DuplicateKeyException.class, () -> jdbc.update(
+                "INSERT INTO enrollments (course_id, student_id, created_at, last_update) VALUES (1, 2, now(), now())"));
+    }
+
+    @Test
+    public void testDuplicateEnrollments_MovedAsideBeforeUniqueIndex() {
+        DataSource legacy = createDatabase("duplicates");
+        migrate(legacy, "1");
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        jdbc.update("INSERT INTO users (id, name, email, password, role, created_at, last_update) " +
+                "VALUES (1, 'Teacher', 't@una.cr', 'password', 'TEACHER', now(), now()), " +
+                "(2, 'Student', 's@una.cr', 'password', 'STUDENT', now(), now())");
+        jdbc.update("INSERT INTO universities (id, name, created_at, last_update) VALUES (1, 'UNA', now(), now())");
+        jdbc.update("INSERT INTO faculties (id, name, university_id, created_at, last_update) VALUES (1, 'Sciences', 1, now(), now())");
+        jdbc.update("INSERT INTO departments (id, name, faculty_id, created_at, last_update) VALUES (1, 'Informatics', 1, now(), now())");
+        jdbc.update("INSERT INTO courses (id, name, description, teacher_id, department_id, created_at, last_update) " +
+                "VALUES (1, 'Programming III', 'Course', 1, 1, now(), now())");
+        jdbc.update("INSERT INTO enrollments (id, course_id, student_id, state, created_at, last_update) " +
+                "VALUES (1, 1, 2, 'DROPPED', now(), now() - INTERVAL '1 day'), (2, 1, 2, 'ENROLLED', now(), now())");
+
+        migrate(legacy, null);
+
+        assertEquals(List.of(2L), jdbc.queryForList("SELECT id FROM enrollments", Long.class));
+        assertEquals(List.of(1L), jdbc.queryForList("SELECT id FROM enrollment_duplicates", Long.class));
+        assertEquals("DROPPED", jdbc.queryForObject("SELECT state FROM enrollment_duplicates WHERE id = 1", String.class));
+    }
+
+    @Test
+    public void testLegacyPermissions_CopiedIntoMaskOnBaselinedDatabase() {
+        DataSource legacy = createDatabase("legacy");
+
+        // Una base de ddl-auto=update: el esquema de V1 mas la columna de texto que usaba la version anterior
+        migrate(legacy, "1");
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        jdbc.execute("ALTER TABLE users ADD COLUMN permissions VARCHAR(800) NOT NULL DEFAULT ''");
+        jdbc.update("INSERT INTO users (id, name, email, password, role, permissions, created_at, last_update) " +
+                "VALUES (1, 'Teacher', 't@una.cr', 'password', 'TEACHER', 'GET_TEACHER_COURSES, EVALUATE_SUBMISSIONS,UNKNOWN', now(), now()), " +
+                "(2, 'Student', 's@una.cr', 'password', 'STUDENT', '', now(), now())");
+
+        migrate(legacy, null);
+
+        long teacherMask = PermissionBitset.mask(List.of(UserPermission.GET_TEACHER_COURSES, UserPermission.EVALUATE_SUBMISSIONS));
+        assertEquals(teacherMask, jdbc.queryForObject("SELECT permission_mask FROM users WHERE id = 1", Long.class));
+        assertEquals(0L, jdbc.queryForObject("SELECT permission_mask FROM users WHERE id = 2", Long.class));
+        assertDoesNotThrow(() -> jdbc.update("INSERT INTO users (name, email, password, role, permission_mask, created_at, last_update) " +
+                "VALUES ('New', 'n@una.cr', 'password', 'STUDENT', 0, now(), now())"));
+    }
+
+    @Test
+    public void testResourceVersions_BumpedOncePerCommittedTransaction() throws SQLException {
+        // Los triggers diferidos corren al confirmar: se usa una conexion propia y se borra lo que se confirma
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            JdbcTemplate committed = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            JdbcResourceStamps resourceStamps = new JdbcResourceStamps(committed);
+            long[] before = resourceStamps.read();
+
+            committed.update("INSERT INTO universities (id, name, created_at, last_update) " +
+                    "VALUES (900, 'UCR', now(), now()), (901, 'TEC', now(), now())");
+            committed.update("UPDATE universities SET location = 'San Jose' WHERE id = 900");
+            assertArrayEquals(before, resourceStamps.read());
+            connection.commit();
+            long[] afterInsert = resourceStamps.read();
+
+            committed.update("DELETE FROM universities WHERE id IN (900, 901)");
+            connection.rollback();
+            assertArrayEquals(afterInsert, resourceStamps.read());
+            committed.update("DELETE FROM universities WHERE id IN (900, 901)");
+            connection.commit();
+            long[] afterDelete = resourceStamps.read();
+
+            int university = ResourceKind.UNIVERSITY.ordinal();
+            assertEquals(before[university] + 1, afterInsert[university]);
+            assertEquals(before[university] + 2, afterDelete[university]);
+            assertEquals(before[ResourceKind.FACULTY.ordinal()], afterDelete[ResourceKind.FACULTY.ordinal()]);
+        }
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    // CREATE DATABASE no puede ir dentro de la transaccion de la prueba
+    private DataSource createDatabase(String name) {
+        JdbcTemplate admin = new JdbcTemplate(postgres.getPostgresDatabase());
+        admin.execute("DROP DATABASE IF EXISTS " + name);
+        admin.execute("CREATE DATABASE " + name);
+        return postgres.getDatabase("postgres", name);
+    }
+
+    private static void migrate(DataSource dataSource, String target) {
+        FluentConfiguration configuration = Flyway.configure().dataSource(dataSource)
+                .placeholders(Map.of("id_allocation_size", "50"));
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+
+    private void assertIndexUsable(String index, String query) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            jdbc.execute("SET enable_seqscan = off");
+            String plan = String.join("\n", jdbc.queryForList("EXPLAIN " + query, String.class));
+            jdbc.execute("RESET enable_seqscan");
+            assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+        }
+    }
+}
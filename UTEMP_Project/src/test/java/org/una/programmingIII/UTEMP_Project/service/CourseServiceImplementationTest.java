@@ -15,6 +15,7 @@ import org.una.programmingIII.UTEMP_Project.models.Course;
 import org.una.programmingIII.UTEMP_Project.models.CourseState;
 import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
 import org.una.programmingIII.UTEMP_Project.services.course.CourseServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 
 import java.util.List;
@@ -31,6 +32,9 @@ public class CourseServiceImplementationTest {
     @Mock
     private GenericMapper<Course, CourseDTO> courseMapper;
 
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
     @InjectMocks
     private CourseServiceImplementation courseService;
 
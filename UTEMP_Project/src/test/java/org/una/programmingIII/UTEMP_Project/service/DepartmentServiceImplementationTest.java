@@ -13,6 +13,7 @@ import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
 import org.una.programmingIII.UTEMP_Project.services.department.DepartmentServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 
 import java.util.List;
@@ -38,6 +39,9 @@ public class DepartmentServiceImplementationTest {
     @Mock
     private GenericMapper<Course, CourseDTO> courseMapper;
 
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
     @InjectMocks
     private DepartmentServiceImplementation departmentService;
 
@@ -0,0 +1,114 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.EnrollmentImportResultDTO.RowStatus;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.models.Course;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.EnrollmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.services.enrollment.EnrollmentImportServiceImplementation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EnrollmentImportServiceImplementationTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EnrollmentImportServiceImplementation enrollmentImportService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        enrollmentImportService = new EnrollmentImportServiceImplementation(
+                enrollmentRepository, courseRepository, userRepository, transactionManager, 2);
+
+        User ana = User.builder().id(1L).identificationNumber("111").build();
+        User luis = User.builder().id(2L).identificationNumber("222").build();
+        when(userRepository.findAllByIdentificationNumberIn(anyCollection())).thenReturn(List.of(ana, luis));
+        when(courseRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+        when(courseRepository.getReferenceById(10L)).thenReturn(new Course());
+        when(enrollmentRepository.findStudentAndCourseIds(anyCollection(), anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{2L, 10L}));
+    }
+
+    @Test
+    public void testImportEnrollments_CsvReportsEveryRow() {
+        String csv = """
+                identificationNumber,courseId
+                111,10
+                111,10
+                222,10
+                333,10
+                111,99
+                111,abc
+                """;
+
+        EnrollmentImportResultDTO result = enrollmentImportService.importEnrollments(stream(csv), "text/csv");
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getSkipped());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(RowStatus.CREATED, RowStatus.DUPLICATED_IN_FILE, RowStatus.ALREADY_ENROLLED,
+                        RowStatus.USER_NOT_FOUND, RowStatus.COURSE_NOT_FOUND, RowStatus.INVALID),
+                result.getRows().stream().map(EnrollmentImportResultDTO.RowResult::getStatus).toList());
+        verify(courseRepository, times(2)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    public void testImportEnrollments_Ndjson() {
+        String ndjson = "{\"identificationNumber\": \"111\", \"courseId\": 10}\n{not json}\n";
+
+        EnrollmentImportResultDTO result = enrollmentImportService.importEnrollments(stream(ndjson), "application/x-ndjson");
+
+        assertEquals(1, result.getCreated());
+        assertEquals(RowStatus.INVALID, result.getRows().get(1).getStatus());
+        verify(enrollmentRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    public void testImportEnrollments_RowsOfFailedChunkAreNotTreatedAsDuplicates() {
+        when(enrollmentRepository.saveAll(anyList())).thenThrow(new RuntimeException("deadlock")).thenReturn(List.of());
+        String csv = "111,10\n222,99\n111,10\n";
+
+        EnrollmentImportResultDTO result = enrollmentImportService.importEnrollments(stream(csv), "text/csv");
+
+        assertEquals(List.of(RowStatus.FAILED, RowStatus.FAILED, RowStatus.CREATED),
+                result.getRows().stream().map(EnrollmentImportResultDTO.RowResult::getStatus).toList());
+        assertEquals(1, result.getCreated());
+    }
+
+    @Test
+    public void testImportEnrollments_EmptyBody() {
+        assertThrows(InvalidDataException.class, () -> enrollmentImportService.importEnrollments(stream("\n"), "text/csv"));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
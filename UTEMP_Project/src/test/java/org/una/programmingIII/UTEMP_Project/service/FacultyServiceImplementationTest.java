@@ -16,6 +16,7 @@ import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
 import org.una.programmingIII.UTEMP_Project.services.faculty.FacultyServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 
 import java.util.Optional;
@@ -37,6 +38,9 @@ class FacultyServiceImplementationTest {
     @Mock
     private GenericMapper<Faculty, FacultyDTO> facultyMapper;
 
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
     @InjectMocks
     private FacultyServiceImplementation facultyService;
 
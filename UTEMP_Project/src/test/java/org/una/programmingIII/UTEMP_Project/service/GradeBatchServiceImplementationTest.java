@@ -0,0 +1,222 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.una.programmingIII.UTEMP_Project.controllers.request.CalificationRequest;
+import org.una.programmingIII.UTEMP_Project.dtos.GradeBatchResultDTO;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.models.*;
+import org.una.programmingIII.UTEMP_Project.repositories.GradeRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.NotificationRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.SubmissionRepository;
+import org.una.programmingIII.UTEMP_Project.services.CustomUserDetails;
+import org.una.programmingIII.UTEMP_Project.services.EmailNotificationObserver;
+import org.una.programmingIII.UTEMP_Project.services.grade.GradeBatchServiceImplementation;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GradeBatchServiceImplementationTest {
+
+    private static final CustomUserDetails TEACHER = new CustomUserDetails(
+            User.builder().id(10L).email("teacher@una.cr").role(UserRole.TEACHER).build(), 0L);
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private GradeBatchServiceImplementation gradeBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        gradeBatchService = new GradeBatchServiceImplementation(
+                gradeRepository, submissionRepository, notificationRepository, 100, 50);
+    }
+
+    @Test
+    public void testGradeSubmissions_CreatesAndUpdatesInOneBatch() {
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        Submission first = submission(1L, 20L, teacher);
+        Submission second = submission(2L, 21L, teacher);
+        Grade existing = Grade.builder().id(5L).submission(first).state(GradeState.PENDING_REVIEW).build();
+
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection())).thenReturn(List.of(first, second));
+        when(gradeRepository.findBySubmissionIdInOrderByIdDesc(anyCollection())).thenReturn(List.of(existing));
+
+        GradeBatchResultDTO result = gradeBatchService.gradeSubmissions(List.of(
+                calification(1L, 8.5), calification(2L, 9.0)), TEACHER);
+
+        assertEquals(2, result.getReceived());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getNotifiedStudents());
+        assertEquals(1, result.getNotifiedTeachers());
+        assertEquals(8.5, existing.getGrade());
+        assertEquals(GradeState.FINALIZED, existing.getState());
+        verify(submissionRepository, times(1)).findAllForGradingByIdIn(anyCollection());
+        verify(gradeRepository, times(1)).saveAll(anyList());
+        verify(notificationRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    public void testGradeSubmissions_UpdatesLatestGradeOfSubmission() {
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        Submission submission = submission(1L, 20L, teacher);
+        Grade latest = Grade.builder().id(7L).submission(submission).grade(4.0).build();
+        Grade older = Grade.builder().id(5L).submission(submission).grade(3.0).build();
+
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection())).thenReturn(List.of(submission));
+        when(gradeRepository.findBySubmissionIdInOrderByIdDesc(anyCollection())).thenReturn(List.of(latest, older));
+
+        gradeBatchService.gradeSubmissions(List.of(calification(1L, 9.5)), TEACHER);
+
+        assertEquals(9.5, latest.getGrade());
+        assertEquals(3.0, older.getGrade());
+    }
+
+    @Test
+    public void testGradeSubmissions_EmailsAreSentOnlyAfterCommit() {
+        EmailNotificationObserver observer = mock(EmailNotificationObserver.class);
+        gradeBatchService.addObserver(observer);
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(1L, 20L, teacher)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            gradeBatchService.gradeSubmissions(List.of(calification(1L, 8.0)), TEACHER);
+            verifyNoInteractions(observer);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(observer).update(eq("SUBMISSION_GRADED"), anyString(), eq("student20@una.cr"));
+        verify(observer).update(eq("GRADE_NOTIFICATION"), anyString(), eq("teacher@una.cr"));
+    }
+
+    @Test
+    public void testGradeSubmissions_RollbackSendsNoEmails() {
+        EmailNotificationObserver observer = mock(EmailNotificationObserver.class);
+        gradeBatchService.addObserver(observer);
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(1L, 20L, teacher)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            gradeBatchService.gradeSubmissions(List.of(calification(1L, 8.0)), TEACHER);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verifyNoInteractions(observer);
+    }
+
+    @Test
+    public void testGradeSubmissions_SubmissionOfAnotherTeachersCourseRejectsBatch() {
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        User otherTeacher = User.builder().id(11L).email("other@una.cr").build();
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(1L, 20L, teacher), submission(2L, 21L, otherTeacher)));
+
+        AccessDeniedException exception = assertThrows(AccessDeniedException.class, () ->
+                gradeBatchService.gradeSubmissions(List.of(calification(1L, 7.0), calification(2L, 7.0)), TEACHER));
+
+        assertTrue(exception.getMessage().contains("[2]"));
+        verify(gradeRepository, never()).saveAll(anyList());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    public void testGradeSubmissions_AdminGradesAnyCourse() {
+        CustomUserDetails admin = new CustomUserDetails(
+                User.builder().id(1L).email("admin@una.cr").role(UserRole.ADMIN).build(), 0L);
+        User otherTeacher = User.builder().id(11L).email("other@una.cr").build();
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(2L, 21L, otherTeacher)));
+
+        GradeBatchResultDTO result = gradeBatchService.gradeSubmissions(List.of(calification(2L, 7.0)), admin);
+
+        assertEquals(1, result.getCreated());
+    }
+
+    @Test
+    public void testGradeSubmissions_CourseWithoutTeacher() {
+        CustomUserDetails admin = new CustomUserDetails(
+                User.builder().id(1L).email("admin@una.cr").role(UserRole.ADMIN).build(), 0L);
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(3L, 22L, null)));
+
+        GradeBatchResultDTO result = gradeBatchService.gradeSubmissions(List.of(calification(3L, 8.0)), admin);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getNotifiedStudents());
+        assertEquals(0, result.getNotifiedTeachers());
+        assertThrows(AccessDeniedException.class, () ->
+                gradeBatchService.gradeSubmissions(List.of(calification(3L, 8.0)), TEACHER));
+    }
+
+    @Test
+    public void testGradeSubmissions_InvalidEntriesAreRejectedBeforeQuerying() {
+        InvalidDataException exception = assertThrows(InvalidDataException.class, () ->
+                gradeBatchService.gradeSubmissions(List.of(calification(1L, 11.0), calification(1L, 5.0)), TEACHER));
+
+        assertTrue(exception.getMessage().contains("Entry 0"));
+        assertTrue(exception.getMessage().contains("duplicated submission ID 1"));
+        verifyNoInteractions(submissionRepository, gradeRepository, notificationRepository);
+    }
+
+    @Test
+    public void testGradeSubmissions_UnknownSubmission() {
+        User teacher = User.builder().id(10L).email("teacher@una.cr").build();
+        when(submissionRepository.findAllForGradingByIdIn(anyCollection()))
+                .thenReturn(List.of(submission(1L, 20L, teacher)));
+
+        assertThrows(ResourceNotFoundException.class, () -> gradeBatchService.gradeSubmissions(List.of(
+                calification(1L, 7.0), calification(2L, 7.0)), TEACHER));
+        verify(gradeRepository, never()).saveAll(anyList());
+    }
+
+    private Submission submission(Long id, Long studentId, User teacher) {
+        Course course = new Course();
+        course.setTeacher(teacher);
+        Assignment assignment = new Assignment();
+        assignment.setTitle("Assignment " + id);
+        assignment.setCourse(course);
+        Submission submission = new Submission();
+        submission.setId(id);
+        submission.setAssignment(assignment);
+        submission.setStudent(User.builder().id(studentId).email("student" + studentId + "@una.cr").build());
+        return submission;
+    }
+
+    private CalificationRequest calification(Long submissionId, Double gradeValue) {
+        CalificationRequest calification = new CalificationRequest();
+        calification.setSubmissionId(submissionId);
+        calification.setGradeValue(gradeValue);
+        calification.setComments("Reviewed");
+        return calification;
+    }
+}
@@ -0,0 +1,192 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.una.programmingIII.UTEMP_Project.dtos.GradebookDTO;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.GradeRepository;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradeChangeSet;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookEntry;
+import org.una.programmingIII.UTEMP_Project.services.gradebook.GradebookServiceImplementation;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class GradebookServiceImplementationTest {
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private GradebookServiceImplementation gradebookService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        gradebookService = new GradebookServiceImplementation(gradeRepository, courseRepository, clock::get, 10, Duration.ofMinutes(10));
+
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(gradeRepository.findGradebookEntriesByCourseId(1L)).thenReturn(List.of(
+                entry(100L, 10L, 20L, 8.0),
+                entry(101L, 11L, 20L, 6.0),
+                entry(102L, 10L, 21L, 10.0)));
+    }
+
+    @Test
+    public void testGetCourseGradebook_BuildsMatrixOnce() {
+        GradebookDTO gradebook = gradebookService.getCourseGradebook(1L);
+        gradebookService.getCourseGradebook(1L);
+
+        assertEquals(3, gradebook.getGradedCount());
+        assertEquals(8.0, gradebook.getAverage());
+        assertEquals(9.0, gradebook.getStudents().getFirst().getAverage());
+        assertEquals(Arrays.asList(8.0, 10.0), gradebook.getStudents().getFirst().getGrades());
+        assertEquals(Arrays.asList(6.0, null), gradebook.getStudents().get(1).getGrades());
+        assertEquals(7.0, gradebook.getAssignments().getFirst().getAverage());
+        assertEquals(1, gradebook.getDistribution()[9]);
+        verify(gradeRepository, times(1)).findGradebookEntriesByCourseId(1L);
+    }
+
+    @Test
+    public void testApplyGradeChanges_UpdatesAndRemovesWithoutQueries() {
+        gradebookService.getCourseGradebook(1L);
+
+        GradeChangeSet changes = new GradeChangeSet();
+        changes.getUpdated().put(101L, 9.0);
+        changes.getRemoved().add(102L);
+        gradebookService.applyGradeChanges(changes);
+
+        GradebookDTO gradebook = gradebookService.getCourseGradebook(1L);
+        assertEquals(2, gradebook.getGradedCount());
+        assertEquals(8.5, gradebook.getAverage());
+        assertNull(gradebook.getAssignments().get(1).getAverage());
+        verify(gradeRepository, never()).findGradebookEntriesByIdIn(anyCollection());
+    }
+
+    @Test
+    public void testApplyGradeChanges_NewGradesAreResolvedInOneQuery() {
+        gradebookService.getCourseGradebook(1L);
+        when(gradeRepository.findGradebookEntriesByIdIn(anyCollection())).thenReturn(List.of(
+                entry(103L, 12L, 21L, 4.0),
+                new GradebookEntry(104L, 2L, 13L, "Other", 30L, "Other course", 7.0)));
+
+        GradeChangeSet changes = new GradeChangeSet();
+        changes.getPersisted().add(103L);
+        changes.getPersisted().add(104L);
+        gradebookService.applyGradeChanges(changes);
+
+        GradebookDTO gradebook = gradebookService.getCourseGradebook(1L);
+        assertEquals(4, gradebook.getGradedCount());
+        assertEquals(3, gradebook.getStudents().size());
+        assertEquals(7.0, gradebook.getAssignments().get(1).getAverage());
+        verify(gradeRepository, times(1)).findGradebookEntriesByIdIn(anyCollection());
+    }
+
+    @Test
+    public void testApplyGradeChanges_DeletingNewestGradeOfCellRestoresPreviousOne() {
+        gradebookService.getCourseGradebook(1L);
+
+        // A y luego B en la celda (estudiante 11, tarea 21), que estaba vacia
+        when(gradeRepository.findGradebookEntriesByIdIn(anyCollection())).thenReturn(List.of(entry(103L, 11L, 21L, 5.0)));
+        gradebookService.applyGradeChanges(persisted(103L));
+        when(gradeRepository.findGradebookEntriesByIdIn(anyCollection())).thenReturn(List.of(entry(104L, 11L, 21L, 9.0)));
+        gradebookService.applyGradeChanges(persisted(104L));
+        assertEquals(9.0, gradebookService.getCourseGradebook(1L).getStudents().get(1).getGrades().get(1));
+
+        // Una nota desplazada sigue indexada: se actualiza sin consultar y reaparece al borrar la visible
+        GradeChangeSet changes = new GradeChangeSet();
+        changes.getUpdated().put(103L, 6.0);
+        gradebookService.applyGradeChanges(changes);
+        GradeChangeSet removal = new GradeChangeSet();
+        removal.getRemoved().add(104L);
+        gradebookService.applyGradeChanges(removal);
+
+        GradebookDTO gradebook = gradebookService.getCourseGradebook(1L);
+        assertEquals(Arrays.asList(6.0, 6.0), gradebook.getStudents().get(1).getGrades());
+        assertEquals(4, gradebook.getGradedCount());
+        assertEquals(8.0, gradebook.getAssignments().get(1).getAverage());
+        verify(gradeRepository, times(2)).findGradebookEntriesByIdIn(anyCollection());
+    }
+
+    @Test
+    public void testApplyGradeChanges_OlderGradeDoesNotReplaceNewerOne() {
+        gradebookService.getCourseGradebook(1L);
+        when(gradeRepository.findGradebookEntriesByIdIn(anyCollection())).thenReturn(List.of(entry(99L, 10L, 20L, 2.0)));
+
+        gradebookService.applyGradeChanges(persisted(99L));
+
+        GradebookDTO gradebook = gradebookService.getCourseGradebook(1L);
+        assertEquals(8.0, gradebook.getStudents().getFirst().getGrades().getFirst());
+        assertEquals(3, gradebook.getGradedCount());
+    }
+
+    @Test
+    public void testGetCourseGradebook_ReloadsAfterExpiry() {
+        gradebookService.getCourseGradebook(1L);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+        gradebookService.getCourseGradebook(1L);
+
+        verify(gradeRepository, times(2)).findGradebookEntriesByCourseId(1L);
+    }
+
+    @Test
+    public void testEvictStudent_OnlyWhenTheShownNameChanged() {
+        gradebookService.getCourseGradebook(1L);
+
+        gradebookService.evictStudent(10L, "Student 10");
+        gradebookService.getCourseGradebook(1L);
+        verify(gradeRepository, times(1)).findGradebookEntriesByCourseId(1L);
+
+        gradebookService.evictStudent(10L, "Renamed");
+        gradebookService.getCourseGradebook(1L);
+        verify(gradeRepository, times(2)).findGradebookEntriesByCourseId(1L);
+    }
+
+    @Test
+    public void testEvictAssignment_TitleChangeOrMoveDropsTheGradebook() {
+        gradebookService.getCourseGradebook(1L);
+
+        gradebookService.evictAssignment(20L, 1L, "Assignment 20");
+        gradebookService.getCourseGradebook(1L);
+        verify(gradeRepository, times(1)).findGradebookEntriesByCourseId(1L);
+
+        gradebookService.evictAssignment(20L, 1L, "Renamed");
+        gradebookService.getCourseGradebook(1L);
+        verify(gradeRepository, times(2)).findGradebookEntriesByCourseId(1L);
+
+        gradebookService.evictAssignment(21L, 2L, "Assignment 21");
+        gradebookService.getCourseGradebook(1L);
+        verify(gradeRepository, times(3)).findGradebookEntriesByCourseId(1L);
+    }
+
+    @Test
+    public void testGetCourseGradebook_CourseNotFound() {
+        when(courseRepository.existsById(2L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> gradebookService.getCourseGradebook(2L));
+    }
+
+    private GradeChangeSet persisted(Long gradeId) {
+        GradeChangeSet changes = new GradeChangeSet();
+        changes.getPersisted().add(gradeId);
+        return changes;
+    }
+
+    private GradebookEntry entry(Long gradeId, Long studentId, Long assignmentId, Double grade) {
+        return new GradebookEntry(gradeId, 1L, studentId, "Student " + studentId, assignmentId, "Assignment " + assignmentId, grade);
+    }
+}
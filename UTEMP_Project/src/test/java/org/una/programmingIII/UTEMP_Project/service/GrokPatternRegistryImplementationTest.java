@@ -0,0 +1,89 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokCaptures;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternRegistryImplementation;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GrokPatternRegistryImplementationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testBuiltInSets_AreLoaded() {
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation("", false);
+        registry.initialize();
+
+        assertTrue(registry.getPatternSetNames().contains("auto-review-comment"));
+        assertEquals(6, registry.getPatternSet("review-code").getExpressions().size());
+    }
+
+    @Test
+    public void testMatch_ReturnsNamedCaptures() {
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation("", false);
+        registry.initialize();
+
+        GrokCaptures captures = registry.getPatternSet("auto-review-comment").get("comment").match("7.0 : Good work.");
+
+        assertTrue(captures.isMatched());
+        assertEquals("7.0", captures.get("grade"));
+        assertEquals("Good work.", captures.get("message"));
+        assertFalse(registry.getPatternSet("auto-review-comment").get("comment").match("no grade").isMatched());
+    }
+
+    @Test
+    public void testDirectorySets_OverrideAndReload() throws IOException {
+        Files.writeString(tempDir.resolve("review-code.grok"), "MARKER \\bNOPE\\b\nnope %{MARKER}\n");
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation(tempDir.toString(), false);
+        registry.initialize();
+
+        GrokPatternSet overridden = registry.getPatternSet("review-code");
+        assertEquals(1, overridden.getExpressions().size());
+        assertTrue(overridden.get("nope").matches("NOPE here"));
+
+        Files.writeString(tempDir.resolve("review-code.grok"), "broken %{UNCLOSED\n");
+        registry.reload();
+
+        assertSame(overridden, registry.getPatternSet("review-code"));
+    }
+
+    @Test
+    public void testRuleAttributes_AreParsedFromTheRuleName() throws IOException {
+        Files.writeString(tempDir.resolve("custom.grok"),
+                "MARKER \\bNOPE\\b\nnope;category=TONE;weight=4.0 %{MARKER}\nplain %{MARKER}\n");
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation(tempDir.toString(), false);
+        registry.initialize();
+
+        GrokPatternSet custom = registry.getPatternSet("custom");
+        assertEquals("TONE", custom.get("nope").getAttribute("category"));
+        assertEquals("4.0", custom.get("nope").getAttribute("weight"));
+        assertNull(custom.get("plain").getAttribute("category"));
+        assertTrue(custom.get("nope").matches("NOPE here"));
+    }
+
+    @Test
+    public void testRuleAttributes_MalformedAttributeRejectsTheSet() throws IOException {
+        Files.writeString(tempDir.resolve("custom.grok"), "nope;weight %{WORD}\n");
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation(tempDir.toString(), false);
+        registry.initialize();
+
+        assertFalse(registry.getPatternSetNames().contains("custom"));
+    }
+
+    @Test
+    public void testGetPatternSet_UnknownName() {
+        GrokPatternRegistryImplementation registry = new GrokPatternRegistryImplementation("", false);
+        registry.initialize();
+
+        assertThrows(InvalidDataException.class, () -> registry.getPatternSet("missing"));
+    }
+}
@@ -0,0 +1,99 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.GrokReviewEngine;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.LanguageToolReviewEngine;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewDocument;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewEngineRegistry;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.ReviewResult;
+import org.una.programmingIII.UTEMP_Project.services.grok.GrokPatternRegistryImplementation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GrokReviewEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GrokReviewEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        GrokPatternRegistryImplementation grokPatternRegistry = new GrokPatternRegistryImplementation("", false);
+        grokPatternRegistry.initialize();
+        engine = new GrokReviewEngine(Runnable::run, null, grokPatternRegistry, 1024 * 1024);
+    }
+
+    @Test
+    public void testSupports_CodeAndLogFiles() {
+        assertTrue(engine.supports(document("Main.java", tempDir.resolve("Main.java"))));
+        assertTrue(engine.supports(document("server.log", tempDir.resolve("server.log"))));
+        assertFalse(engine.supports(document("essay.txt", tempDir.resolve("essay.txt"))));
+    }
+
+    @Test
+    public void testRegistry_PlainTextCodeGoesToGrokRegardlessOfRegistrationOrder() {
+        LanguageToolReviewEngine languageTool = new LanguageToolReviewEngine(
+                Runnable::run, null, null, 1024 * 1024, "en-US", 8, 1.0, 1.5);
+        ReviewEngineRegistry registry = new ReviewEngineRegistry(List.of(languageTool, engine));
+
+        assertSame(engine, registry.resolve(document("Main.java", tempDir.resolve("Main.java"))));
+        assertSame(languageTool, registry.resolve(document("essay.txt", tempDir.resolve("essay.txt"))));
+        assertSame(languageTool, registry.resolve(document("README", tempDir.resolve("README"))));
+    }
+
+    @Test
+    public void testReview_CleanFileGetsMaxGrade() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("Clean.java"), "class Clean {\n    int value;\n}\n");
+
+        ReviewResult result = engine.review(document("Clean.java", file));
+
+        assertEquals(10.0, result.getGrade());
+        assertEquals(0, result.getFindings());
+        assertTrue(result.getStageMillis().containsKey("read"));
+        assertTrue(result.getStageMillis().containsKey("check"));
+    }
+
+    @Test
+    public void testReview_FindingsLowerTheGrade() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("Dirty.java"),
+                "class Dirty {\n    // TODO finish\n    void run() { System.out.println(\"x\"); }   \n}\n");
+
+        ReviewResult result = engine.review(document("Dirty.java", file));
+
+        assertTrue(result.getGrade() < 10.0);
+        assertEquals(3, result.getFindings());
+    }
+
+    @Test
+    public void testReview_ReloadedRuleUsesItsOwnCategoryAndWeight() throws IOException {
+        Path rules = Files.createDirectory(tempDir.resolve("rules"));
+        Files.writeString(rules.resolve("review-code.grok"), "MARKER \\bNOPE\\b\nnope;category=TONE;weight=4.0 %{MARKER}\n");
+        GrokPatternRegistryImplementation grokPatternRegistry = new GrokPatternRegistryImplementation(rules.toString(), false);
+        grokPatternRegistry.initialize();
+        GrokReviewEngine reloaded = new GrokReviewEngine(Runnable::run, null, grokPatternRegistry, 1024 * 1024);
+        Path file = Files.writeString(tempDir.resolve("notes.log"), "NOPE\n" + "fine\n".repeat(99));
+
+        ReviewResult result = reloaded.review(document("notes.log", file));
+
+        // 1 hallazgo de peso 4 en 100 lineas: 10 - 4 * 0.5
+        assertEquals(8.0, result.getGrade(), 1e-9);
+        assertTrue(result.getSummary().contains("TONE"));
+    }
+
+    private ReviewDocument document(String fileName, Path path) {
+        return ReviewDocument.builder()
+                .fileId(1L)
+                .fileName(fileName)
+                .fileType("text/plain")
+                .path(path)
+                .build();
+    }
+}
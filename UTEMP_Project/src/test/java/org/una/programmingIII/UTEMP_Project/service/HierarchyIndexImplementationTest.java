@@ -0,0 +1,140 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.una.programmingIII.UTEMP_Project.dtos.HierarchyNodeDTO;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.DepartmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndexImplementation;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyLevel;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyNode;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchySnapshot;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionService;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+public class HierarchyIndexImplementationTest {
+
+    @Mock
+    private UniversityRepository universityRepository;
+
+    @Mock
+    private FacultyRepository facultyRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    private final AtomicLong version = new AtomicLong(100);
+    private HierarchyIndexImplementation hierarchyIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        hierarchyIndex = new HierarchyIndexImplementation(universityRepository, facultyRepository,
+                departmentRepository, courseRepository, resourceVersionService);
+
+        when(resourceVersionService.getCurrentVersion(anySet())).thenAnswer(invocation -> version.get());
+
+        when(universityRepository.findHierarchyRows()).thenReturn(List.of(
+                new Object[]{1L, "UNA"}, new Object[]{2L, "TEC"}));
+        when(facultyRepository.findHierarchyRows()).thenReturn(List.of(
+                new Object[]{10L, "Sciences", 1L}, new Object[]{11L, "Arts", 1L}, new Object[]{12L, "Lost", 99L}));
+        when(departmentRepository.findHierarchyRows()).thenReturn(List.<Object[]>of(
+                new Object[]{20L, "Informatics", 10L}));
+        when(courseRepository.findHierarchyRows()).thenReturn(List.of(
+                new Object[]{31L, "Programming III", 20L}, new Object[]{30L, "Databases", 20L}));
+    }
+
+    @Test
+    public void testGetSnapshot_BuildsSortedTreeOnce() {
+        HierarchySnapshot snapshot = hierarchyIndex.getSnapshot();
+        hierarchyIndex.getSnapshot();
+
+        List<HierarchyNodeDTO> tree = snapshot.getTree();
+        assertEquals(List.of("TEC", "UNA"), tree.stream().map(HierarchyNodeDTO::getName).toList());
+        HierarchyNodeDTO una = tree.get(1);
+        assertEquals(List.of("Arts", "Sciences"), una.getChildren().stream().map(HierarchyNodeDTO::getName).toList());
+        assertEquals(List.of(30L, 31L), una.getChildren().get(1).getChildren().getFirst().getChildren().stream()
+                .map(HierarchyNodeDTO::getId).toList());
+        verify(courseRepository, times(1)).findHierarchyRows();
+    }
+
+    @Test
+    public void testSnapshot_ParentAndChildLookups() {
+        HierarchySnapshot snapshot = hierarchyIndex.getSnapshot();
+
+        assertEquals(20L, snapshot.getParent(HierarchyLevel.COURSE, 30L).map(HierarchyNode::id).orElseThrow());
+        assertEquals(List.of(30L, 31L), snapshot.getChildren(HierarchyLevel.DEPARTMENT, 20L).stream()
+                .map(HierarchyNode::id).toList());
+        assertTrue(snapshot.getParent(HierarchyLevel.FACULTY, 12L).isEmpty());
+        assertTrue(snapshot.getNode(HierarchyLevel.FACULTY, 12L).isPresent());
+        assertTrue(snapshot.getChildren(HierarchyLevel.COURSE, 30L).isEmpty());
+    }
+
+    @Test
+    public void testGetSnapshot_ReloadsWhenSharedVersionMoves() {
+        HierarchySnapshot before = hierarchyIndex.getSnapshot();
+        when(courseRepository.findHierarchyRows()).thenReturn(List.<Object[]>of(new Object[]{32L, "Networks", 20L}));
+
+        // Cambio confirmado por otra instancia: solo se mueven los sellos compartidos
+        version.set(101);
+        HierarchySnapshot after = hierarchyIndex.getSnapshot();
+
+        assertNotSame(before, after);
+        assertEquals(100, before.getVersion());
+        assertEquals(101, after.getVersion());
+        assertEquals(2, before.size(HierarchyLevel.COURSE));
+        assertEquals(List.of(32L), after.getNode(HierarchyLevel.DEPARTMENT, 20L).orElseThrow().childIds());
+        verify(resourceVersionService, atLeastOnce()).getCurrentVersion(
+                Set.of(ResourceKind.UNIVERSITY, ResourceKind.FACULTY, ResourceKind.DEPARTMENT, ResourceKind.COURSE));
+    }
+
+    @Test
+    public void testMarkChanged_DefersReloadToNextRead() {
+        hierarchyIndex.getSnapshot();
+
+        hierarchyIndex.markChanged();
+        verify(courseRepository, times(1)).findHierarchyRows();
+
+        hierarchyIndex.getSnapshot();
+        hierarchyIndex.getSnapshot();
+        verify(courseRepository, times(2)).findHierarchyRows();
+    }
+
+    @Test
+    public void testGetSnapshot_KeepsTreeWhenStampsCannotBeRead() {
+        HierarchySnapshot before = hierarchyIndex.getSnapshot();
+
+        version.set(-1);
+
+        assertSame(before, hierarchyIndex.getSnapshot());
+        verify(courseRepository, times(1)).findHierarchyRows();
+    }
+
+    @Test
+    public void testReload_FailureKeepsPreviousSnapshot() {
+        HierarchySnapshot before = hierarchyIndex.getSnapshot();
+        when(universityRepository.findHierarchyRows()).thenThrow(new RuntimeException("database down"));
+
+        hierarchyIndex.reload();
+
+        assertSame(before, hierarchyIndex.getSnapshot());
+    }
+}
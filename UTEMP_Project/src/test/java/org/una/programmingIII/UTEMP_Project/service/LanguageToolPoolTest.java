@@ -0,0 +1,97 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.languagetool.JLanguageTool;
+import org.una.programmingIII.UTEMP_Project.exceptions.CustomServiceException;
+import org.una.programmingIII.UTEMP_Project.services.autoReview.engine.LanguageToolPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LanguageToolPoolTest {
+
+    private static final String LANGUAGE = "en-US";
+
+    private final List<JLanguageTool> createdInstances = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void withChecker_ReusesReleasedInstance() {
+        LanguageToolPool pool = pool(1, 50);
+
+        JLanguageTool first = pool.withChecker(LANGUAGE, languageTool -> languageTool);
+        JLanguageTool second = pool.withChecker(LANGUAGE, languageTool -> languageTool);
+
+        assertSame(first, second);
+        assertEquals(1, createdInstances.size());
+        assertEquals(1.0, gauge("utemp.languagetool.pool.idle"));
+    }
+
+    @Test
+    void withChecker_TimesOutWhenPoolIsExhausted() {
+        LanguageToolPool pool = pool(1, 50);
+
+        CustomServiceException exception = assertThrows(CustomServiceException.class,
+                () -> pool.withChecker(LANGUAGE, outer -> pool.withChecker(LANGUAGE, inner -> inner)));
+
+        assertTrue(exception.getMessage().contains("No grammar checker available"));
+        assertEquals(1, createdInstances.size());
+    }
+
+    @Test
+    void withChecker_ReleasesInstanceWhenTaskFails() {
+        LanguageToolPool pool = pool(1, 50);
+
+        assertThrows(CustomServiceException.class, () -> pool.withChecker(LANGUAGE, languageTool -> {
+            throw new IOException("boom");
+        }));
+
+        assertDoesNotThrow(() -> pool.withChecker(LANGUAGE, languageTool -> languageTool));
+        assertEquals(1, createdInstances.size());
+    }
+
+    @Test
+    void warmUp_FailedInstanceReturnsItsSlot() throws IOException {
+        JLanguageTool broken = mock(JLanguageTool.class);
+        when(broken.check(anyString())).thenThrow(new IOException("missing dictionary"));
+        LanguageToolPool pool = new LanguageToolPool(meterRegistry, 1, 50, List.of(LANGUAGE), languageCode -> {
+            JLanguageTool languageTool = createdInstances.isEmpty() ? broken : mock(JLanguageTool.class);
+            createdInstances.add(languageTool);
+            return languageTool;
+        });
+
+        pool.warmUp();
+        assertEquals(0.0, gauge("utemp.languagetool.pool.created"));
+
+        JLanguageTool borrowed = pool.withChecker(LANGUAGE, languageTool -> languageTool);
+        assertNotSame(broken, borrowed);
+        assertEquals(2, createdInstances.size());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private LanguageToolPool pool(int poolSize, long borrowTimeoutMillis) {
+        return new LanguageToolPool(meterRegistry, poolSize, borrowTimeoutMillis, List.of(LANGUAGE), languageCode -> {
+            JLanguageTool languageTool = mock(JLanguageTool.class);
+            createdInstances.add(languageTool);
+            return languageTool;
+        });
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("language", LANGUAGE).gauge().value();
+    }
+}
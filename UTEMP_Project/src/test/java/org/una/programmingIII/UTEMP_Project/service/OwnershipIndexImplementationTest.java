@@ -0,0 +1,116 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.una.programmingIII.UTEMP_Project.models.EnrollmentState;
+import org.una.programmingIII.UTEMP_Project.repositories.AssignmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.CourseRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.EnrollmentRepository;
+import org.una.programmingIII.UTEMP_Project.repositories.SubmissionRepository;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndex;
+import org.una.programmingIII.UTEMP_Project.services.ownership.OwnershipIndexImplementation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class OwnershipIndexImplementationTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private OwnershipIndexImplementation ownershipIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ownershipIndex = new OwnershipIndexImplementation(courseRepository, enrollmentRepository,
+                assignmentRepository, submissionRepository, null, now::get, 60, 100, 100);
+
+        when(courseRepository.findIdsByTeacherId(1L)).thenReturn(List.of(10L));
+        when(enrollmentRepository.findCourseIdsByStudentId(1L, EnrollmentState.DROPPED)).thenReturn(List.of(11L));
+    }
+
+    @Test
+    public void testMembership_LoadedOncePerUser() {
+        assertTrue(ownershipIndex.teaches(1L, 10L));
+        assertFalse(ownershipIndex.teaches(1L, 11L));
+        assertTrue(ownershipIndex.participates(1L, 11L));
+        assertFalse(ownershipIndex.participates(1L, 12L));
+
+        verify(courseRepository, times(1)).findIdsByTeacherId(1L);
+        verify(enrollmentRepository, times(1)).findCourseIdsByStudentId(1L, EnrollmentState.DROPPED);
+    }
+
+    @Test
+    public void testMembership_ReloadedAfterInvalidationAndTtl() {
+        ownershipIndex.participates(1L, 11L);
+        ownershipIndex.invalidateUser(1L);
+        ownershipIndex.participates(1L, 11L);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        ownershipIndex.participates(1L, 11L);
+        ownershipIndex.invalidateAllUsers();
+        ownershipIndex.participates(1L, 11L);
+
+        verify(courseRepository, times(4)).findIdsByTeacherId(1L);
+    }
+
+    @Test
+    public void testInvalidateCourse_DropsOnlyUsersOfThatCourse() {
+        when(courseRepository.findIdsByTeacherId(2L)).thenReturn(List.of());
+        when(enrollmentRepository.findCourseIdsByStudentId(2L, EnrollmentState.DROPPED)).thenReturn(List.of(10L));
+        when(courseRepository.findIdsByTeacherId(3L)).thenReturn(List.of());
+        when(enrollmentRepository.findCourseIdsByStudentId(3L, EnrollmentState.DROPPED)).thenReturn(List.of(12L));
+        when(courseRepository.findIdsByTeacherId(4L)).thenReturn(List.of());
+        when(enrollmentRepository.findCourseIdsByStudentId(4L, EnrollmentState.DROPPED)).thenReturn(List.of());
+
+        for (long userId = 1L; userId <= 4L; userId++) {
+            ownershipIndex.participates(userId, 10L);
+        }
+        // Curso 10 reasignado al usuario 4: caen el docente anterior (1), el matriculado (2) y el nuevo docente (4)
+        ownershipIndex.invalidateCourse(10L, 4L);
+        for (long userId = 1L; userId <= 4L; userId++) {
+            ownershipIndex.participates(userId, 10L);
+        }
+
+        verify(courseRepository, times(2)).findIdsByTeacherId(1L);
+        verify(courseRepository, times(2)).findIdsByTeacherId(2L);
+        verify(courseRepository, times(1)).findIdsByTeacherId(3L);
+        verify(courseRepository, times(2)).findIdsByTeacherId(4L);
+    }
+
+    @Test
+    public void testResources_CachedUntilInvalidatedAndMissesNotStored() {
+        when(assignmentRepository.findCourseIdById(20L)).thenReturn(Optional.of(10L));
+        when(submissionRepository.findAssignmentAndStudentIds(30L)).thenReturn(List.<Object[]>of(new Object[]{20L, 2L}));
+
+        assertEquals(Optional.of(10L), ownershipIndex.getCourseOfAssignment(20L));
+        assertEquals(Optional.of(10L), ownershipIndex.getCourseOfAssignment(20L));
+        assertEquals(Optional.of(new OwnershipIndex.SubmissionOwner(20L, 2L)), ownershipIndex.getSubmissionOwner(30L));
+        assertEquals(Optional.of(new OwnershipIndex.SubmissionOwner(20L, 2L)), ownershipIndex.getSubmissionOwner(30L));
+        assertTrue(ownershipIndex.getSubmissionOwner(31L).isEmpty());
+        assertTrue(ownershipIndex.getSubmissionOwner(31L).isEmpty());
+        ownershipIndex.invalidateAssignment(20L);
+        ownershipIndex.getCourseOfAssignment(20L);
+
+        verify(assignmentRepository, times(2)).findCourseIdById(20L);
+        verify(submissionRepository, times(1)).findAssignmentAndStudentIds(30L);
+        verify(submissionRepository, times(2)).findAssignmentAndStudentIds(31L);
+    }
+}
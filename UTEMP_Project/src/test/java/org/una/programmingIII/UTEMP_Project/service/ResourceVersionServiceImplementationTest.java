@@ -0,0 +1,176 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.una.programmingIII.UTEMP_Project.dtos.UniversityDTO;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceKind;
+import org.una.programmingIII.UTEMP_Project.services.versioning.ResourceVersionServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.utils.ConditionalResponses;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceVersionServiceImplementationTest {
+
+    // Sellos de la base compartida y reloj en milisegundos
+    private final long[] stamps = new long[ResourceKind.values().length];
+    private final AtomicLong clock = new AtomicLong(1000);
+    private AtomicInteger stampReads;
+    private ResourceVersionServiceImplementation resourceVersionService;
+    private AtomicInteger loads;
+    private UniversityDTO university;
+
+    @BeforeEach
+    public void setUp() {
+        stampReads = new AtomicInteger();
+        resourceVersionService = newInstance();
+        loads = new AtomicInteger();
+        university = UniversityDTO.builder().id(1L).name("UNA").lastUpdate(LocalDateTime.of(2024, 1, 1, 0, 0)).build();
+    }
+
+    @Test
+    public void testGetResource_NotModifiedWithoutLoading() {
+        ResponseEntity<UniversityDTO> first = getUniversity(null);
+        String eTag = first.getHeaders().getETag();
+        ResponseEntity<UniversityDTO> second = getUniversity("W/" + eTag);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("max-age=60, private", first.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(eTag, second.getHeaders().getETag());
+        assertNull(second.getBody());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testGetResource_ChangeInEmbeddedKindChangesETag() {
+        String eTag = getUniversity(null).getHeaders().getETag();
+        write(ResourceKind.SUBMISSION);
+        ResponseEntity<UniversityDTO> afterChange = getUniversity(eTag);
+
+        assertEquals(HttpStatus.OK, afterChange.getStatusCode());
+        assertNotEquals(eTag, afterChange.getHeaders().getETag());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGetCurrentVersion_SetOfKindsIndependentOfIterationOrder() {
+        stamps[ResourceKind.FACULTY.ordinal()] = 3;
+        stamps[ResourceKind.COURSE.ordinal()] = 7;
+
+        long version = resourceVersionService.getCurrentVersion(EnumSet.of(ResourceKind.FACULTY, ResourceKind.COURSE));
+
+        assertEquals(version, resourceVersionService.getCurrentVersion(new LinkedHashSet<>(
+                List.of(ResourceKind.COURSE, ResourceKind.FACULTY))));
+        write(ResourceKind.SUBMISSION);
+        assertEquals(version, resourceVersionService.getCurrentVersion(Set.of(ResourceKind.FACULTY, ResourceKind.COURSE)));
+        write(ResourceKind.COURSE);
+        assertNotEquals(version, resourceVersionService.getCurrentVersion(Set.of(ResourceKind.FACULTY, ResourceKind.COURSE)));
+    }
+
+    @Test
+    public void testGetCollection_VersionedByDependencies() {
+        String courses = resourceVersionService.getCollectionETag(ResourceKind.COURSE);
+        write(ResourceKind.UNIVERSITY);
+        assertEquals(courses, resourceVersionService.getCollectionETag(ResourceKind.COURSE));
+
+        write(ResourceKind.ENROLLMENT);
+        assertNotEquals(courses, resourceVersionService.getCollectionETag(ResourceKind.COURSE));
+        assertEquals("no-cache, private", resourceVersionService.getCacheControl(ResourceKind.COURSE).getHeaderValue());
+
+        String current = resourceVersionService.getCollectionETag(ResourceKind.COURSE);
+        ResponseEntity<String> response = ConditionalResponses.getCollection(resourceVersionService, ResourceKind.COURSE,
+                "\"other\", " + current, () -> fail("Loader must not run"));
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
+
+    @Test
+    public void testRecordETag_NotCachedWhenVersionMovedDuringLoad() {
+        long version = resourceVersionService.getCurrentVersion(ResourceKind.UNIVERSITY);
+        write(ResourceKind.FACULTY);
+        resourceVersionService.recordETag(ResourceKind.UNIVERSITY, 1L, university.getLastUpdate(), version);
+
+        assertTrue(resourceVersionService.getCachedETag(ResourceKind.UNIVERSITY, 1L).isEmpty());
+    }
+
+    @Test
+    public void testWriteOnAnotherInstance_StopsMatchingAfterRefreshInterval() {
+        ResourceVersionServiceImplementation otherInstance = newInstance();
+        String eTag = getUniversity(null).getHeaders().getETag();
+        // Con los mismos datos todas las instancias emiten el mismo ETag
+        assertEquals(eTag, otherInstance.recordETag(ResourceKind.UNIVERSITY, 1L, university.getLastUpdate(),
+                otherInstance.getCurrentVersion(ResourceKind.UNIVERSITY)));
+
+        // La otra instancia escribe: esta no recibe recordChange y solo lo ve al releer los sellos
+        stamps[ResourceKind.COURSE.ordinal()]++;
+        otherInstance.recordChange(ResourceKind.COURSE);
+        assertEquals(HttpStatus.NOT_MODIFIED, getUniversity(eTag).getStatusCode());
+
+        clock.addAndGet(1000);
+        ResponseEntity<UniversityDTO> afterRefresh = getUniversity(eTag);
+        assertEquals(HttpStatus.OK, afterRefresh.getStatusCode());
+        assertNotEquals(eTag, afterRefresh.getHeaders().getETag());
+    }
+
+    @Test
+    public void testStampsAreReadOncePerInterval() {
+        for (int i = 0; i < 10; i++) {
+            resourceVersionService.getCollectionETag(ResourceKind.COURSE);
+        }
+        assertEquals(1, stampReads.get());
+
+        resourceVersionService.recordChange(ResourceKind.COURSE);
+        resourceVersionService.getCollectionETag(ResourceKind.COURSE);
+        assertEquals(2, stampReads.get());
+    }
+
+    @Test
+    public void testUnreadableStamps_NeverAnswerNotModified() {
+        ResourceVersionServiceImplementation failing = new ResourceVersionServiceImplementation(() -> {
+            throw new IllegalStateException("database down");
+        }, clock::get, 1000, 60, 0, 100);
+
+        String eTag = failing.getCollectionETag(ResourceKind.COURSE);
+        assertNotEquals(eTag, failing.getCollectionETag(ResourceKind.COURSE));
+    }
+
+    @Test
+    public void testGetResource_MissingResourceIsNotFound() {
+        ResponseEntity<UniversityDTO> response = ConditionalResponses.getResource(resourceVersionService,
+                ResourceKind.UNIVERSITY, 2L, "*", Optional::empty, UniversityDTO::getLastUpdate);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    // --------------- MÉTODOS AUXILIARES -----------------
+
+    private ResourceVersionServiceImplementation newInstance() {
+        return new ResourceVersionServiceImplementation(() -> {
+            stampReads.incrementAndGet();
+            return stamps.clone();
+        }, clock::get, 1000, 60, 0, 100);
+    }
+
+    // Una escritura local: cambia la base y la avisa el listener de JPA
+    private void write(ResourceKind kind) {
+        stamps[kind.ordinal()]++;
+        resourceVersionService.recordChange(kind);
+    }
+
+    private ResponseEntity<UniversityDTO> getUniversity(String ifNoneMatch) {
+        return ConditionalResponses.getResource(resourceVersionService, ResourceKind.UNIVERSITY, 1L, ifNoneMatch, () -> {
+            loads.incrementAndGet();
+            return Optional.of(university);
+        }, UniversityDTO::getLastUpdate);
+    }
+}
@@ -10,6 +10,7 @@ import org.una.programmingIII.UTEMP_Project.models.Faculty;
 import org.una.programmingIII.UTEMP_Project.models.University;
 import org.una.programmingIII.UTEMP_Project.repositories.FacultyRepository;
 import org.una.programmingIII.UTEMP_Project.repositories.UniversityRepository;
+import org.una.programmingIII.UTEMP_Project.services.hierarchy.HierarchyIndex;
 import org.una.programmingIII.UTEMP_Project.services.university.UniversityServiceImplementation;
 import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
 import org.springframework.data.domain.Page;
@@ -38,6 +39,9 @@ class UniversityServiceImplementationTest {
     @Mock
     private Pageable pageable;
 
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
     @InjectMocks
     private UniversityServiceImplementation universityService;
 
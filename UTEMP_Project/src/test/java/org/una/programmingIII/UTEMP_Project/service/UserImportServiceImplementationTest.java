@@ -0,0 +1,189 @@
+package org.una.programmingIII.UTEMP_Project.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.una.programmingIII.UTEMP_Project.dtos.UserDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO;
+import org.una.programmingIII.UTEMP_Project.dtos.UserImportProgressDTO.JobStatus;
+import org.una.programmingIII.UTEMP_Project.exceptions.InvalidDataException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ResourceNotFoundException;
+import org.una.programmingIII.UTEMP_Project.exceptions.ServiceBusyException;
+import org.una.programmingIII.UTEMP_Project.models.User;
+import org.una.programmingIII.UTEMP_Project.models.UserState;
+import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
+import org.una.programmingIII.UTEMP_Project.services.passwordEncryption.PasswordEncryptionService;
+import org.una.programmingIII.UTEMP_Project.services.userImport.UserImportServiceImplementation;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapper;
+import org.una.programmingIII.UTEMP_Project.transformers.mappers.GenericMapperFactory;
+import org.una.programmingIII.UTEMP_Project.validators.UserValidator;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class UserImportServiceImplementationTest {
+
+    @Mock
+    private GenericMapperFactory mapperFactory;
+
+    @Mock
+    private GenericMapper<User, UserDTO> userMapper;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncryptionService passwordEncryptionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportServiceImplementation userImportService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mapperFactory.createMapper(User.class, UserDTO.class)).thenReturn(userMapper);
+        when(userMapper.convertToEntity(any(UserDTO.class))).thenAnswer(invocation -> {
+            UserDTO dto = invocation.getArgument(0);
+            return User.builder()
+                    .identificationNumber(dto.getIdentificationNumber())
+                    .state(dto.getState())
+                    .role(dto.getRole())
+                    .build();
+        });
+        when(passwordEncryptionService.encryptPassword(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        when(userRepository.findExistingIdentificationNumbers(anyCollection())).thenReturn(List.of("333"));
+
+        // El ejecutor corre el trabajo en el mismo hilo para que la prueba sea determinista
+        userImportService = new UserImportServiceImplementation(mapperFactory, userRepository, passwordEncryptionService,
+                new UserValidator(), transactionManager, Runnable::run, 2, 2, 10, 5, 1024, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStartImport_CsvHashesAndSavesPerChunk() {
+        String csv = """
+                identificationNumber,name,email,password,role
+                111,Ana,ana@una.cr,password111,student
+                222,Luis,luis@una.cr,password222,TEACHER
+                111,Ana,ana@una.cr,password111,STUDENT
+                333,Eva,eva@una.cr,password333,STUDENT
+                444,Sin correo,no-email,password444,STUDENT
+                555,Rol,rol@una.cr,password555,DEAN
+                """;
+
+        UserImportProgressDTO progress = userImportService.startImport(stream(csv), "text/csv");
+
+        assertEquals(JobStatus.QUEUED, progress.getStatus());
+        UserImportProgressDTO finished = userImportService.getImportProgress(progress.getJobId());
+        assertEquals(JobStatus.COMPLETED, finished.getStatus());
+        assertEquals(6, finished.getProcessed());
+        assertEquals(2, finished.getCreated());
+        assertEquals(2, finished.getSkipped());
+        assertEquals(2, finished.getFailed());
+        assertEquals(List.of(4L, 5L, 6L, 7L), finished.getErrors().stream().map(UserImportProgressDTO.RowError::getLine).sorted().toList());
+
+        verify(passwordEncryptionService, times(2)).encryptPassword(anyString());
+        verify(passwordEncryptionService, never()).encryptPassword("password333");
+        verify(userRepository, times(2)).findExistingIdentificationNumbers(anyCollection());
+
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals("hash:password111", saved.getValue().getFirst().getPassword());
+        assertEquals(UserState.ACTIVE, saved.getValue().getFirst().getState());
+    }
+
+    @Test
+    public void testStartImport_NdjsonReportsMalformedLines() {
+        String ndjson = """
+                {"identificationNumber": "111", "name": "Ana", "email": "ana@una.cr", "password": "password111", "role": "STUDENT", "state": "INACTIVE"}
+                {not json}
+                """;
+
+        UserImportProgressDTO progress = userImportService.startImport(stream(ndjson), "application/x-ndjson");
+        UserImportProgressDTO finished = userImportService.getImportProgress(progress.getJobId());
+
+        assertEquals(1, finished.getCreated());
+        assertEquals(1, finished.getFailed());
+        assertEquals("Malformed JSON line", finished.getErrors().getFirst().getMessage());
+    }
+
+    @Test
+    public void testStartImport_SaveFailureMarksChunkAsFailed() {
+        when(userRepository.saveAll(anyList())).thenThrow(new RuntimeException("constraint violation"));
+
+        UserImportProgressDTO progress = userImportService.startImport(
+                stream("111,Ana,ana@una.cr,password111,STUDENT\n"), "text/csv");
+        UserImportProgressDTO finished = userImportService.getImportProgress(progress.getJobId());
+
+        assertEquals(JobStatus.COMPLETED, finished.getStatus());
+        assertEquals(0, finished.getCreated());
+        assertEquals(1, finished.getFailed());
+    }
+
+    @Test
+    public void testStartImport_RejectedWhenImportExecutorIsFull() {
+        UserImportServiceImplementation busyService = new UserImportServiceImplementation(mapperFactory, userRepository,
+                passwordEncryptionService, new UserValidator(), transactionManager,
+                task -> {
+                    throw new RejectedExecutionException("queue full");
+                }, 2, 2, 10, 5, 1024, 10);
+        try {
+            ServiceBusyException exception = assertThrows(ServiceBusyException.class, () ->
+                    busyService.startImport(stream("111,Ana,ana@una.cr,password111,STUDENT\n"), "text/csv"));
+
+            assertTrue(exception.getRetryAfterSeconds() > 0);
+            assertThrows(ResourceNotFoundException.class, () -> busyService.getImportProgress(1L));
+            verifyNoInteractions(passwordEncryptionService);
+        } finally {
+            busyService.shutdown();
+        }
+    }
+
+    @Test
+    public void testStartImport_EmptyBody() {
+        assertThrows(InvalidDataException.class, () -> userImportService.startImport(stream(""), "text/csv"));
+    }
+
+    @Test
+    public void testStartImport_RejectsBodiesOverTheLimits() {
+        String rows = "111,Ana,ana@una.cr,password111,STUDENT\n";
+
+        InvalidDataException tooManyRows = assertThrows(InvalidDataException.class, () ->
+                userImportService.startImport(stream("identificationNumber,name,email,password,role\n" + rows.repeat(11)), "text/csv"));
+        InvalidDataException tooLarge = assertThrows(InvalidDataException.class, () ->
+                userImportService.startImport(stream("x".repeat(2048)), "text/csv"));
+
+        assertTrue(tooManyRows.getMessage().contains("10 rows"));
+        assertTrue(tooLarge.getMessage().contains("1024 bytes"));
+        assertThrows(ResourceNotFoundException.class, () -> userImportService.getImportProgress(1L));
+        verifyNoInteractions(passwordEncryptionService);
+    }
+
+    @Test
+    public void testGetImportProgress_JobNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> userImportService.getImportProgress(99L));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,6 +13,7 @@ import org.una.programmingIII.UTEMP_Project.models.UserState;
 import org.una.programmingIII.UTEMP_Project.repositories.UserRepository;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,4 +64,15 @@ class CustomUserDetailsServiceTest {
         // Verificar que el mensaje de la excepción es el esperado
         assertEquals("User not found with identification number: " + testUser.getIdentificationNumber(), exception.getMessage());
     }
+
+    @Test
+    void updatePassword_StoresUpgradedHash() {
+        when(userRepository.findByIdentificationNumber(testUser.getIdentificationNumber())).thenReturn(testUser);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserDetails userDetails = customUserDetailsService.updatePassword(new CustomUserDetails(testUser), "{argon2}new-hash");
+
+        assertEquals("{argon2}new-hash", userDetails.getPassword());
+        verify(userRepository).save(testUser);
+    }
 }